@@ -0,0 +1,235 @@
+package com.gymmanagement.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gymmanagement.DAO.BulkController;
+import com.gymmanagement.DAO.Controller;
+import com.gymmanagement.DAO.MemberCache;
+import com.gymmanagement.DAO.MemberPurges;
+import com.gymmanagement.DAO.MultiGetController;
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.beans.BulkResult;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberBatch;
+import com.gymmanagement.beans.MemberFields;
+import com.gymmanagement.beans.MemberPurge;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every Controller endpoint against the in-memory Mongo stand-in.
+ * The endpoints are called on the controller beans, so the numbers cover the
+ * controller, the cache and the repository but not Tomcat.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerBenchmark {
+
+    /**
+     * Number of members stored before each trial.
+     */
+    @Param({"1000"})
+    public int members;
+
+    private GymContext gym;
+    private Controller controller;
+    private BulkController bulkController;
+    private MultiGetController multiGetController;
+    private MemberCache cache;
+    private MemberPurges purges;
+    private IRepository db;
+    private byte[] bulkBody;
+    private MemberFields kioskFields;
+    private List<Integer> dashboardIds;
+    private ServletWebRequest request;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        gym = new GymContext();
+        controller = gym.getBean(Controller.class);
+        bulkController = gym.getBean(BulkController.class);
+        multiGetController = gym.getBean(MultiGetController.class);
+        cache = gym.getBean(MemberCache.class);
+        purges = gym.getBean(MemberPurges.class);
+        db = gym.getBean(IRepository.class);
+        populate(db, members);
+
+        List<Member> bulk = new ArrayList<Member>();
+        for (int id = 90001; id <= 90100; id++)
+            bulk.add(Members.valid(id));
+        bulkBody = gym.getBean(ObjectMapper.class).writeValueAsBytes(bulk);
+        kioskFields = MemberFields.parse("id,firstName");
+        dashboardIds = new ArrayList<Integer>();
+        for (int id = 1; dashboardIds.size() < 200; id += Math.max(1, members / 200))
+            dashboardIds.add(id % members + 1);
+
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/member/allGymMembers"),
+                new MockHttpServletResponse());
+        RequestContextHolder.setRequestAttributes(request);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gym.close();
+    }
+
+    /**
+     * Stores members with ids from 1 to the specified count.
+     * @param db the repository
+     * @param count number of members
+     */
+    static void populate(IRepository db, int count) {
+        List<Member> batch = new ArrayList<Member>(count);
+        for (int id = 1; id <= count; id++)
+            batch.add(Members.valid(id));
+        db.insertAll(batch);
+    }
+
+    /**
+     * Gives the next existing member id, cycling over all of them.
+     * @return a stored member id
+     */
+    private int nextId() {
+        next = next % members + 1;
+        return next;
+    }
+
+    @Benchmark
+    public ResponseEntity<Member> getGymMemberById() {
+        return controller.getGymMemberById(nextId(), MemberFields.ALL);
+    }
+
+    /**
+     * Fetches one dashboard page of members by id with a single call.
+     * @return the members
+     */
+    @Benchmark
+    public ResponseEntity<MemberBatch> getGymMembersByIds() {
+        return multiGetController.getGymMembersByIds(dashboardIds, MemberFields.ALL, request);
+    }
+
+    /**
+     * Fetches one dashboard page of members by id with a single call, none of them cached.
+     * @return the members
+     */
+    @Benchmark
+    public ResponseEntity<MemberBatch> getGymMembersByIdsColdCache() {
+        cache.invalidateAll();
+        return multiGetController.getGymMembersByIds(dashboardIds, MemberFields.ALL, request);
+    }
+
+    /**
+     * Fetches the same dashboard page with one call per member, as the dashboard did before the multi-get.
+     * @return the last member
+     */
+    @Benchmark
+    public ResponseEntity<Member> getGymMemberByIdPerDashboardId() {
+        cache.invalidateAll();
+        ResponseEntity<Member> member = null;
+        for (Integer id : dashboardIds)
+            member = controller.getGymMemberById(id, MemberFields.ALL);
+        return member;
+    }
+
+    @Benchmark
+    public ResponseEntity<List<Member>> getAllGymMember() {
+        return controller.getAllGymMember(null, null, MemberFields.ALL, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<List<Member>> getAllGymMemberKioskFields() {
+        return controller.getAllGymMember(null, null, kioskFields, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<List<Member>> getAllGymMemberPage() {
+        return controller.getAllGymMember(members / 2, 100, MemberFields.ALL, request);
+    }
+
+    @Benchmark
+    public void streamAllGymMembers() throws IOException {
+        controller.streamAllGymMembers(null).writeTo(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        });
+    }
+
+    @Benchmark
+    public String createDuplicateGymMember() {
+        return controller.createGymMember(Members.valid(nextId()));
+    }
+
+    @Benchmark
+    public String createAndDeleteGymMember() {
+        Member member = Members.valid(members + 1);
+        controller.createGymMember(member);
+        return controller.deleteGymMemberById(member.getId());
+    }
+
+    @Benchmark
+    public String updateAGymMember() {
+        return controller.updateAGymMember(Members.valid(nextId()));
+    }
+
+    @Benchmark
+    public BulkResult createGymMembersBulk(BulkState state) throws IOException {
+        return bulkController.createGymMembers(new ByteArrayInputStream(bulkBody), MediaType.APPLICATION_JSON);
+    }
+
+    @Benchmark
+    public MemberPurge deleteAllGymMembers(RefillState state) throws InterruptedException {
+        MemberPurge purge = purges.submit();
+        while (!purges.get(purge.getId()).hasFinished())
+            Thread.sleep(1);
+        return purge;
+    }
+
+    /**
+     * Removes the members of the bulk request before every call, so each call enrolls all of them.
+     */
+    @State(Scope.Benchmark)
+    public static class BulkState {
+        @Setup(Level.Invocation)
+        public void setUp(ControllerBenchmark benchmark) {
+            for (int id = 90001; id <= 90100; id++)
+                benchmark.db.delete(id);
+        }
+    }
+
+    /**
+     * Stores the members again before every call, so each call empties a full collection.
+     */
+    @State(Scope.Benchmark)
+    public static class RefillState {
+        @Setup(Level.Invocation)
+        public void setUp(ControllerBenchmark benchmark) {
+            benchmark.db.deleteAll();
+            populate(benchmark.db, benchmark.members);
+        }
+    }
+}
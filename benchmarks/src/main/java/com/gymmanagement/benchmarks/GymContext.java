@@ -0,0 +1,71 @@
+package com.gymmanagement.benchmarks;
+
+import com.gymmanagement.GymApplication;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs GymApplication against an in-memory Mongo stand-in listening on a random port.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class GymContext implements AutoCloseable {
+
+    /**
+     * The Mongo stand-in, which speaks the wire protocol and keeps the collections in memory.
+     */
+    private final MongoServer mongo;
+
+    /**
+     * The running application.
+     */
+    private final ConfigurableApplicationContext context;
+
+    /**
+     * Starts the Mongo stand-in and then the application on a random http port.
+     * @param args additional application arguments, such as --spring.profiles.active=...
+     */
+    public GymContext(String... args) {
+        mongo = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = mongo.bind();
+
+        List<String> arguments = new ArrayList<String>(Arrays.asList(
+                "--spring.data.mongodb.host=" + address.getHostString(),
+                "--spring.data.mongodb.port=" + address.getPort(),
+                "--server.port=0"));
+        arguments.addAll(Arrays.asList(args));
+        context = SpringApplication.run(GymApplication.class, arguments.toArray(new String[arguments.size()]));
+    }
+
+    /**
+     * Gets a bean of the running application.
+     * @param type type of the bean
+     * @param <T> type of the bean
+     * @return the bean
+     */
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Gets the http port the application listens on.
+     * @return the local server port
+     */
+    public int getPort() {
+        return Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        mongo.shutdownNow();
+    }
+}
@@ -0,0 +1,415 @@
+package com.gymmanagement.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.beans.Member;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Load test of the /member API at a fixed request rate, with a configurable mix of operations.
+ * GymApplication is started against the in-memory Mongo stand-in, unless a url is given,
+ * and the store is filled before the run. The requests are spread over the connections,
+ * each sending on a fixed schedule whether or not the previous response was slow, and latency is
+ * measured from the scheduled send time so that stalls are not hidden (coordinated omission).
+ * Throughput and HdrHistogram latency percentiles are printed per operation and written to a JSON
+ * report, which can be given as the baseline of a later run to print the differences.
+ * <p>
+ * Run with {@code java -cp target/benchmarks.jar com.gymmanagement.benchmarks.LoadTest [--option=value ...]}:
+ * <ul>
+ *     <li>rate: requests per second over all connections, 1000 by default</li>
+ *     <li>connections: concurrent connections, 32 by default</li>
+ *     <li>seconds: length of the measurement, 30 by default, after warmup seconds, 5 by default</li>
+ *     <li>mix: weight of every operation, read:60,list:10,create:10,update:15,delete:5 by default</li>
+ *     <li>members: members stored before the run, 10000 by default</li>
+ *     <li>profile: profile of the started application, such as reactive or fast</li>
+ *     <li>url: base url of an already running application, instead of starting one</li>
+ *     <li>out: file of the JSON report, loadtest-report.json by default</li>
+ *     <li>baseline: JSON report of an earlier run to compare with</li>
+ * </ul>
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class LoadTest {
+
+    /**
+     * The operations of the mix.
+     */
+    enum Operation {
+        READ, LIST, CREATE, UPDATE, DELETE
+    }
+
+    /**
+     * Largest member id accepted by the API.
+     */
+    private static final int MAX_ID = 99999;
+
+    /**
+     * Answer of a create which enrolled the member, with the id it was given.
+     */
+    private static final Pattern CREATED = Pattern.compile("Member with (\\d+) created successfully :\\)");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, String> options;
+    private final int rate;
+    private final int connections;
+    private final int seconds;
+    private final int warmup;
+    private final int members;
+    private final Map<Operation, Integer> mix;
+    private final Operation[] schedule;
+
+    private final Map<Operation, Recorder> latencies = new EnumMap<Operation, Recorder>(Operation.class);
+    private final Map<Operation, Recorder> serviceTimes = new EnumMap<Operation, Recorder>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<Operation, AtomicLong>(Operation.class);
+
+    /**
+     * Ids of the members created by the run, deleted first.
+     */
+    private final Queue<Integer> created = new ConcurrentLinkedQueue<Integer>();
+    private AtomicInteger nextId;
+    private String base;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<String, String>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("="))
+                throw new IllegalArgumentException("Expected --option=value, got " + arg);
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new LoadTest(options).run();
+    }
+
+    /**
+     * Reads the options of the run.
+     * @param options the options by name
+     */
+    LoadTest(Map<String, String> options) {
+        this.options = options;
+        rate = Integer.parseInt(option("rate", "1000"));
+        connections = Integer.parseInt(option("connections", "32"));
+        seconds = Integer.parseInt(option("seconds", "30"));
+        warmup = Integer.parseInt(option("warmup", "5"));
+        members = Integer.parseInt(option("members", "10000"));
+        mix = parseMix(option("mix", "read:60,list:10,create:10,update:15,delete:5"));
+
+        List<Operation> weighted = new ArrayList<Operation>();
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet())
+            for (int i = 0; i < entry.getValue(); i++)
+                weighted.add(entry.getKey());
+        schedule = weighted.toArray(new Operation[weighted.size()]);
+
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new Recorder(3));
+            serviceTimes.put(operation, new Recorder(3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    /**
+     * Starts the application if needed, drives it and writes the report.
+     * @throws Exception If a problem occurs
+     */
+    void run() throws Exception {
+        System.setProperty("http.maxConnections", String.valueOf(connections));
+        if (options.containsKey("url")) {
+            base = option("url", null) + "/member";
+            nextId = new AtomicInteger(members);
+            drive();
+            return;
+        }
+
+        String profile = options.get("profile");
+        try (GymContext gym = profile == null ? new GymContext() : new GymContext("--spring.profiles.active=" + profile)) {
+            ControllerBenchmark.populate(gym.getBean(IRepository.class), members);
+            base = "http://localhost:" + gym.getPort() + "/member";
+            nextId = new AtomicInteger(members);
+            drive();
+        }
+    }
+
+    /**
+     * Sends the requests for the warmup and the measurement, then reports.
+     * @throws Exception If a problem occurs
+     */
+    private void drive() throws Exception {
+        final long intervalNanos = TimeUnit.SECONDS.toNanos(1) * connections / rate;
+        final long start = System.nanoTime();
+        final long measureStart = start + TimeUnit.SECONDS.toNanos(warmup);
+        final long end = measureStart + TimeUnit.SECONDS.toNanos(seconds);
+
+        ExecutorService pool = Executors.newFixedThreadPool(connections);
+        for (int c = 0; c < connections; c++) {
+            // spread the connections over one interval, so the requests are evenly spaced
+            final long offset = intervalNanos * c / connections;
+            pool.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (long intended = start + offset; intended < end; intended += intervalNanos) {
+                    long wait = intended - System.nanoTime();
+                    if (wait > 0)
+                        LockSupport.parkNanos(wait);
+
+                    Operation operation = schedule[random.nextInt(schedule.length)];
+                    long sent = System.nanoTime();
+                    boolean ok = send(operation, random);
+                    long done = System.nanoTime();
+                    if (intended < measureStart)
+                        continue;
+                    if (!ok) {
+                        errors.get(operation).incrementAndGet();
+                        continue;
+                    }
+                    latencies.get(operation).recordValue(done - intended);
+                    serviceTimes.get(operation).recordValue(done - sent);
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(warmup + seconds + 120, TimeUnit.SECONDS);
+        // an overloaded application sends the last scheduled requests late, so count until they are done
+        long measured = System.nanoTime() - measureStart;
+
+        Map<String, Object> report = report(measured);
+        File out = new File(option("out", "loadtest-report.json"));
+        MAPPER.writeValue(out, report);
+        print(report);
+        System.out.println("Report written to " + out.getAbsolutePath());
+        if (options.containsKey("baseline"))
+            compare(report, MAPPER.readTree(new File(options.get("baseline"))));
+    }
+
+    /**
+     * Sends one request of the operation.
+     * @param operation the operation
+     * @param random random source of the sending thread
+     * @return true if the request succeeded
+     */
+    private boolean send(Operation operation, ThreadLocalRandom random) {
+        switch (operation) {
+            case READ:
+                return request("GET", base + "/gymMemberById/" + (1 + random.nextInt(members)), null) != null;
+            case LIST:
+                return request("GET", base + "/allGymMembers?limit=20&after=" + random.nextInt(members), null) != null;
+            case CREATE:
+                int id = nextId.incrementAndGet();
+                if (id > MAX_ID) {
+                    nextId.compareAndSet(id, members);
+                    id = members + 1 + random.nextInt(MAX_ID - members);
+                }
+                // a duplicate is also answered with 200, and the server may assign another id
+                String answer = request("POST", base + "/gymMember", Members.valid(id));
+                Matcher enrolled = CREATED.matcher(answer == null ? "" : answer);
+                if (!enrolled.matches())
+                    return false;
+                created.add(Integer.valueOf(enrolled.group(1)));
+                return true;
+            case UPDATE:
+                Member member = Members.valid(1 + random.nextInt(members));
+                member.setAddress("moved " + random.nextInt(1000));
+                return "Member Updated!".equals(request("PUT", base + "/gymMember", member));
+            default:
+                Integer deleted = created.poll();
+                return request("DELETE", base + "/gymMemberById/" + (deleted != null ? deleted : MAX_ID), null) != null;
+        }
+    }
+
+    /**
+     * Sends a request and reads the whole response, keeping the connection alive.
+     * @param method the http method
+     * @param url the url
+     * @param body member sent as JSON, or null
+     * @return the body of a 200 OK response, or null if the request failed
+     */
+    private static String request(String method, String url, Member body) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setRequestMethod(method);
+            if (body != null) {
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", "application/json");
+                try (OutputStream out = connection.getOutputStream()) {
+                    MAPPER.writeValue(out, body);
+                }
+            }
+            int status = connection.getResponseCode();
+            ByteArrayOutputStream answer = new ByteArrayOutputStream();
+            try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                byte[] buffer = new byte[8192];
+                // drain so the connection can be reused
+                for (int read; in != null && (read = in.read(buffer)) >= 0; )
+                    answer.write(buffer, 0, read);
+            }
+            return status == 200 ? new String(answer.toByteArray(), StandardCharsets.UTF_8) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builds the report of the measurement.
+     * @param measuredNanos length of the measurement
+     * @return the report, with the run options and one entry per operation of the mix
+     */
+    private Map<String, Object> report(long measuredNanos) {
+        double measuredSeconds = measuredNanos / 1e9;
+        Map<String, Object> report = new LinkedHashMap<String, Object>();
+        Map<String, Object> config = new LinkedHashMap<String, Object>();
+        config.put("rate", rate);
+        config.put("connections", connections);
+        config.put("seconds", seconds);
+        config.put("warmup", warmup);
+        config.put("members", members);
+        config.put("mix", option("mix", "read:60,list:10,create:10,update:15,delete:5"));
+        config.put("profile", options.get("profile"));
+        config.put("url", options.get("url"));
+        report.put("config", config);
+        report.put("measuredSeconds", measuredSeconds);
+
+        Histogram allLatencies = new Histogram(3);
+        Histogram allServiceTimes = new Histogram(3);
+        long allErrors = 0;
+        Map<String, Object> operations = new LinkedHashMap<String, Object>();
+        for (Operation operation : mix.keySet()) {
+            Histogram latency = latencies.get(operation).getIntervalHistogram();
+            Histogram serviceTime = serviceTimes.get(operation).getIntervalHistogram();
+            long failed = errors.get(operation).get();
+            operations.put(operation.name().toLowerCase(), summary(latency, serviceTime, failed, measuredSeconds));
+            allLatencies.add(latency);
+            allServiceTimes.add(serviceTime);
+            allErrors += failed;
+        }
+        report.put("operations", operations);
+        report.put("total", summary(allLatencies, allServiceTimes, allErrors, measuredSeconds));
+        return report;
+    }
+
+    /**
+     * Summarizes the requests of one operation, or of all of them.
+     * @param latency latencies from the scheduled send time, in nanoseconds
+     * @param serviceTime times from the actual send time, in nanoseconds
+     * @param failed number of failed requests
+     * @param measuredSeconds length of the measurement
+     * @return the counts, the throughput and the percentiles in milliseconds
+     */
+    private static Map<String, Object> summary(Histogram latency, Histogram serviceTime, long failed, double measuredSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<String, Object>();
+        summary.put("requests", latency.getTotalCount());
+        summary.put("errors", failed);
+        summary.put("throughput", latency.getTotalCount() / measuredSeconds);
+        summary.put("latencyMs", percentiles(latency));
+        summary.put("serviceTimeMs", percentiles(serviceTime));
+        return summary;
+    }
+
+    private static Map<String, Object> percentiles(Histogram histogram) {
+        Map<String, Object> percentiles = new LinkedHashMap<String, Object>();
+        percentiles.put("mean", histogram.getTotalCount() == 0 ? 0 : histogram.getMean() / 1e6);
+        percentiles.put("p50", histogram.getValueAtPercentile(50) / 1e6);
+        percentiles.put("p90", histogram.getValueAtPercentile(90) / 1e6);
+        percentiles.put("p99", histogram.getValueAtPercentile(99) / 1e6);
+        percentiles.put("p99.9", histogram.getValueAtPercentile(99.9) / 1e6);
+        percentiles.put("max", histogram.getMaxValue() / 1e6);
+        return percentiles;
+    }
+
+    /**
+     * Prints the report as a table, one line per operation.
+     * @param report the report
+     */
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> report) {
+        System.out.printf("%-8s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Map<String, Object> rows = new LinkedHashMap<String, Object>((Map<String, Object>) report.get("operations"));
+        rows.put("total", report.get("total"));
+        for (Map.Entry<String, Object> row : rows.entrySet()) {
+            Map<String, Object> summary = (Map<String, Object>) row.getValue();
+            Map<String, Object> latency = (Map<String, Object>) summary.get("latencyMs");
+            System.out.printf("%-8s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", row.getKey(),
+                    summary.get("requests"), summary.get("errors"), summary.get("throughput"),
+                    latency.get("p50"), latency.get("p90"), latency.get("p99"), latency.get("p99.9"), latency.get("max"));
+        }
+    }
+
+    /**
+     * Prints the change of throughput and latency percentiles from a baseline report.
+     * @param report the report of this run
+     * @param baseline the report of the earlier run
+     */
+    private static void compare(Map<String, Object> report, JsonNode baseline) {
+        JsonNode current = MAPPER.valueToTree(report);
+        System.out.printf("%nChange from baseline:%n%-8s %10s %9s %9s %9s%n", "", "req/s", "p50", "p99", "p99.9");
+        List<String> names = new ArrayList<String>();
+        current.get("operations").fieldNames().forEachRemaining(names::add);
+        names.add("total");
+        for (String name : names) {
+            JsonNode now = "total".equals(name) ? current.get("total") : current.get("operations").get(name);
+            JsonNode then = "total".equals(name) ? baseline.get("total") : baseline.path("operations").get(name);
+            if (then == null)
+                continue;
+            System.out.printf("%-8s %10s %9s %9s %9s%n", name,
+                    change(now.get("throughput"), then.get("throughput")),
+                    change(now.get("latencyMs").get("p50"), then.get("latencyMs").get("p50")),
+                    change(now.get("latencyMs").get("p99"), then.get("latencyMs").get("p99")),
+                    change(now.get("latencyMs").get("p99.9"), then.get("latencyMs").get("p99.9")));
+        }
+    }
+
+    private static String change(JsonNode now, JsonNode then) {
+        if (then.asDouble() == 0)
+            return "n/a";
+        return String.format("%+.1f%%", (now.asDouble() / then.asDouble() - 1) * 100);
+    }
+
+    /**
+     * Parses the mix option.
+     * @param value comma separated operation:weight pairs
+     * @return the weight of every operation with a positive weight, in the given order
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<Operation, Integer>();
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0)
+                mix.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+        }
+        if (mix.isEmpty())
+            throw new IllegalArgumentException("The mix has no operation: " + value);
+        return mix;
+    }
+
+    private String option(String name, String defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : value;
+    }
+}
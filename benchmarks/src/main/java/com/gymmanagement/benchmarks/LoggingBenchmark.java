@@ -0,0 +1,97 @@
+package com.gymmanagement.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time a request thread spends in a log call, which is the request latency the logging setup costs.
+ * The file appender is either called synchronously, as before, or behind the bounded non-blocking
+ * async appender of logback.xml. Disabled debug calls compare string concatenation with parameterized messages.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    /**
+     * How the file appender is called: "sync" on the request thread, "async" through the queue.
+     */
+    @Param({"sync", "async"})
+    public String mode;
+
+    private LoggerContext context;
+    private Logger logger;
+    private File file;
+    private int id = 101;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new LoggerContext();
+        file = File.createTempFile("logging-benchmark", ".log");
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d [%thread] %-5level  %logger{35} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<ILoggingEvent>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.getPath());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> appender = fileAppender;
+        if ("async".equals(mode)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.setNeverBlock(true);
+            async.addAppender(fileAppender);
+            async.start();
+            appender = async;
+        }
+
+        logger = context.getLogger("com.gymmanagement.GymApplication");
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+        file.delete();
+    }
+
+    @Benchmark
+    public void enabledParameterized() {
+        logger.info("Member with {} doesnt exists", id);
+    }
+
+    @Benchmark
+    public void disabledConcatenated() {
+        logger.debug("Member with " + id + " created successfully :)");
+    }
+
+    @Benchmark
+    public void disabledParameterized() {
+        logger.debug("Member with {} created successfully :)", id);
+    }
+}
@@ -0,0 +1,87 @@
+package com.gymmanagement.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.gymmanagement.beans.Member;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the member wire formats on an allGymMembers sized payload:
+ * time to write and to parse the list, and, printed at setup, its size plain and gzip compressed.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberFormatBenchmark {
+
+    /**
+     * The wire format.
+     */
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    /**
+     * Number of members in the payload.
+     */
+    @Param({"1000"})
+    public int members;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private Member[] list;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = new ObjectMapper(factory());
+        writer = mapper.writerFor(Member[].class);
+        reader = mapper.readerFor(Member[].class);
+        list = new Member[members];
+        for (int i = 0; i < members; i++)
+            list[i] = Members.valid(i + 1);
+        payload = writer.writeValueAsBytes(list);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(payload);
+        }
+        System.out.printf("%n%s payload of %d members: %d bytes, %d bytes gzip compressed%n",
+                format, members, payload.length, compressed.size());
+    }
+
+    private JsonFactory factory() {
+        switch (format) {
+            case "smile":
+                return new SmileFactory();
+            case "cbor":
+                return new CBORFactory();
+            default:
+                return new JsonFactory();
+        }
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return writer.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public Member[] parse() throws IOException {
+        return reader.readValue(payload);
+    }
+}
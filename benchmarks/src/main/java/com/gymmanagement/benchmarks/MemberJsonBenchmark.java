@@ -0,0 +1,67 @@
+package com.gymmanagement.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.gymmanagement.DAO.WebConfiguration;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberFields;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Jackson serialization and deserialization of a Member,
+ * as done for every request and response body.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberJsonBenchmark {
+
+    private ObjectWriter writer;
+    private ObjectWriter kioskWriter;
+    private ObjectReader reader;
+    private Member member;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        writer = mapper.writerFor(Member.class);
+        reader = mapper.readerFor(Member.class);
+        member = Members.valid(101);
+        json = writer.writeValueAsBytes(member);
+
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        WebConfiguration.memberFieldsCustomizer().customize(builder);
+        ObjectMapper filtering = builder.build();
+        kioskWriter = filtering.writerFor(Member.class).with(MemberFields.parse("id,firstName").filters());
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(member);
+    }
+
+    /**
+     * Serializes only the fields a kiosk asks for, as written for fields=id,firstName.
+     */
+    @Benchmark
+    public byte[] serializeKioskFields() throws IOException {
+        return kioskWriter.writeValueAsBytes(member);
+    }
+
+    @Benchmark
+    public Member deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+}
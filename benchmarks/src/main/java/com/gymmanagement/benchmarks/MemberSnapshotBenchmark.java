@@ -0,0 +1,107 @@
+package com.gymmanagement.benchmarks;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.gymmanagement.Interface.MemberSnapshot;
+import com.gymmanagement.beans.Member;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the export of millions of members into a file and the import back,
+ * for the binary member snapshot and, as the baseline it replaces, newline delimited JSON.
+ * Each invocation writes or reads the whole file, so the members per second are the members divided by the time;
+ * the size of both files is printed at setup.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MemberSnapshotBenchmark {
+
+    /**
+     * The file format.
+     */
+    @Param({"snapshot", "ndjson"})
+    public String format;
+
+    /**
+     * Number of members in the file.
+     */
+    @Param({"1000000", "5000000"})
+    public int members;
+
+    private Member[] list;
+    private ObjectMapper mapper;
+    private ObjectReader reader;
+    private Path exported;
+    private Path imported;
+
+    @Setup
+    public void setUp() throws IOException {
+        list = new Member[members];
+        for (int i = 0; i < members; i++) {
+            list[i] = Members.valid(i + 1);
+            list[i].setVersion((long) i % 5);
+        }
+        mapper = new ObjectMapper();
+        reader = mapper.readerFor(Member.class);
+        exported = Files.createTempFile("members-export", "." + format);
+        imported = Files.createTempFile("members-import", "." + format);
+        export(imported);
+        System.out.printf("%n%s file of %d members: %d bytes%n", format, members, Files.size(imported));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(exported);
+        Files.deleteIfExists(imported);
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        return export(exported);
+    }
+
+    @Benchmark
+    public long load() throws IOException {
+        AtomicLong ages = new AtomicLong();
+        if ("snapshot".equals(format)) {
+            MemberSnapshot.read(imported, member -> ages.addAndGet(member.getAge()));
+        } else {
+            try (InputStream in = Files.newInputStream(imported);
+                 MappingIterator<Member> members = reader.readValues(in)) {
+                while (members.hasNext())
+                    ages.addAndGet(members.next().getAge());
+            }
+        }
+        return ages.get();
+    }
+
+    private long export(Path file) throws IOException {
+        if ("snapshot".equals(format))
+            return MemberSnapshot.write(Arrays.asList(list).iterator(), file);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16);
+             SequenceWriter writer = mapper.writerFor(Member.class).withRootValueSeparator("\n").writeValues(out)) {
+            for (Member member : list)
+                writer.write(member);
+        }
+        return members;
+    }
+}
@@ -0,0 +1,85 @@
+package com.gymmanagement.benchmarks;
+
+import com.gymmanagement.DAO.MemberValidator;
+import com.gymmanagement.beans.Member;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures validation of the Member constraints, which runs on every POST and PUT.
+ * The invalid member fails every @Pattern, the most expensive constraints.
+ * Bean Validation is measured directly and through Spring's adapter, which the controllers used,
+ * next to the MemberValidator which replaces it.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberValidationBenchmark {
+
+    private Validator validator;
+    private SpringValidatorAdapter adapter;
+    private MemberValidator memberValidator;
+    private Member valid;
+    private Member invalid;
+
+    @Setup
+    public void setUp() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        adapter = new SpringValidatorAdapter(validator);
+        memberValidator = new MemberValidator();
+        valid = Members.valid(101);
+        invalid = Members.invalid(102);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Member>> validMember() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Member>> invalidMember() {
+        return validator.validate(invalid);
+    }
+
+    @Benchmark
+    public Errors validMemberAdapter() {
+        Errors errors = new BeanPropertyBindingResult(valid, "member");
+        adapter.validate(valid, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors invalidMemberAdapter() {
+        Errors errors = new BeanPropertyBindingResult(invalid, "member");
+        adapter.validate(invalid, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors validMemberValidator() {
+        Errors errors = new BeanPropertyBindingResult(valid, "member");
+        memberValidator.validate(valid, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors invalidMemberValidator() {
+        Errors errors = new BeanPropertyBindingResult(invalid, "member");
+        memberValidator.validate(invalid, errors);
+        return errors;
+    }
+}
@@ -0,0 +1,34 @@
+package com.gymmanagement.benchmarks;
+
+import com.gymmanagement.beans.Member;
+
+/**
+ * Sample members shared by the benchmarks.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public final class Members {
+
+    private Members() {
+    }
+
+    /**
+     * Creates a valid member with the specified id.
+     * @param id id of the member, at most 5 digits
+     * @return a member passing every constraint
+     */
+    public static Member valid(int id) {
+        return new Member(id, "Cristiano", "Ronaldo", "some block, some street, some country", 10 + id % 60,
+                String.format("%010d", 1000000000L + id));
+    }
+
+    /**
+     * Creates a member breaking the name and contact number patterns.
+     * @param id id of the member
+     * @return a member failing validation
+     */
+    public static Member invalid(int id) {
+        return new Member(id, "Cristiano7", "Ronaldo!", "some block, some street, some country", 45, "12345x7890");
+    }
+}
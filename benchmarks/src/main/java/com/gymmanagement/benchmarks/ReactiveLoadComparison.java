@@ -0,0 +1,125 @@
+package com.gymmanagement.benchmarks;
+
+import com.gymmanagement.Interface.IRepository;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test comparing the servlet Controller with the reactive AsyncController at high concurrency.
+ * Each stack is started in turn with the same Tomcat thread pool and driven by the same number of
+ * closed-loop clients, half reading members by id and half reading pages of the member list.
+ * Throughput and latency percentiles are printed per stack.
+ * <p>
+ * Run with {@code java -cp target/benchmarks.jar com.gymmanagement.benchmarks.ReactiveLoadComparison
+ * [clients] [seconds] [tomcatThreads]}, by default 256 clients for 20 seconds against 50 Tomcat threads.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class ReactiveLoadComparison {
+
+    /**
+     * Number of members stored before the run.
+     */
+    private static final int MEMBERS = 10000;
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int tomcatThreads = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        System.setProperty("http.maxConnections", String.valueOf(clients));
+
+        run("servlet", clients, seconds, "--server.tomcat.max-threads=" + tomcatThreads);
+        run("reactive", clients, seconds, "--server.tomcat.max-threads=" + tomcatThreads,
+                "--spring.profiles.active=reactive");
+    }
+
+    /**
+     * Starts the application with the given arguments, warms it up and measures it.
+     * @param name name of the stack in the report
+     * @param clients number of concurrent clients
+     * @param seconds length of the measurement
+     * @param args application arguments selecting the stack
+     * @throws Exception If a problem occurs
+     */
+    private static void run(String name, int clients, int seconds, String... args) throws Exception {
+        try (GymContext gym = new GymContext(args)) {
+            ControllerBenchmark.populate(gym.getBean(IRepository.class), MEMBERS);
+            String base = "http://localhost:" + gym.getPort() + "/member";
+
+            drive(base, clients, Math.max(1, seconds / 4));
+            Histogram latencies = drive(base, clients, seconds);
+
+            System.out.printf("%-8s clients=%d throughput=%.0f req/s p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms%n",
+                    name, clients, latencies.getTotalCount() / (double) seconds,
+                    latencies.getValueAtPercentile(50) / 1e6, latencies.getValueAtPercentile(99) / 1e6,
+                    latencies.getValueAtPercentile(99.9) / 1e6, latencies.getMaxValue() / 1e6);
+        }
+    }
+
+    /**
+     * Sends requests from the given number of clients, each waiting for its response before the next request.
+     * @param base url of the member api
+     * @param clients number of concurrent clients
+     * @param seconds how long to send requests
+     * @return latencies of the successful requests in nanoseconds
+     * @throws InterruptedException If interrupted while waiting for the clients
+     */
+    private static Histogram drive(final String base, int clients, int seconds) throws InterruptedException {
+        final Recorder recorder = new Recorder(3);
+        final AtomicLong errors = new AtomicLong();
+        final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        for (int i = 0; i < clients; i++) {
+            pool.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < end) {
+                    String url = random.nextBoolean()
+                            ? base + "/gymMemberById/" + (1 + random.nextInt(MEMBERS))
+                            : base + "/allGymMembers?limit=20&after=" + random.nextInt(MEMBERS);
+                    long start = System.nanoTime();
+                    if (get(url))
+                        recorder.recordValue(System.nanoTime() - start);
+                    else
+                        errors.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(seconds + 60, TimeUnit.SECONDS);
+        if (errors.get() > 0)
+            System.out.println(errors.get() + " requests failed");
+        return recorder.getIntervalHistogram();
+    }
+
+    /**
+     * Sends a GET request and reads the whole response, keeping the connection alive.
+     * @param url the url
+     * @return true if the response was 200 OK
+     */
+    static boolean get(String url) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            int status = connection.getResponseCode();
+            try (InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                byte[] buffer = new byte[8192];
+                while (body != null && body.read(buffer) >= 0) {
+                    // drain so the connection can be reused
+                }
+            }
+            return status == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
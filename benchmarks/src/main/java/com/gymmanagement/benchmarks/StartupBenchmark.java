@@ -0,0 +1,108 @@
+package com.gymmanagement.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from starting GymApplication to its first successful request,
+ * with the default profile and with the fast profile.
+ * Every measurement runs in a fresh JVM, so class loading and JIT warm-up are included;
+ * the start of the JVM itself and of the Mongo stand-in are not.
+ * Run with: java -jar target/benchmarks.jar StartupBenchmark
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    /**
+     * Request used to tell that the application serves members.
+     */
+    private static final String FIRST_REQUEST = "/member/allGymMembers?limit=1";
+
+    /**
+     * Profile the application is started with.
+     */
+    @Param({"default", "fast"})
+    public String profile;
+
+    private GymContext gym;
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        if (gym != null)
+            gym.close();
+        gym = null;
+    }
+
+    /**
+     * Starts the application and sends requests until one succeeds.
+     * @return status of the first successful request
+     * @throws IOException if the application cannot be reached
+     */
+    @Benchmark
+    public int firstRequest() throws IOException {
+        return startAndRequest();
+    }
+
+    /**
+     * Same as {@link #firstRequest()}, in a JVM which only uses the quick JIT compiler and
+     * maps the class data archive of the JDK when there is one.
+     * @return status of the first successful request
+     * @throws IOException if the application cannot be reached
+     */
+    @Benchmark
+    @Fork(value = 10, jvmArgsAppend = {"-XX:TieredStopAtLevel=1", "-Xshare:auto"})
+    public int firstRequestQuickJit() throws IOException {
+        return startAndRequest();
+    }
+
+    /**
+     * Starts the application with the profile and sends requests until one succeeds.
+     * @return status of the first successful request
+     * @throws IOException if the application cannot be reached
+     */
+    private int startAndRequest() throws IOException {
+        gym = "default".equals(profile) ? new GymContext() : new GymContext("--spring.profiles.active=" + profile);
+        URL url = new URL("http://localhost:" + gym.getPort() + FIRST_REQUEST);
+        while (true) {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            try {
+                int status = connection.getResponseCode();
+                if (status == HttpURLConnection.HTTP_OK) {
+                    drain(connection);
+                    return status;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            } finally {
+                connection.disconnect();
+            }
+        }
+    }
+
+    /**
+     * Reads the whole response, so that the request is only counted once it is served.
+     * @param connection the connection
+     * @throws IOException if the response cannot be read
+     */
+    private static void drain(HttpURLConnection connection) throws IOException {
+        byte[] buffer = new byte[4096];
+        try (InputStream in = connection.getInputStream()) {
+            while (in.read(buffer) >= 0) {
+                // discard
+            }
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.gymmanagement.DAO;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.gymmanagement.GymApplication;
+import com.gymmanagement.Interface.IAsyncRepository;
+import com.gymmanagement.Interface.MemberIdAllocator;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberChange;
+import com.gymmanagement.beans.MemberFields;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking version of {@link Controller}, active with the reactive profile.
+ * It exposes the same routes with the same responses, but every handler returns as soon as
+ * the Mongo operation is issued and the response is written when the asynchronous driver completes it,
+ * so Tomcat threads are not held while waiting on Mongo.
+ * Reads go through the same member cache, without blocking on a miss.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping(value = "/member")
+public class AsyncController {
+
+    /**
+     * The non-blocking member repository.
+     */
+    @Autowired
+    IAsyncRepository db;
+    /**
+     * The application object mapper, used to write the streamed members.
+     */
+    @Autowired
+    ObjectMapper mapper;
+    /**
+     * Cache of members by id, invalidated by every write.
+     */
+    @Autowired
+    MemberCache cache;
+    /**
+     * Counters of the request outcomes.
+     */
+    @Autowired
+    MemberMetrics metrics;
+    /**
+     * Feed of the member changes, told about every write.
+     */
+    @Autowired
+    MemberChangeFeed changes;
+    /**
+     * Mover of the collection revision, which moves the ETag epoch when it fails, as for the blocking controllers.
+     */
+    @Autowired
+    MemberRevisions revisions;
+    /**
+     * Allocator of the member ids, when the server assigns them.
+     */
+    @Autowired
+    MemberIdAllocator ids;
+    /**
+     * The application object used to access logger object.
+     */
+    GymApplication gymnasium;
+
+    /**
+     * Thread reserving the blocks of member ids, whose blocking Mongo calls must not run
+     * on the request threads nor on the threads of the asynchronous driver.
+     */
+    private final ExecutorService idReservations = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "member-id-reservation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Number of threads writing the member streams to the clients.
+     */
+    @Value("${member.stream.threads:4}")
+    int streamThreads;
+
+    /**
+     * Threads writing the member streams, whose blocking writes must not run on the threads of the asynchronous driver.
+     */
+    private ExecutorService streamWriters;
+
+    @PostConstruct
+    public void open() {
+        if(streamThreads < 1)
+            throw new IllegalArgumentException("member.stream.threads must be positive: " + streamThreads);
+        final AtomicInteger count = new AtomicInteger();
+        streamWriters = Executors.newFixedThreadPool(streamThreads, task -> {
+            Thread thread = new Thread(task, "member-stream-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        idReservations.shutdownNow();
+        streamWriters.shutdownNow();
+    }
+
+    /**
+     * This enrolls a new member into the Gym with all the needed details.
+     * When the server assigns the ids, the id sent by the client is replaced by a new one,
+     * as in {@link Controller}; when the block of ids is used up, the next one is reserved on a thread of its own.
+     * @param member represents a member who wants to enroll into Gym
+     * @return  returns "member already exists" if the member is already present
+     *          else returns "member with specified id is created successfully"
+     */
+    @RequestMapping(value = "/gymMember", method = RequestMethod.POST)
+    public CompletableFuture<String> createGymMember(@Validated @RequestBody Member member) {
+        if(!ids.isEnabled())
+            return insert(member);
+        return nextId().thenCompose(id -> {
+            member.setId(id);
+            return insert(member);
+        });
+    }
+
+    /**
+     * Allocates a member id, from memory while the current block lasts.
+     * @return completes with the id
+     */
+    private CompletableFuture<Integer> nextId() {
+        int id = ids.nextReservedId();
+        if(id > 0)
+            return CompletableFuture.completedFuture(id);
+        return CompletableFuture.supplyAsync(ids::nextId, idReservations);
+    }
+
+    /**
+     * Inserts a new member, again with another assigned id if the server assigns them and its id is taken.
+     * @param member the member
+     * @return message related to the create operation
+     */
+    private CompletableFuture<String> insert(Member member) {
+        return db.create(member).thenCompose(created -> {
+            if(created)
+                return created(member);
+            if(!ids.isEnabled())
+                return alreadyExists();
+            gymnasium.llog.debug("Member id {} already taken", member.getId());
+            return nextId().thenCompose(id -> {
+                member.setId(id);
+                return insert(member);
+            });
+        });
+    }
+
+    /**
+     * Completes the creation of a member: invalidates it, moves the revision forward and publishes it.
+     * @param member the created member
+     * @return message related to the create operation
+     */
+    private CompletableFuture<String> created(Member member) {
+        cache.invalidate(member.getId());
+        return nextRevision().thenApply(revision -> {
+            changes.publish(MemberChange.Type.CREATED, member.getId(), member);
+            gymnasium.llog.debug("Member with {} created successfully :)", member.getId());
+            return "Member with " + member.getId() + " created successfully :)";
+        });
+    }
+
+    /**
+     * Moves the revision of the collection forward after a write which is already stored,
+     * so a failure moves the ETag epoch rather than failing the request.
+     * @return completes with the new revision, or null if it could not be moved
+     */
+    private CompletableFuture<Long> nextRevision() {
+        return revisions.next(db::nextRevision);
+    }
+
+    /**
+     * Answers the creation of a member which already exists.
+     * @return message related to the create operation
+     */
+    private CompletableFuture<String> alreadyExists() {
+        metrics.count(MemberMetrics.DUPLICATE);
+        gymnasium.llog.error("Member already exists! :/");
+        return CompletableFuture.completedFuture("Member already exists! :/");
+    }
+
+    /**
+     * This will find the member with the specified id in the Gym.
+     * When only some fields are asked for, a cached member is still used,
+     * otherwise only those fields are fetched and the member is not cached.
+     * The ETag is taken from the member version, as in {@link Controller}.
+     * @param id id of the member
+     * @param fields fields to return, from the fields parameter
+     * @return returns the member with the specified id
+     */
+    @RequestMapping(value = "/gymMemberById/{id}", method = RequestMethod.GET)
+    public CompletableFuture<ResponseEntity<Member>> getGymMemberById(@PathVariable("id") int id, MemberFields fields){
+        Member cached = cache.getIfPresent(id);
+        if(cached != null) {
+            gymnasium.llog.debug("Member with {} exists!", id);
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.ok().eTag(fields.etag("v" + cached.getVersion())).body(cached));
+        }
+
+        long generation = cache.generation();
+        return db.findOne(id, fields).thenApply(member -> {
+            if(fields.isAll())
+                cache.putIfCurrent(id, member, generation);
+            if(member == null) {
+                gymnasium.llog.error("Member with {} doesnt exists", id);
+                return ResponseEntity.ok(member);
+            }
+            gymnasium.llog.debug("Member with {} exists!", id);
+            return ResponseEntity.ok().eTag(fields.etag("v" + member.getVersion())).body(member);
+        });
+    }
+
+    /**
+     * This will give the list of all the members in the Gym.
+     * When a limit is given only one page of members is returned, ordered by id,
+     * and a Link header points to the next page.
+     * The ETag is taken from the revision of the collection, read before the members,
+     * and a client sending it back in If-None-Match gets a 304 without the members being read.
+     * @param after id of the last member of the previous page
+     * @param limit maximum number of members to return
+     * @param fields fields to return, from the fields parameter
+     * @param request the request, checked against the ETag
+     * @return returns the list of members
+     */
+    @RequestMapping(value = "/allGymMembers", method = RequestMethod.GET)
+    public CompletableFuture<ResponseEntity<List<Member>>> getAllGymMember(@RequestParam(value = "after", required = false) Integer after,
+                                                                           @RequestParam(value = "limit", required = false) Integer limit,
+                                                                           MemberFields fields, WebRequest request){
+        if(limit == null && after == null) {
+            return db.revision().thenCompose(revision -> {
+                String etag = fields.etag(revisions.tag(revision));
+                if(request.checkNotModified(etag))
+                    return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<List<Member>>body(null));
+                return db.findAll(fields).thenApply(list -> {
+                    gymnasium.llog.debug("Members Found");
+                    return ResponseEntity.ok().eTag(etag).body(list);
+                });
+            });
+        }
+
+        int pageSize = Math.max(1, Math.min(limit == null ? Controller.MAX_PAGE_SIZE : limit, Controller.MAX_PAGE_SIZE));
+        UriComponentsBuilder next = ServletUriComponentsBuilder.fromCurrentRequest();
+        return db.revision().thenCompose(revision -> {
+            String etag = fields.etag(revisions.tag(revision));
+            if(request.checkNotModified(etag))
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<List<Member>>body(null));
+            return db.findPage(after, pageSize, fields).thenApply(page -> {
+                gymnasium.llog.debug("Members Found");
+                if(page.size() < pageSize)
+                    return ResponseEntity.ok().eTag(etag).body(page);
+
+                String link = next.replaceQueryParam("after", page.get(page.size() - 1).getId())
+                        .replaceQueryParam("limit", pageSize)
+                        .build().toUriString();
+                return ResponseEntity.ok().eTag(etag).header(HttpHeaders.LINK, "<" + link + ">; rel=\"next\"").body(page);
+            });
+        });
+    }
+
+    /**
+     * This will stream all the members in the Gym as newline delimited JSON, ordered by id.
+     * Each cursor batch is written on one of the stream threads, and the next batch is only asked for
+     * once it is written, so a slow client holds the cursor back instead of members piling up in the emitter.
+     * @param after id to start after, used to resume an interrupted stream
+     * @return emitter which writes one member per line
+     */
+    @RequestMapping(value = "/allGymMembers", method = RequestMethod.GET, produces = Controller.APPLICATION_NDJSON_VALUE)
+    public ResponseBodyEmitter streamAllGymMembers(@RequestParam(value = "after", required = false) Integer after){
+        ObjectWriter writer = mapper.writerFor(Member.class);
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        db.streamAfter(after, batch -> CompletableFuture.runAsync(() -> {
+            try {
+                ByteArrayOutputStream lines = new ByteArrayOutputStream();
+                for (Member member : batch) {
+                    writer.writeValue(lines, member);
+                    lines.write('\n');
+                }
+                emitter.send(lines.toByteArray());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, streamWriters)).whenComplete((written, t) -> {
+            if(t != null) {
+                emitter.completeWithError(t);
+                return;
+            }
+            gymnasium.llog.debug("Streamed {} Members", written);
+            emitter.complete();
+        });
+        return emitter;
+    }
+
+    /**
+     * This will update the info of the member if already exists.
+     * @param member member of the Gym whose info needs to be updated
+     * @return message related to update operation
+     */
+    @RequestMapping(value = "/gymMember", method = RequestMethod.PUT)
+    public CompletableFuture<String> updateAGymMember(@Validated @RequestBody Member member){
+        return db.replace(member).thenCompose(replaced -> {
+            if(replaced){
+                cache.invalidate(member.getId());
+                return nextRevision().thenApply(revision -> {
+                    changes.publish(MemberChange.Type.UPDATED, member.getId(), member);
+                    gymnasium.llog.debug("Member Updated!");
+                    return "Member Updated!";
+                });
+            }
+            gymnasium.llog.error("Member does not exists!");
+            return CompletableFuture.completedFuture("Member does not exists!");
+        });
+    }
+
+    /**
+     * This will delete the member with the specified id in the Gym.
+     * @param id id of the member
+     * @return message related to deleteGymMemberById operation
+     */
+    @RequestMapping(value = "/gymMemberById/{id}", method = RequestMethod.DELETE)
+    public CompletableFuture<String> deleteGymMemberById(@PathVariable("id") int id){
+        return db.delete(id).thenCompose(done -> {
+            cache.invalidate(id);
+            return nextRevision();
+        }).thenApply(revision -> {
+            changes.publish(MemberChange.Type.DELETED, id, null);
+            gymnasium.llog.debug("Member with {} deleted", id);
+            return "Member with " + id + " deleted";
+        });
+    }
+}
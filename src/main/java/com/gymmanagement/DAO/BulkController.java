@@ -0,0 +1,254 @@
+package com.gymmanagement.DAO;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gymmanagement.GymApplication;
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.Interface.MemberIdAllocator;
+import com.gymmanagement.beans.BulkItemResult;
+import com.gymmanagement.beans.BulkResult;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberChange;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class contains methods to enroll many members into the Gym in one request.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@RestController
+@RequestMapping(value = "/member")
+public class BulkController {
+
+    /**
+     * This creates a reference for IRepository interface.
+     */
+    @Autowired
+    IRepository db;
+    /**
+     * The application object mapper, used to read the members one by one.
+     */
+    @Autowired
+    ObjectMapper mapper;
+    /**
+     * Cache of members by id, invalidated for every enrolled member.
+     */
+    @Autowired
+    MemberCache cache;
+    /**
+     * Counters of the request outcomes.
+     */
+    @Autowired
+    MemberMetrics metrics;
+    /**
+     * Feed of the member changes, told about every write.
+     */
+    @Autowired
+    MemberChangeFeed changes;
+    /**
+     * Mover of the collection revision, after every write.
+     */
+    @Autowired
+    MemberRevisions revisions;
+    /**
+     * The binary member formats.
+     */
+    @Autowired
+    MemberFormats formats;
+    /**
+     * Validator applying the constraints declared on Member.
+     */
+    @Autowired
+    MemberValidator validator;
+    /**
+     * Allocator of the member ids, when the server assigns them.
+     */
+    @Autowired
+    MemberIdAllocator ids;
+    /**
+     * Number of members sent to Mongo in one bulk write.
+     */
+    @Value("${member.bulk.batch-size:500}")
+    int batchSize;
+    /**
+     * The application object used to access logger object.
+     */
+    GymApplication gymnasium;
+
+    /**
+     * This enrolls many members into the Gym.
+     * The body is either a JSON array of members or newline delimited JSON with one member per line,
+     * or a Smile or CBOR array or sequence of members.
+     * Members are read, validated and written in batches, so the whole request is never held in memory.
+     * When the server assigns the ids, every valid member is given a new id before it is batched,
+     * and another one whenever its id turns out to be taken, as in {@link Controller}.
+     * A body which is not well formed is read up to the malformed member: the members before it are still written,
+     * and the report ends with an invalid item at its position.
+     * @param body the request body
+     * @param contentType media type of the body
+     * @return report with the outcome of every member
+     * @throws IOException if the body cannot be read
+     */
+    @RequestMapping(value = "/gymMembers/bulk", method = RequestMethod.POST,
+            consumes = {MediaType.APPLICATION_JSON_VALUE, Controller.APPLICATION_NDJSON_VALUE,
+                    MemberFormats.APPLICATION_SMILE_VALUE, MemberFormats.APPLICATION_CBOR_VALUE})
+    public BulkResult createGymMembers(InputStream body,
+                                       @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) MediaType contentType)
+            throws IOException {
+        ObjectMapper binary = formats.binaryMapper(contentType);
+        ObjectMapper reader = binary == null ? mapper : binary;
+        BulkResult result = new BulkResult();
+        List<Member> batch = new ArrayList<Member>(batchSize);
+        List<BulkItemResult> batched = new ArrayList<BulkItemResult>(batchSize);
+        List<BulkItemResult> pending = new ArrayList<BulkItemResult>(batchSize);
+
+        int index = 0;
+        try (MappingIterator<Member> members = reader.readerFor(Member.class).readValues(body)) {
+            for (; ; index++) {
+                if (pending.size() == batchSize)
+                    flush(batch, batched, pending, result);
+
+                Member member;
+                try {
+                    if (!members.hasNextValue())
+                        break;
+                    member = members.nextValue();
+                } catch (JsonMappingException e) {
+                    pending.add(new BulkItemResult(index, null, BulkItemResult.Status.INVALID, e.getOriginalMessage()));
+                    continue;
+                }
+
+                Errors errors = new BeanPropertyBindingResult(member, "member");
+                validator.validate(member, errors);
+                if (errors.hasErrors()) {
+                    pending.add(new BulkItemResult(index, member.getId(), BulkItemResult.Status.INVALID, describe(errors)));
+                    continue;
+                }
+
+                if (ids.isEnabled())
+                    member.setId(ids.nextId());
+                BulkItemResult item = new BulkItemResult(index, member.getId(), BulkItemResult.Status.CREATED, null);
+                batch.add(member);
+                batched.add(item);
+                pending.add(item);
+            }
+        } catch (JsonParseException e) {
+            pending.add(new BulkItemResult(index, null, BulkItemResult.Status.INVALID,
+                    "Malformed body, the members after it were not read: " + e.getOriginalMessage()));
+        }
+        flush(batch, batched, pending, result);
+        metrics.count(MemberMetrics.DUPLICATE, result.getDuplicates());
+        metrics.count(MemberMetrics.VALIDATION_FAILED, result.getInvalid());
+
+        if (gymnasium.llog.isDebugEnabled())
+            gymnasium.llog.debug("Bulk enrollment: {} created, {} duplicates, {} invalid",
+                    result.getCreated(), result.getDuplicates(), result.getInvalid());
+        return result;
+    }
+
+    /**
+     * Writes the batched members, then records every pending item in request order.
+     * The revision of the collection moves forward when any member was created,
+     * and every created member is published to the change feed.
+     * @param batch valid members waiting to be written
+     * @param batched results of the batched members, in batch order
+     * @param pending results waiting to be recorded, in request order
+     * @param result report of the request
+     */
+    private void flush(List<Member> batch, List<BulkItemResult> batched, List<BulkItemResult> pending, BulkResult result) {
+        List<BulkItemResult> written = insertAll(batch);
+        boolean created = false;
+        for (int i = 0; i < written.size(); i++) {
+            batched.get(i).setId(batch.get(i).getId());
+            batched.get(i).setStatus(written.get(i).getStatus());
+            batched.get(i).setMessage(written.get(i).getMessage());
+            cache.invalidate(batch.get(i).getId());
+            created |= written.get(i).getStatus() == BulkItemResult.Status.CREATED;
+        }
+        if (created)
+            revisions.next();
+        for (int i = 0; i < written.size(); i++) {
+            if (written.get(i).getStatus() == BulkItemResult.Status.CREATED)
+                changes.publish(MemberChange.Type.CREATED, batch.get(i).getId(), batch.get(i));
+        }
+        for (BulkItemResult item : pending)
+            result.add(item);
+        batch.clear();
+        batched.clear();
+        pending.clear();
+    }
+
+    /**
+     * Writes the batched members. When the server assigns the ids, the members whose id is already taken
+     * are given new ids and written again, until none of them collides.
+     * @param batch valid members waiting to be written
+     * @return one result per member, in batch order
+     */
+    private List<BulkItemResult> insertAll(List<Member> batch) {
+        List<BulkItemResult> written = db.insertAll(batch);
+        if (!ids.isEnabled())
+            return written;
+        List<Integer> taken = collisions(written, null);
+        while (!taken.isEmpty()) {
+            List<Member> retried = new ArrayList<Member>(taken.size());
+            for (int i : taken) {
+                gymnasium.llog.debug("Member id {} already taken", batch.get(i).getId());
+                batch.get(i).setId(ids.nextId());
+                retried.add(batch.get(i));
+            }
+            List<BulkItemResult> rewritten = db.insertAll(retried);
+            for (int j = 0; j < rewritten.size(); j++)
+                written.set(taken.get(j), rewritten.get(j));
+            taken = collisions(rewritten, taken);
+        }
+        return written;
+    }
+
+    /**
+     * Finds the members rejected because their id is already taken.
+     * @param written results of a bulk write
+     * @param positions batch position of every written member, or null when the whole batch was written
+     * @return batch positions of the rejected members
+     */
+    private List<Integer> collisions(List<BulkItemResult> written, List<Integer> positions) {
+        List<Integer> taken = new ArrayList<Integer>();
+        for (int j = 0; j < written.size(); j++) {
+            if (written.get(j).getStatus() == BulkItemResult.Status.DUPLICATE)
+                taken.add(positions == null ? j : positions.get(j));
+        }
+        return taken;
+    }
+
+    /**
+     * Joins the constraint violations of a member into one message.
+     * @param errors the violations of the member
+     * @return message naming every invalid field
+     */
+    private String describe(Errors errors) {
+        StringBuilder message = new StringBuilder();
+        for (FieldError error : errors.getFieldErrors()) {
+            if (message.length() > 0)
+                message.append(", ");
+            message.append(error.getField()).append(' ').append(error.getDefaultMessage());
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.gymmanagement.DAO;
+
+import com.gymmanagement.beans.MemberChange;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * This class contains methods to follow the changes made to the members of the Gym,
+ * so that other systems receive every create, update and delete instead of reading all the members again.
+ * The stream ends after a timeout and is resumed with the token of the last change received.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@RestController
+@RequestMapping(value = "/member")
+public class ChangeController {
+
+    /**
+     * Media type of the server-sent events stream.
+     */
+    public static final String TEXT_EVENT_STREAM_VALUE = "text/event-stream";
+
+    /**
+     * Feed of the member changes.
+     */
+    @Autowired
+    MemberChangeFeed changes;
+    /**
+     * Time after which a stream ends, in milliseconds.
+     */
+    @Value("${member.changes.timeout:600000}")
+    long timeout;
+
+    /**
+     * This will stream the member changes as server-sent events, named after the {@link MemberChange.Type}
+     * and carrying the change as JSON. The event id is the token to resume after.
+     * @param lastEventId token of the last change received, sent by EventSource when it reconnects
+     * @param after token of the last change received, for clients which cannot set the header
+     * @return emitter which writes every change
+     */
+    @RequestMapping(value = "/changes", method = RequestMethod.GET, produces = TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChangeEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                        @RequestParam(value = "after", required = false) String after) {
+        SseEmitter emitter = new SseEmitter(timeout);
+        changes.subscribe(emitter, lastEventId != null ? lastEventId : after);
+        return emitter;
+    }
+
+    /**
+     * This will stream the member changes as newline delimited JSON, one change per line.
+     * @param after token of the last change received
+     * @return emitter which writes every change
+     */
+    @RequestMapping(value = "/changes", method = RequestMethod.GET, produces = Controller.APPLICATION_NDJSON_VALUE)
+    public ResponseBodyEmitter streamChanges(@RequestParam(value = "after", required = false) String after) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeout);
+        changes.subscribe(emitter, after);
+        return emitter;
+    }
+}
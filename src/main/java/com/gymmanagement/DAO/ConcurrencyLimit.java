@@ -0,0 +1,255 @@
+package com.gymmanagement.DAO;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limit on the requests of one endpoint served at once, with a bounded queue of waiting requests.
+ * The limit adapts to the latency of the endpoint: by Little's law the requests in flight are the
+ * throughput times the latency, so once the latency grows past twice the lowest latency seen,
+ * more requests in flight only wait longer on Tomcat and Mongo and the limit is lowered in proportion.
+ * While the latency stays low and the limit is reached, the limit grows by its square root.
+ * The limit is only changed once per window of completed requests, and only part of the way.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class ConcurrencyLimit {
+
+    /**
+     * Outcome of a request asking to be served.
+     */
+    public enum Admission {
+        ADMITTED, QUEUE_FULL, TIMED_OUT
+    }
+
+    /**
+     * Latency, as a multiple of the lowest latency, above which the limit is lowered.
+     */
+    private static final double TOLERANCE = 2.0;
+
+    /**
+     * Share of the way to the new limit taken by each update.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * Fewest completed requests in a window.
+     */
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    /**
+     * Longest window, after which the limit is updated from fewer samples.
+     */
+    private static final long MAX_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Number of windows after which the lowest latency is measured again, to follow lasting changes.
+     */
+    private static final int MIN_RTT_WINDOWS = 100;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueSize;
+    private final long queueTimeoutNanos;
+
+    private volatile int limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong queueFull = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+
+    /**
+     * Wakes the waiting requests when a request completes or the limit grows.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    // window of completed requests, guarded by this
+    private long windowStart = System.nanoTime();
+    private long windowLatency;
+    private int windowSamples;
+    private int windowPeak;
+    private int windows;
+    private long minLatency;
+    private long lastLatency;
+
+    /**
+     * @param limit initial limit
+     * @param minLimit lowest limit
+     * @param maxLimit highest limit
+     * @param queueSize most requests waiting
+     * @param queueTimeout longest wait
+     * @param unit unit of the longest wait
+     */
+    public ConcurrencyLimit(int limit, int minLimit, int maxLimit, int queueSize, long queueTimeout, TimeUnit unit) {
+        if (minLimit < 1 || maxLimit < minLimit || queueSize < 0)
+            throw new IllegalArgumentException("Invalid concurrency limit [" + minLimit + ", " + maxLimit + "], queue " + queueSize);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.queueSize = queueSize;
+        this.queueTimeoutNanos = unit.toNanos(queueTimeout);
+        this.limit = Math.max(minLimit, Math.min(limit, maxLimit));
+    }
+
+    /**
+     * Admits a request if fewer than the limit are in flight, otherwise waits in the queue for one to complete.
+     * An admitted request must be followed by {@link #release(long)}.
+     * @return whether the request was admitted, or why not
+     */
+    public Admission acquire() {
+        if (waiting.get() == 0 && tryAdmit())
+            return Admission.ADMITTED;
+        if (waiting.incrementAndGet() > queueSize) {
+            waiting.decrementAndGet();
+            queueFull.incrementAndGet();
+            return Admission.QUEUE_FULL;
+        }
+
+        lock.lock();
+        try {
+            long remaining = queueTimeoutNanos;
+            while (!tryAdmit()) {
+                if (remaining <= 0) {
+                    timedOut.incrementAndGet();
+                    return Admission.TIMED_OUT;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            return Admission.ADMITTED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut.incrementAndGet();
+            return Admission.TIMED_OUT;
+        } finally {
+            waiting.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Completes an admitted request and wakes a waiting one.
+     * @param latencyNanos time the request was in flight
+     */
+    public void release(long latencyNanos) {
+        int peak = inFlight.getAndDecrement();
+        sample(latencyNanos, peak);
+        if (waiting.get() > 0) {
+            lock.lock();
+            try {
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Estimates how long a rejected request should wait before it is sent again:
+     * the time for the requests in flight and waiting to be served at the current limit.
+     * @return the wait, in whole seconds, at least one
+     */
+    public long retryAfterSeconds() {
+        long latency;
+        synchronized (this) {
+            latency = lastLatency;
+        }
+        double seconds = (inFlight.get() + waiting.get()) * (latency / 1e9) / limit;
+        return Math.max(1, (long) Math.ceil(seconds));
+    }
+
+    /**
+     * @return the current limit, the queue, and the rejection counts, for the actuator
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<String, Object>();
+        description.put("limit", limit);
+        description.put("minLimit", minLimit);
+        description.put("maxLimit", maxLimit);
+        description.put("inFlight", inFlight.get());
+        description.put("waiting", waiting.get());
+        description.put("queueSize", queueSize);
+        synchronized (this) {
+            description.put("minLatencyMs", minLatency / 1e6);
+            description.put("latencyMs", lastLatency / 1e6);
+        }
+        description.put("rejectedQueueFull", queueFull.get());
+        description.put("rejectedTimedOut", timedOut.get());
+        return description;
+    }
+
+    /**
+     * @return the current limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return the number of requests rejected since the start, because the queue was full or the wait too long
+     */
+    public long getRejected() {
+        return queueFull.get() + timedOut.get();
+    }
+
+    /**
+     * Takes a place under the limit if there is one.
+     * @return true if the request was admitted
+     */
+    private boolean tryAdmit() {
+        for (int n = inFlight.get(); n < limit; n = inFlight.get()) {
+            if (inFlight.compareAndSet(n, n + 1))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds a completed request to the window, and updates the limit at the end of the window.
+     * @param latencyNanos time the request was in flight
+     * @param inFlightBefore requests in flight when it completed, itself included
+     */
+    private void sample(long latencyNanos, int inFlightBefore) {
+        int grown;
+        synchronized (this) {
+            windowLatency += latencyNanos;
+            windowSamples++;
+            windowPeak = Math.max(windowPeak, inFlightBefore);
+            long now = System.nanoTime();
+            if (windowSamples < Math.max(MIN_WINDOW_SAMPLES, limit) && now - windowStart < MAX_WINDOW_NANOS)
+                return;
+
+            long latency = windowLatency / windowSamples;
+            if (++windows % MIN_RTT_WINDOWS == 0 || minLatency == 0 || latency < minLatency)
+                minLatency = latency;
+            lastLatency = latency;
+
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * minLatency / latency));
+            double target = limit * gradient + (windowPeak >= limit && gradient == 1.0 ? Math.sqrt(limit) : 0);
+            int previous = limit;
+            double next = previous + (target - previous) * SMOOTHING;
+            // round away from the current limit, so that small limits still move
+            next = next > previous ? Math.ceil(next) : Math.floor(next);
+            limit = (int) Math.max(minLimit, Math.min(maxLimit, next));
+            grown = limit - previous;
+
+            windowStart = now;
+            windowLatency = 0;
+            windowSamples = 0;
+            windowPeak = 0;
+        }
+        if (grown > 0 && waiting.get() > 0) {
+            lock.lock();
+            try {
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
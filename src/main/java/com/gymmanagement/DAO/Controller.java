@@ -1,25 +1,59 @@
 package com.gymmanagement.DAO;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.gymmanagement.GymApplication;
 import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.Interface.MemberIdAllocator;
 import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberChange;
+import com.gymmanagement.beans.MemberFields;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
 import java.util.List;
 
 /**
  * This class contains methods to perform CRUD operations on Gym management System.
+ * It runs on blocking servlet threads; the reactive profile replaces it with {@link AsyncController}.
  * @author Ajay.Srivas
  * @author Keerthana.Pai
  * @author Ashwini.D
  * @since 19/09/2017
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping(value = "/member")
 public class Controller {
 
+    /**
+     * Media type of the newline delimited JSON stream of members.
+     */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * Largest page a client can ask for with the limit parameter.
+     */
+    static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * Number of streamed members after which the response is flushed to the client.
+     * The first member is also flushed on its own, so the client starts reading before a full interval is written.
+     */
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+
     /**
      * This creates a reference for IRepository interface.
      * This reference is used to call the inbuilt methods of MongoRepository.
@@ -30,54 +64,157 @@ public class Controller {
      * The application object used to access logger object.
      */
     GymApplication gymnasium;
+    /**
+     * The application object mapper, used to write the streamed members.
+     */
+    @Autowired
+    ObjectMapper mapper;
+    /**
+     * Cache of members by id, invalidated by every write.
+     */
+    @Autowired
+    MemberCache cache;
+    /**
+     * Counters of the request outcomes.
+     */
+    @Autowired
+    MemberMetrics metrics;
+    /**
+     * Feed of the member changes, told about every write.
+     */
+    @Autowired
+    MemberChangeFeed changes;
+    /**
+     * Mover of the collection revision, after every write.
+     */
+    @Autowired
+    MemberRevisions revisions;
+    /**
+     * Allocator of the member ids, when the server assigns them.
+     */
+    @Autowired
+    MemberIdAllocator ids;
 
     /**
      * This enrolls a new member into the Gym with all the needed details.
+     * When the server assigns the ids, the id sent by the client is replaced by a new one,
+     * and an id taken by a member created with a client chosen id is skipped.
+     * A contact number already in use is answered with 409 Conflict, as by updateAGymMember.
      * @param member represents a member who wants to enroll into Gym
      * @return  returns "member already exists" if the member is already present
      *          else returns "member with specified id is created successfully"
      */
     @RequestMapping(value = "/gymMember", method = RequestMethod.POST)
     public String createGymMember(@Validated @RequestBody Member member) {
-        if(db.exists(member.getId())) {
-            gymnasium.llog.error("Member already exists! :/");
-            return "Member already exists! :/";
+        if(ids.isEnabled())
+            member.setId(ids.nextId());
+        while(!db.create(member)) {
+            if(!ids.isEnabled()) {
+                metrics.count(MemberMetrics.DUPLICATE);
+                gymnasium.llog.error("Member already exists! :/");
+                return "Member already exists! :/";
+            }
+            gymnasium.llog.debug("Member id {} already taken", member.getId());
+            member.setId(ids.nextId());
         }
 
-        db.save(member);
-        gymnasium.llog.debug("Member with " + member.getId() + " created successfully :)");
+        cache.invalidate(member.getId());
+        revisions.next();
+        changes.publish(MemberChange.Type.CREATED, member.getId(), member);
+        gymnasium.llog.debug("Member with {} created successfully :)", member.getId());
         return "Member with " + member.getId() + " created successfully :)";
     }
 
     /**
      * This will find the member with the specified id in the Gym.
+     * When only some fields are asked for, a cached member is still used,
+     * otherwise only those fields are fetched and the member is not cached.
+     * The ETag is taken from the member version, so a client sending it back in
+     * If-None-Match gets a 304 without the member being written again.
      * @param id id of the member
+     * @param fields fields to return, from the fields parameter
      * @return returns the member with the specified id
      */
     @RequestMapping(value = "/gymMemberById/{id}", method = RequestMethod.GET)
-    public Member getGymMemberById(@PathVariable("id") int id){
-        Member newMember = db.findOne(id);
+    public ResponseEntity<Member> getGymMemberById(@PathVariable("id") int id, MemberFields fields){
+        Member newMember = fields.isAll() ? cache.get(id, db::findOne) : cache.getIfPresent(id);
+        if(newMember == null && !fields.isAll())
+            newMember = db.findOne(id, fields);
         if(newMember != null){
-            gymnasium.llog.debug("Member with " + id + " exists!");
-            return newMember;
+            gymnasium.llog.debug("Member with {} exists!", id);
+            return ResponseEntity.ok().eTag(fields.etag("v" + newMember.getVersion())).body(newMember);
         }
-        gymnasium.llog.error("Member with " + id + " doesnt exists");
-        return newMember;
+        gymnasium.llog.error("Member with {} doesnt exists", id);
+        return ResponseEntity.ok(newMember);
     }
 
 
     /**
      * This will give the list of all the members in the Gym.
+     * When a limit is given only one page of members is returned, ordered by id,
+     * and a Link header points to the next page.
+     * The ETag is taken from the revision of the collection, read before the members,
+     * so a client sending it back in If-None-Match gets a 304 until the next write, without the members being read.
+     * @param after id of the last member of the previous page
+     * @param limit maximum number of members to return
+     * @param fields fields to return, from the fields parameter
+     * @param request the request, checked against the ETag
      * @return returns the list of members
      */
     @RequestMapping(value = "/allGymMembers", method = RequestMethod.GET)
-    public List<Member> getAllGymMember(){
-        List<Member> list = db.findAll();
-        if(list == null)
-            gymnasium.llog.error("No Members Found!");
-        else
-            gymnasium.llog.debug("Members Found");
-        return list;
+    public ResponseEntity<List<Member>> getAllGymMember(@RequestParam(value = "after", required = false) Integer after,
+                                                        @RequestParam(value = "limit", required = false) Integer limit,
+                                                        MemberFields fields, WebRequest request){
+        String etag = fields.etag(revisions.tag(db.revision()));
+        if(request.checkNotModified(etag))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).body(null);
+        if(limit == null && after == null) {
+            List<Member> list = db.findAll(fields);
+            if(list == null)
+                gymnasium.llog.error("No Members Found!");
+            else
+                gymnasium.llog.debug("Members Found");
+            return ResponseEntity.ok().eTag(etag).body(list);
+        }
+
+        int pageSize = Math.max(1, Math.min(limit == null ? MAX_PAGE_SIZE : limit, MAX_PAGE_SIZE));
+        List<Member> page = db.findPage(after, pageSize, fields);
+        gymnasium.llog.debug("Members Found");
+        if(page.size() < pageSize)
+            return ResponseEntity.ok().eTag(etag).body(page);
+
+        String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after", page.get(page.size() - 1).getId())
+                .replaceQueryParam("limit", pageSize)
+                .build().toUriString();
+        return ResponseEntity.ok().eTag(etag).header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"").body(page);
+    }
+
+    /**
+     * This will stream all the members in the Gym as newline delimited JSON, ordered by id.
+     * Members are written as the Mongo cursor yields them, so memory use does not grow
+     * with the size of the Gym.
+     * @param after id to start after, used to resume an interrupted stream
+     * @return body which writes one member per line
+     */
+    @RequestMapping(value = "/allGymMembers", method = RequestMethod.GET, produces = APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamAllGymMembers(@RequestParam(value = "after", required = false) Integer after){
+        ObjectWriter writer = mapper.writerFor(Member.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return out -> {
+            int written = 0;
+            try (CloseableIterator<Member> members = db.streamAfter(after);
+                 JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                while(members.hasNext()) {
+                    writer.writeValue(generator, members.next());
+                    generator.writeRaw('\n');
+                    if(++written == 1 || written % STREAM_FLUSH_INTERVAL == 0)
+                        generator.flush();
+                }
+            }
+            gymnasium.llog.debug("Streamed {} Members", written);
+        };
     }
 
 
@@ -88,8 +225,10 @@ public class Controller {
      */
     @RequestMapping(value = "/gymMember", method = RequestMethod.PUT)
     public String updateAGymMember(@Validated @RequestBody Member member){
-        if(db.exists(member.getId())){
-            db.save(member);
+        if(db.replace(member)){
+            cache.invalidate(member.getId());
+            revisions.next();
+            changes.publish(MemberChange.Type.UPDATED, member.getId(), member);
             gymnasium.llog.debug("Member Updated!");
             return "Member Updated!";
         }
@@ -105,18 +244,10 @@ public class Controller {
     @RequestMapping(value = "/gymMemberById/{id}", method = RequestMethod.DELETE)
     public String deleteGymMemberById(@PathVariable("id") int id){
         db.delete(id);
-        gymnasium.llog.debug("Member with " + id + " deleted");
+        cache.invalidate(id);
+        revisions.next();
+        changes.publish(MemberChange.Type.DELETED, id, null);
+        gymnasium.llog.debug("Member with {} deleted", id);
         return "Member with " + id + " deleted";
     }
-
-    /**
-     * This will delete all the members of the Gym.
-     * @return message related to deleteAllGymMembers operation
-     */
-    @RequestMapping(value = "/allGymMembers", method = RequestMethod.DELETE)
-    public String deleteAllGymMembers(){
-        db.deleteAll();
-        gymnasium.llog.debug("Database Empty!");
-        return "Database Empty!";
-    }
 }
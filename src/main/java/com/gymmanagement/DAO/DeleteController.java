@@ -0,0 +1,140 @@
+package com.gymmanagement.DAO;
+
+import com.gymmanagement.GymApplication;
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.beans.MemberChange;
+import com.gymmanagement.beans.MemberPurge;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class contains methods to delete many members of the Gym in one request,
+ * and to delete all of them in the background, whatever the profile: no request waits for a purge.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@RestController
+@RequestMapping(value = "/member")
+public class DeleteController {
+
+    /**
+     * This creates a reference for IRepository interface.
+     */
+    @Autowired
+    IRepository db;
+    /**
+     * Cache of members by id, invalidated by every write.
+     */
+    @Autowired
+    MemberCache cache;
+    /**
+     * Feed the deletes are published to.
+     */
+    @Autowired
+    MemberChangeFeed changes;
+    /**
+     * Mover of the collection revision, after every write.
+     */
+    @Autowired
+    MemberRevisions revisions;
+    /**
+     * The purges of the member collection.
+     */
+    @Autowired
+    MemberPurges purges;
+    /**
+     * The application object used to access logger object.
+     */
+    GymApplication gymnasium;
+
+    /**
+     * This will delete the members with the ids given as a comma separated ids parameter,
+     * or as a JSON array for lists too long for a URL, with a single delete.
+     * An id which does not exist is ignored, as by deleteGymMemberById.
+     * @param ids ids of the members, from the ids parameter
+     * @param body ids of the members, from the body
+     * @return the number of distinct ids requested and of members deleted
+     */
+    @RequestMapping(value = "/gymMembers", method = RequestMethod.DELETE)
+    public Map<String, Long> deleteGymMembers(@RequestParam(value = "ids", required = false) List<Integer> ids,
+                                              @RequestBody(required = false) List<Integer> body) {
+        if (ids == null && body == null)
+            throw new InvalidMemberRequestException("Give the ids of the members to delete");
+        Set<Integer> distinct = new LinkedHashSet<Integer>();
+        if (ids != null)
+            distinct.addAll(ids);
+        if (body != null)
+            distinct.addAll(body);
+        if (distinct.contains(null))
+            throw new InvalidMemberRequestException("Member ids cannot be null");
+        if (distinct.size() > Controller.MAX_PAGE_SIZE)
+            throw new InvalidMemberRequestException("At most " + Controller.MAX_PAGE_SIZE + " members can be deleted at once");
+
+        long deleted = db.deleteMany(distinct);
+        for (Integer id : distinct)
+            cache.invalidate(id);
+        revisions.next();
+        for (Integer id : distinct)
+            changes.publish(MemberChange.Type.DELETED, id, null);
+        gymnasium.llog.debug("{} of {} members deleted", deleted, distinct.size());
+
+        Map<String, Long> result = new LinkedHashMap<String, Long>();
+        result.put("requested", (long) distinct.size());
+        result.put("deleted", deleted);
+        return result;
+    }
+
+    /**
+     * This will start deleting all the members of the Gym in the background, and return at once.
+     * While a purge is queued or running, asking for another one returns it.
+     * @return the purge, with its location to poll
+     */
+    @RequestMapping(value = "/purges", method = RequestMethod.POST)
+    public ResponseEntity<MemberPurge> purgeGymMembers() {
+        return accepted(purges.submit());
+    }
+
+    /**
+     * This will delete all the members of the Gym in the background, as POST /member/purges does.
+     * @return the purge, with its location to poll
+     */
+    @RequestMapping(value = "/allGymMembers", method = RequestMethod.DELETE)
+    public ResponseEntity<MemberPurge> deleteAllGymMembers() {
+        return accepted(purges.submit());
+    }
+
+    /**
+     * This will give the progress of a purge.
+     * @param id id of the purge
+     * @return the purge, or 404 if it is unknown
+     */
+    @RequestMapping(value = "/purges/{id}", method = RequestMethod.GET)
+    public ResponseEntity<MemberPurge> getPurge(@PathVariable("id") String id) {
+        MemberPurge purge = purges.get(id);
+        if (purge == null)
+            return new ResponseEntity<MemberPurge>(HttpStatus.NOT_FOUND);
+        return ResponseEntity.ok(purge);
+    }
+
+    /**
+     * Answers a submitted purge with 202 Accepted and the location to poll it.
+     * @param purge the purge
+     * @return the response
+     */
+    private ResponseEntity<MemberPurge> accepted(MemberPurge purge) {
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath().path("/member/purges/{id}")
+                        .buildAndExpand(purge.getId()).toUri())
+                .body(purge);
+    }
+}
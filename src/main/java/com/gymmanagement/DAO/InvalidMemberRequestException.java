@@ -0,0 +1,19 @@
+package com.gymmanagement.DAO;
+
+/**
+ * Thrown by the member controllers when the parameters of a request cannot be served,
+ * such as a search no index can serve or an unknown field. It is answered with 400 Bad Request and its message,
+ * which is therefore written for the client.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class InvalidMemberRequestException extends RuntimeException {
+
+    /**
+     * @param message why the request is rejected, sent back to the client
+     */
+    public InvalidMemberRequestException(String message) {
+        super(message);
+    }
+}
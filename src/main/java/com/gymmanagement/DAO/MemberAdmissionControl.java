@@ -0,0 +1,176 @@
+package com.gymmanagement.DAO;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the requests of every member endpoint served at once, so that a few expensive requests,
+ * such as listing or deleting all the members, cannot take every Tomcat thread and Mongo connection
+ * from the cheap lookups by id.
+ * Every handler has its own {@link ConcurrencyLimit}, which adapts to the latency of the handler.
+ * A request over the limit waits in a bounded queue; when the queue is full it is answered at once
+ * with 429 Too Many Requests, and when it waited too long with 503 Service Unavailable,
+ * both with a Retry-After header.
+ * The limits are read from member.admission.&lt;handler&gt;.&lt;setting&gt;, falling back on
+ * member.admission.&lt;setting&gt;, where the settings are limit, min-limit, max-limit, queue and queue-timeout-ms.
+ * A request for one page of a handler taking a limit parameter is limited apart, as &lt;handler&gt;Page,
+ * so the cheap pages do not queue behind the full listings.
+ * A queued request waits on its Tomcat thread, so a handler can hold up to max-limit plus queue threads.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+public class MemberAdmissionControl extends HandlerInterceptorAdapter {
+
+    /**
+     * Prefix of the admission settings.
+     */
+    private static final String PREFIX = "member.admission.";
+
+    /**
+     * Suffix of the name of the limit of the paged requests of a handler.
+     */
+    static final String PAGE_SUFFIX = "Page";
+
+    /**
+     * Request attribute holding the admission time, kept across async dispatches.
+     */
+    private static final String ADMITTED_ATTRIBUTE = MemberAdmissionControl.class.getName() + ".admitted";
+
+    /**
+     * Request attribute holding the limit the request was admitted by.
+     */
+    private static final String LIMIT_ATTRIBUTE = MemberAdmissionControl.class.getName() + ".limit";
+
+    /**
+     * Settings of the limits.
+     */
+    private final Environment environment;
+
+    /**
+     * Whether requests are limited at all.
+     */
+    private final boolean enabled;
+
+    /**
+     * The limit of every handler, by handler name, created on its first request.
+     */
+    private final ConcurrentMap<String, ConcurrencyLimit> limits = new ConcurrentHashMap<String, ConcurrencyLimit>();
+
+    /**
+     * Counters of the request outcomes.
+     */
+    @Autowired
+    MemberMetrics metrics;
+
+    @Autowired
+    public MemberAdmissionControl(Environment environment, @Value("${member.admission.enabled:true}") boolean enabled) {
+        this.environment = environment;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || !(handler instanceof HandlerMethod) || request.getAttribute(ADMITTED_ATTRIBUTE) != null)
+            return true;
+
+        ConcurrencyLimit limit = limit(name((HandlerMethod) handler, request));
+        ConcurrencyLimit.Admission admission = limit.acquire();
+        if (admission != ConcurrencyLimit.Admission.ADMITTED) {
+            metrics.count(MemberMetrics.OVERLOADED);
+            throw new MemberOverloadedException(admission == ConcurrencyLimit.Admission.QUEUE_FULL, limit.retryAfterSeconds());
+        }
+        request.setAttribute(ADMITTED_ATTRIBUTE, System.nanoTime());
+        request.setAttribute(LIMIT_ATTRIBUTE, limit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object admitted = request.getAttribute(ADMITTED_ATTRIBUTE);
+        ConcurrencyLimit limit = (ConcurrencyLimit) request.getAttribute(LIMIT_ATTRIBUTE);
+        if (admitted == null || limit == null)
+            return;
+        request.removeAttribute(LIMIT_ATTRIBUTE);
+        limit.release(System.nanoTime() - (Long) admitted);
+    }
+
+    /**
+     * @return the state of the limit of every handler which was requested, by handler name
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new TreeMap<String, Object>();
+        for (Map.Entry<String, ConcurrencyLimit> limit : limits.entrySet())
+            description.put(limit.getKey(), limit.getValue().describe());
+        return description;
+    }
+
+    /**
+     * @return whether requests are limited at all
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Names the limit of a request: the handler method, or the handler method followed by {@link #PAGE_SUFFIX}
+     * for a request which gives the limit or after parameter to a handler taking a limit parameter.
+     * @param handler the handler of the request
+     * @param request the request
+     * @return name of the limit
+     */
+    private String name(HandlerMethod handler, HttpServletRequest request) {
+        String name = handler.getMethod().getName();
+        if (request.getParameter("limit") == null && request.getParameter("after") == null)
+            return name;
+        for (MethodParameter parameter : handler.getMethodParameters()) {
+            RequestParam param = parameter.getParameterAnnotation(RequestParam.class);
+            if (param != null && "limit".equals(param.value()))
+                return name + PAGE_SUFFIX;
+        }
+        return name;
+    }
+
+    /**
+     * Gets the limit of a handler, creating it from its settings on the first request.
+     * @param handler name of the handler method
+     * @return the limit
+     */
+    public ConcurrencyLimit limit(String handler) {
+        ConcurrencyLimit limit = limits.get(handler);
+        if (limit != null)
+            return limit;
+        limit = new ConcurrencyLimit(setting(handler, "limit", 20), setting(handler, "min-limit", 1),
+                setting(handler, "max-limit", 200), setting(handler, "queue", 50),
+                setting(handler, "queue-timeout-ms", 1000), TimeUnit.MILLISECONDS);
+        ConcurrencyLimit raced = limits.putIfAbsent(handler, limit);
+        return raced == null ? limit : raced;
+    }
+
+    /**
+     * Reads a setting of a handler, or the setting shared by all the handlers.
+     * @param handler name of the handler method
+     * @param name name of the setting
+     * @param defaultValue value when neither is set
+     * @return the value
+     */
+    private int setting(String handler, String name, int defaultValue) {
+        Integer shared = environment.getProperty(PREFIX + name, Integer.class, defaultValue);
+        return environment.getProperty(PREFIX + handler + "." + name, Integer.class, shared);
+    }
+}
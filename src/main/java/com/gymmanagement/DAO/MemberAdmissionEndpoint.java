@@ -0,0 +1,38 @@
+package com.gymmanagement.DAO;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.AbstractEndpoint;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint /memberAdmission, showing the concurrency limit of every member endpoint:
+ * its current value and bounds, the requests in flight and waiting, the latencies it adapts to,
+ * and the requests it rejected.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+public class MemberAdmissionEndpoint extends AbstractEndpoint<Map<String, Object>> {
+
+    /**
+     * The limits of the member endpoints.
+     */
+    @Autowired
+    MemberAdmissionControl admission;
+
+    public MemberAdmissionEndpoint() {
+        super("memberAdmission");
+    }
+
+    @Override
+    public Map<String, Object> invoke() {
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put("enabled", admission.isEnabled());
+        result.put("endpoints", admission.describe());
+        return result;
+    }
+}
@@ -0,0 +1,150 @@
+package com.gymmanagement.DAO;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.gymmanagement.beans.Member;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of members by id, kept in front of IRepository.findOne.
+ * The cache is bounded by size, evicting with W-TinyLFU, and entries expire after a fixed time.
+ * Every write on a member must invalidate it so that reads never return stale members.
+ * The hit, miss and eviction counts are published on the actuator metrics endpoint.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+public class MemberCache implements PublicMetrics {
+
+    /**
+     * The cached members by id. Missing members are not cached.
+     */
+    private final Cache<Integer, Member> members;
+
+    /**
+     * Maximum number of members kept.
+     */
+    private final long maximumSize;
+
+    /**
+     * Incremented by every invalidation, so that asynchronous loads started before a write are not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates the cache.
+     * @param maximumSize maximum number of members kept
+     * @param expireAfterWriteSeconds time after which a cached member is read again from Mongo
+     */
+    @Autowired
+    public MemberCache(@Value("${member.cache.maximum-size:10000}") long maximumSize,
+                       @Value("${member.cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+        this.maximumSize = maximumSize;
+        this.members = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Gets the member with the specified id, loading it on a miss.
+     * Concurrent misses on one id load it only once.
+     * @param id id of the member
+     * @param loader reads the member from the database, returning null if it does not exist
+     * @return the member, or null if it does not exist
+     */
+    public Member get(int id, Function<Integer, Member> loader) {
+        return members.get(id, loader);
+    }
+
+    /**
+     * Gets the member with the specified id if it is cached, for callers which load it asynchronously.
+     * Read {@link #generation()} before starting the load and pass it to {@link #putIfCurrent}.
+     * @param id id of the member
+     * @return the cached member, or null on a miss
+     */
+    public Member getIfPresent(int id) {
+        return members.getIfPresent(id);
+    }
+
+    /**
+     * Gets the current invalidation generation.
+     * @return the number of invalidations so far
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches an asynchronously loaded member, unless an invalidation happened since the load started.
+     * The check runs under the entry lock which invalidations also take, so a write racing the load
+     * either prevents the put or removes its result.
+     * @param id id of the member
+     * @param member the loaded member, not cached if null
+     * @param loadGeneration the generation read before the load started
+     */
+    public void putIfCurrent(int id, Member member, long loadGeneration) {
+        if (member == null)
+            return;
+        members.asMap().computeIfAbsent(id, key -> generation.get() == loadGeneration ? member : null);
+    }
+
+    /**
+     * Removes the member with the specified id after it has been written or deleted.
+     * @param id id of the member
+     */
+    public void invalidate(int id) {
+        generation.incrementAndGet();
+        members.invalidate(id);
+    }
+
+    /**
+     * Removes all the members after the collection has been emptied.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        members.invalidateAll();
+    }
+
+    /**
+     * Gets the maximum number of members kept.
+     * @return the maximum size
+     */
+    public long maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets a snapshot of the hit, miss and eviction counts.
+     * @return the cache statistics
+     */
+    public CacheStats stats() {
+        return members.stats();
+    }
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        CacheStats stats = members.stats();
+        List<Metric<?>> metrics = new ArrayList<Metric<?>>(5);
+        metrics.add(new Metric<Long>("cache.member.size", members.estimatedSize()));
+        metrics.add(new Metric<Long>("cache.member.hits", stats.hitCount()));
+        metrics.add(new Metric<Long>("cache.member.misses", stats.missCount()));
+        metrics.add(new Metric<Long>("cache.member.evictions", stats.evictionCount()));
+        metrics.add(new Metric<Double>("cache.member.hit.ratio", stats.hitRate()));
+        return metrics;
+    }
+}
@@ -0,0 +1,460 @@
+package com.gymmanagement.DAO;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gymmanagement.GymApplication;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberChange;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Feed of the member changes, pushed to every subscriber of the change stream.
+ * Writers publish a change after it is stored. Each change gets the next sequence number
+ * and is kept in a bounded history, so a subscriber can resume after the token of the last
+ * change it received. Tokens carry an epoch picked at startup, so a token from before a restart
+ * is told apart and answered with a resync.
+ * Subscribers do not hold a thread: every subscriber has a bounded queue, drained by a small
+ * shared pool, and a subscriber whose queue is full is disconnected so that it resumes from its
+ * last token instead of holding back the writers.
+ * A write to a subscriber is blocking, so it has a deadline: a subscriber which does not take a change in time
+ * is disconnected, and the pool gets a thread in place of the one stuck in the write until that write ends,
+ * which the connector's write timeout bounds. Responses are completed on threads of their own, since completing
+ * one waits for its write in progress.
+ * A change is written to JSON once its sequence number is taken, after the lock is released,
+ * so writers publishing at once only wait on each other to number and queue their changes.
+ * The subscriber and drop counts are published on the actuator metrics endpoint.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+public class MemberChangeFeed implements PublicMetrics {
+
+    /**
+     * States of the writes to a subscriber: no write in progress, a write in progress,
+     * and a write which passed its deadline, after which the subscriber is disconnected.
+     */
+    private static final int IDLE = 0;
+    private static final int WRITING = 1;
+    private static final int EXPIRED = 2;
+
+    /**
+     * Epoch of the tokens, different for every start of the application.
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    /**
+     * The latest changes, oldest first. Guarded by this.
+     */
+    private final ArrayDeque<Event> history;
+
+    /**
+     * Maximum number of changes kept in the history.
+     */
+    private final int historySize;
+
+    /**
+     * Maximum number of changes queued for one subscriber.
+     */
+    private final int bufferSize;
+
+    /**
+     * Sequence number of the latest change. Guarded by this.
+     */
+    private long sequence;
+
+    /**
+     * The connected subscribers.
+     */
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Maximum time a write to one subscriber may take, in milliseconds.
+     */
+    private final long writeTimeoutMillis;
+
+    /**
+     * Pool writing the queued changes to the subscribers, grown by one thread for every write past its deadline.
+     */
+    private final ThreadPoolExecutor writers;
+
+    /**
+     * Thread watching the deadlines of the writes.
+     */
+    private final ScheduledThreadPoolExecutor deadlines;
+
+    /**
+     * Threads completing the responses of the disconnected subscribers.
+     */
+    private final ExecutorService completions;
+
+    /**
+     * Number of subscribers disconnected because their queue was full or a write passed its deadline.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Maps the changes to the JSON sent to the subscribers.
+     */
+    @Autowired
+    ObjectMapper mapper;
+    /**
+     * The application object used to access logger object.
+     */
+    GymApplication gymnasium;
+
+    /**
+     * Creates the feed.
+     * @param historySize maximum number of changes a subscriber can resume after
+     * @param bufferSize maximum number of changes queued for one subscriber
+     * @param threads number of threads writing to the subscribers
+     * @param writeTimeoutMillis maximum time a write to one subscriber may take, in milliseconds
+     */
+    @Autowired
+    public MemberChangeFeed(@Value("${member.changes.history:1000}") int historySize,
+                            @Value("${member.changes.buffer:1000}") int bufferSize,
+                            @Value("${member.changes.threads:2}") int threads,
+                            @Value("${member.changes.write-timeout-ms:5000}") long writeTimeoutMillis) {
+        if (historySize < 1)
+            throw new IllegalArgumentException("member.changes.history must be positive: " + historySize);
+        if (bufferSize < 1)
+            throw new IllegalArgumentException("member.changes.buffer must be positive: " + bufferSize);
+        if (writeTimeoutMillis < 1)
+            throw new IllegalArgumentException("member.changes.write-timeout-ms must be positive: " + writeTimeoutMillis);
+        this.historySize = historySize;
+        this.bufferSize = bufferSize;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+        this.history = new ArrayDeque<Event>(historySize);
+        this.writers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(), daemons("member-changes-"));
+        this.deadlines = new ScheduledThreadPoolExecutor(1, daemons("member-changes-deadline-"));
+        this.deadlines.setRemoveOnCancelPolicy(true);
+        this.completions = Executors.newCachedThreadPool(daemons("member-changes-completion-"));
+    }
+
+    /**
+     * Creates the daemon threads of one of the pools.
+     * @param prefix prefix of the thread names
+     * @return the thread factory
+     */
+    private static ThreadFactory daemons(String prefix) {
+        final AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Publishes a change to the history and to every subscriber.
+     * @param type kind of change
+     * @param id id of the changed member, or null when the change is not about one member
+     * @param member new state of the member, or null when it was deleted
+     */
+    public void publish(MemberChange.Type type, Integer id, Member member) {
+        Event event;
+        synchronized (this) {
+            event = new Event(++sequence, new MemberChange(token(sequence), type, id, member));
+            if (history.size() == historySize)
+                history.removeFirst();
+            history.addLast(event);
+            for (Subscriber subscriber : subscribers)
+                subscriber.offer(event);
+        }
+        event.json();
+    }
+
+    /**
+     * Subscribes to the changes after the given token.
+     * The changes still in the history are replayed first. When the token is unknown,
+     * or too old for the history, a resync change is sent first instead.
+     * @param emitter emitter of the subscriber, server-sent events or newline delimited JSON
+     * @param after token of the last change received, or null to receive only new changes
+     */
+    public synchronized void subscribe(ResponseBodyEmitter emitter, String after) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+
+        if (after != null) {
+            List<Event> missed = missedAfter(after);
+            if (missed == null || missed.size() > bufferSize)
+                subscriber.offer(new Event(sequence, new MemberChange(token(sequence), MemberChange.Type.RESYNC, null, null)));
+            else
+                for (Event event : missed)
+                    subscriber.offer(event);
+        }
+        subscribers.add(subscriber);
+        gymnasium.llog.debug("Change feed subscribed after {}, {} subscribers", after, subscribers.size());
+    }
+
+    /**
+     * Gets the number of connected subscribers.
+     * @return the subscriber count
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Ends the stream of every subscriber, which may subscribe again afterwards.
+     */
+    public void disconnect() {
+        for (Subscriber subscriber : subscribers)
+            completions.execute(subscriber.emitter::complete);
+    }
+
+    /**
+     * Disconnects every subscriber and stops the writers.
+     */
+    @PreDestroy
+    public void close() {
+        disconnect();
+        writers.shutdown();
+        deadlines.shutdownNow();
+        completions.shutdown();
+    }
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        List<Metric<?>> metrics = new ArrayList<Metric<?>>(2);
+        metrics.add(new Metric<Integer>("member.changes.subscribers", subscribers.size()));
+        metrics.add(new Metric<Long>("member.changes.dropped", dropped.get()));
+        return metrics;
+    }
+
+    /**
+     * Finds the changes published after the given token. Must be called holding the lock.
+     * @param after token of the last change received
+     * @return the changes after it, oldest first, or null if they are not all in the history
+     */
+    private List<Event> missedAfter(String after) {
+        int separator = after.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(after.substring(0, separator)))
+            return null;
+        long last;
+        try {
+            last = Long.parseLong(after.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long oldest = history.isEmpty() ? sequence + 1 : history.getFirst().sequence;
+        if (last > sequence || last < oldest - 1)
+            return null;
+
+        List<Event> missed = new ArrayList<Event>((int) (sequence - last));
+        for (Iterator<Event> events = history.descendingIterator(); events.hasNext(); ) {
+            Event event = events.next();
+            if (event.sequence <= last)
+                break;
+            missed.add(0, event);
+        }
+        return missed;
+    }
+
+    /**
+     * Builds the token of a sequence number.
+     * @param sequence the sequence number
+     * @return the token
+     */
+    private String token(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * Moves the size of the writer pool, up when a thread is stuck in a write and down when the write ends.
+     * @param delta the number of threads to add or remove
+     */
+    private void resizeWriters(int delta) {
+        synchronized (writers) {
+            int size = writers.getMaximumPoolSize() + delta;
+            if (delta > 0) {
+                writers.setMaximumPoolSize(size);
+                writers.setCorePoolSize(size);
+            } else {
+                writers.setCorePoolSize(size);
+                writers.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+    /**
+     * A published change with its JSON, written once for every subscriber.
+     */
+    private class Event {
+        final long sequence;
+        final MemberChange change;
+        private volatile String json;
+
+        Event(long sequence, MemberChange change) {
+            this.sequence = sequence;
+            this.change = change;
+        }
+
+        /**
+         * Gets the JSON of the change, writing it on the first call. Calls at once may both write it.
+         * @return the JSON object
+         */
+        String json() {
+            String written = json;
+            if (written == null) {
+                try {
+                    written = mapper.writeValueAsString(change);
+                } catch (JsonProcessingException e) {
+                    throw new UncheckedIOException(e);
+                }
+                json = written;
+            }
+            return written;
+        }
+    }
+
+    /**
+     * A connected subscriber with the changes waiting to be written to it.
+     */
+    private class Subscriber {
+
+        /**
+         * Emitter of the subscriber's response.
+         */
+        final ResponseBodyEmitter emitter;
+
+        /**
+         * Changes waiting to be written.
+         */
+        final Queue<Event> queue = new ArrayBlockingQueue<Event>(bufferSize);
+
+        /**
+         * Whether a drain of the queue is submitted to the writers.
+         */
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        /**
+         * State of the writes: idle, writing, or past the deadline of a write.
+         */
+        final AtomicInteger state = new AtomicInteger(IDLE);
+
+        Subscriber(ResponseBodyEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queues a change and makes sure the queue gets drained.
+         * A subscriber whose queue is full is disconnected.
+         * @param event the change
+         */
+        void offer(Event event) {
+            if (!queue.offer(event)) {
+                gymnasium.llog.warn("Change feed subscriber is too slow, disconnecting it");
+                disconnect();
+                return;
+            }
+            if (scheduled.compareAndSet(false, true))
+                writers.execute(this::drain);
+        }
+
+        /**
+         * Writes the queued changes, then reschedules if a change was queued meanwhile.
+         */
+        void drain() {
+            try {
+                for (Event event = queue.poll(); event != null; event = queue.poll())
+                    write(event);
+            } catch (IOException | IllegalStateException | UncheckedIOException e) {
+                close();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true))
+                writers.execute(this::drain);
+        }
+
+        /**
+         * Writes one change, as a server-sent event named after its type or as one JSON line,
+         * within the write deadline.
+         * @param event the change
+         * @throws IOException if the subscriber went away
+         */
+        void write(Event event) throws IOException {
+            if (!state.compareAndSet(IDLE, WRITING))
+                throw new IllegalStateException("Change feed subscriber is disconnected");
+            Future<?> deadline = deadlines.schedule(this::expire, writeTimeoutMillis, TimeUnit.MILLISECONDS);
+            try {
+                if (emitter instanceof SseEmitter)
+                    ((SseEmitter) emitter).send(SseEmitter.event()
+                            .id(event.change.getToken())
+                            .name(event.change.getType().name().toLowerCase())
+                            .data(event.json()));
+                else
+                    emitter.send((event.json() + "\n").getBytes(StandardCharsets.UTF_8));
+            } finally {
+                deadline.cancel(false);
+                if (!state.compareAndSet(WRITING, IDLE))
+                    resizeWriters(-1);
+            }
+        }
+
+        /**
+         * Disconnects the subscriber whose write passed its deadline, and gives the writers a thread
+         * in place of the one stuck in the write.
+         */
+        void expire() {
+            if (!state.compareAndSet(WRITING, EXPIRED))
+                return;
+            resizeWriters(1);
+            gymnasium.llog.warn("Change feed subscriber did not take a change within {} ms, disconnecting it",
+                    writeTimeoutMillis);
+            disconnect();
+        }
+
+        /**
+         * Stops sending changes to the subscriber and completes its response, so that it resumes from its last token.
+         */
+        void disconnect() {
+            dropped.incrementAndGet();
+            close();
+            completions.execute(emitter::complete);
+        }
+
+        /**
+         * Stops sending changes to the subscriber.
+         */
+        void close() {
+            subscribers.remove(this);
+            queue.clear();
+        }
+    }
+}
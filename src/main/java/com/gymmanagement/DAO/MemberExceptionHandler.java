@@ -0,0 +1,88 @@
+package com.gymmanagement.DAO;
+
+import com.gymmanagement.GymApplication;
+import com.gymmanagement.Interface.MemberIdsExhaustedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Maps the exceptions shared by the member controllers to responses.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@ControllerAdvice
+public class MemberExceptionHandler {
+
+    /**
+     * The application object used to access logger object.
+     */
+    GymApplication gymnasium;
+    /**
+     * Counters of the request outcomes.
+     */
+    @Autowired
+    MemberMetrics metrics;
+
+    /**
+     * Answers a request with invalid parameters, such as a search no index can serve
+     * or an unknown field, with 400 Bad Request. Other illegal arguments are bugs, left to the default 500.
+     * @param e the reason of the rejection
+     * @return the reason
+     */
+    @ExceptionHandler(InvalidMemberRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public String rejectRequest(InvalidMemberRequestException e) {
+        gymnasium.llog.error("Request rejected: {}", e.getMessage());
+        return e.getMessage();
+    }
+
+    /**
+     * Answers a write which breaks the unique contact number index with 409 Conflict.
+     * @param e the duplicate key error
+     * @return message related to the conflict
+     */
+    @ExceptionHandler(DuplicateKeyException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ResponseBody
+    public String duplicateContactNo(DuplicateKeyException e) {
+        metrics.count(MemberMetrics.DUPLICATE);
+        gymnasium.llog.error("Contact number already in use! :/");
+        return "Contact number already in use! :/";
+    }
+
+    /**
+     * Answers a create which cannot be given an id, since every id was allocated, with 507 Insufficient Storage.
+     * @param e the reason of the rejection
+     * @return the reason
+     */
+    @ExceptionHandler(MemberIdsExhaustedException.class)
+    @ResponseStatus(HttpStatus.INSUFFICIENT_STORAGE)
+    @ResponseBody
+    public String idsExhausted(MemberIdsExhaustedException e) {
+        gymnasium.llog.error("Member rejected: {}", e.getMessage());
+        return e.getMessage();
+    }
+
+    /**
+     * Answers a request shed by the admission control with 429 Too Many Requests when the queue of its endpoint
+     * was full, or 503 Service Unavailable when it waited too long, telling the client when to retry.
+     * @param e the reason of the rejection
+     * @return the reason, with a Retry-After header
+     */
+    @ExceptionHandler(MemberOverloadedException.class)
+    public ResponseEntity<String> overloaded(MemberOverloadedException e) {
+        gymnasium.llog.warn("Request shed: {}", e.getMessage());
+        return ResponseEntity.status(e.isQueueFull() ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getMessage());
+    }
+}
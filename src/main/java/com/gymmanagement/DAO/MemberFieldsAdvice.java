@@ -0,0 +1,84 @@
+package com.gymmanagement.DAO;
+
+import com.gymmanagement.beans.MemberFields;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Gives handlers the {@link MemberFields} requested with the fields parameter,
+ * and writes only those fields of the members in their response.
+ * Handlers which do not declare a MemberFields argument always write every field.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@ControllerAdvice
+public class MemberFieldsAdvice implements HandlerMethodArgumentResolver, ResponseBodyAdvice<Object> {
+
+    /**
+     * Name of the request parameter listing the fields.
+     */
+    public static final String FIELDS_PARAMETER = "fields";
+
+    /**
+     * Request attribute holding the fields resolved for the handler, kept across async dispatches.
+     */
+    private static final String FIELDS_ATTRIBUTE = MemberFields.class.getName();
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return MemberFields.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public MemberFields resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                        NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        MemberFields fields;
+        try {
+            fields = MemberFields.parse(webRequest.getParameter(FIELDS_PARAMETER));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidMemberRequestException(e.getMessage());
+        }
+        if (!fields.isAll())
+            webRequest.setAttribute(FIELDS_ATTRIBUTE, fields, RequestAttributes.SCOPE_REQUEST);
+        return fields;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    /**
+     * Sets the filter of the requested fields on the body.
+     * A missing body is left alone, so a member which does not exist is still answered with an empty body.
+     */
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest))
+            return body;
+        Object fields = ((ServletServerHttpRequest) request).getServletRequest().getAttribute(FIELDS_ATTRIBUTE);
+        if (fields == null)
+            return body;
+
+        MappingJacksonValue value = body instanceof MappingJacksonValue
+                ? (MappingJacksonValue) body : new MappingJacksonValue(body);
+        value.setFilters(((MemberFields) fields).filters());
+        return value;
+    }
+}
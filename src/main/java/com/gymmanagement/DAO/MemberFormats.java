@@ -0,0 +1,107 @@
+package com.gymmanagement.DAO;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The binary formats members can be exchanged in besides JSON: Smile and CBOR.
+ * Their object mappers are built by the same builder as the application object mapper,
+ * with the spring.jackson.* properties and the registered modules, so members look the same in every format.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+public class MemberFormats {
+
+    /**
+     * Media type of Smile, binary JSON.
+     */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * Media type of CBOR, the Concise Binary Object Representation.
+     */
+    public static final String APPLICATION_CBOR_VALUE = "application/cbor";
+
+    /**
+     * Media type of Smile.
+     */
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    /**
+     * Media type of CBOR.
+     */
+    public static final MediaType APPLICATION_CBOR = MediaType.valueOf(APPLICATION_CBOR_VALUE);
+
+    /**
+     * Object mapper reading and writing Smile.
+     */
+    private final ObjectMapper smile;
+
+    /**
+     * Object mapper reading and writing CBOR.
+     */
+    private final ObjectMapper cbor;
+
+    /**
+     * Creates the binary object mappers.
+     * @param builders the application object mapper builder, a new one for every mapper
+     */
+    @Autowired
+    public MemberFormats(ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        this.smile = new ObjectMapper(new SmileFactory());
+        this.cbor = new ObjectMapper(new CBORFactory());
+        builders.getObject().configure(smile);
+        builders.getObject().configure(cbor);
+    }
+
+    /**
+     * Gets the object mapper of a binary format.
+     * @param contentType media type of the payload
+     * @return the mapper, or null if the media type is not a binary member format
+     */
+    public ObjectMapper binaryMapper(MediaType contentType) {
+        if (contentType == null)
+            return null;
+        if (APPLICATION_SMILE.includes(contentType))
+            return smile;
+        if (APPLICATION_CBOR.includes(contentType))
+            return cbor;
+        return null;
+    }
+
+    /**
+     * Creates the message converters of the binary formats.
+     * They must come after the JSON converter, so that JSON stays the default.
+     * @return the converters
+     */
+    public List<HttpMessageConverter<?>> converters() {
+        return Arrays.<HttpMessageConverter<?>>asList(
+                new BinaryJacksonHttpMessageConverter(smile, APPLICATION_SMILE),
+                new BinaryJacksonHttpMessageConverter(cbor, APPLICATION_CBOR));
+    }
+
+    /**
+     * Message converter reading and writing a binary format with Jackson.
+     */
+    static class BinaryJacksonHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+        BinaryJacksonHttpMessageConverter(ObjectMapper mapper, MediaType mediaType) {
+            super(mapper, mediaType);
+            // binary payloads have no charset
+            setDefaultCharset(null);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.gymmanagement.DAO;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.SortedMap;
+
+/**
+ * The member metrics kept in the Dropwizard registry, which the actuator publishes on /metrics:
+ * a timer per endpoint, member.http.&lt;handler&gt;, and counters of request outcomes, member.outcome.&lt;outcome&gt;.
+ * The repository timers are kept by {@link com.gymmanagement.Interface.RepositoryMetricsPostProcessor}.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+public class MemberMetrics {
+
+    /**
+     * Prefix of the endpoint timers.
+     */
+    public static final String HTTP_PREFIX = "member.http.";
+
+    /**
+     * Prefix of the outcome counters.
+     */
+    public static final String OUTCOME_PREFIX = "member.outcome.";
+
+    /**
+     * Outcome of a member which was not enrolled because its id or contact number is taken.
+     */
+    public static final String DUPLICATE = "duplicate";
+
+    /**
+     * Outcome of a member which was rejected by the validation constraints.
+     */
+    public static final String VALIDATION_FAILED = "validation.failed";
+
+    /**
+     * Outcome of a request which was shed because its endpoint had too many requests in flight.
+     */
+    public static final String OVERLOADED = "overloaded";
+
+    /**
+     * Registry holding the timers and counters.
+     */
+    private final MetricRegistry registry;
+
+    @Autowired
+    public MemberMetrics(MetricRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Gets the timer of an endpoint.
+     * @param handler name of the handler method
+     * @return the timer
+     */
+    public Timer httpTimer(String handler) {
+        return registry.timer(HTTP_PREFIX + handler);
+    }
+
+    /**
+     * Counts one request outcome.
+     * @param outcome the outcome, such as {@link #DUPLICATE}
+     */
+    public void count(String outcome) {
+        count(outcome, 1);
+    }
+
+    /**
+     * Counts request outcomes.
+     * @param outcome the outcome, such as {@link #DUPLICATE}
+     * @param n number of occurrences
+     */
+    public void count(String outcome, long n) {
+        if (n > 0)
+            registry.counter(OUTCOME_PREFIX + outcome).inc(n);
+    }
+
+    /**
+     * Gets the timers whose name starts with the prefix.
+     * @param prefix such as {@link #HTTP_PREFIX}
+     * @return the timers by name
+     */
+    public SortedMap<String, Timer> timers(String prefix) {
+        return registry.getTimers(startingWith(prefix));
+    }
+
+    /**
+     * Gets the outcome counters.
+     * @return the counters by name
+     */
+    public SortedMap<String, Counter> outcomes() {
+        return registry.getCounters(startingWith(OUTCOME_PREFIX));
+    }
+
+    private static MetricFilter startingWith(final String prefix) {
+        return (name, metric) -> name.startsWith(prefix);
+    }
+}
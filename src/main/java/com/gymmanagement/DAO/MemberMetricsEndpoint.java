@@ -0,0 +1,89 @@
+package com.gymmanagement.DAO;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.gymmanagement.Interface.RepositoryMetricsPostProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.AbstractEndpoint;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint /memberMetrics, summing up where the time of the member requests goes:
+ * the latency percentiles of every endpoint next to those of every Mongo operation,
+ * in milliseconds, with the cache and outcome counts.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+public class MemberMetricsEndpoint extends AbstractEndpoint<Map<String, Object>> {
+
+    /**
+     * Nanoseconds in a millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1000000.0;
+
+    /**
+     * The member timers and counters.
+     */
+    @Autowired
+    MemberMetrics metrics;
+    /**
+     * Cache of members by id.
+     */
+    @Autowired
+    MemberCache cache;
+
+    public MemberMetricsEndpoint() {
+        super("memberMetrics");
+    }
+
+    @Override
+    public Map<String, Object> invoke() {
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put("http", summarize(metrics.timers(MemberMetrics.HTTP_PREFIX), MemberMetrics.HTTP_PREFIX));
+        result.put("mongo", summarize(metrics.timers(RepositoryMetricsPostProcessor.TIMER_PREFIX),
+                RepositoryMetricsPostProcessor.TIMER_PREFIX));
+
+        Map<String, Object> outcomes = new LinkedHashMap<String, Object>();
+        for (Map.Entry<String, Counter> counter : metrics.outcomes().entrySet())
+            outcomes.put(counter.getKey().substring(MemberMetrics.OUTCOME_PREFIX.length()), counter.getValue().getCount());
+        result.put("outcomes", outcomes);
+
+        CacheStats stats = cache.stats();
+        Map<String, Object> cacheCounts = new LinkedHashMap<String, Object>();
+        cacheCounts.put("hits", stats.hitCount());
+        cacheCounts.put("misses", stats.missCount());
+        cacheCounts.put("evictions", stats.evictionCount());
+        cacheCounts.put("hitRatio", stats.hitRate());
+        result.put("cache", cacheCounts);
+        return result;
+    }
+
+    /**
+     * Summarizes each timer by its count and latency percentiles.
+     * @param timers the timers by name
+     * @param prefix prefix removed from the names
+     * @return the summaries by short name
+     */
+    private Map<String, Object> summarize(Map<String, Timer> timers, String prefix) {
+        Map<String, Object> summaries = new LinkedHashMap<String, Object>();
+        for (Map.Entry<String, Timer> timer : timers.entrySet()) {
+            Snapshot snapshot = timer.getValue().getSnapshot();
+            Map<String, Object> summary = new LinkedHashMap<String, Object>();
+            summary.put("count", timer.getValue().getCount());
+            summary.put("mean", snapshot.getMean() / NANOS_PER_MILLI);
+            summary.put("p50", snapshot.getMedian() / NANOS_PER_MILLI);
+            summary.put("p95", snapshot.get95thPercentile() / NANOS_PER_MILLI);
+            summary.put("p99", snapshot.get99thPercentile() / NANOS_PER_MILLI);
+            summary.put("max", snapshot.getMax() / NANOS_PER_MILLI);
+            summaries.put(timer.getKey().substring(prefix.length()), summary);
+        }
+        return summaries;
+    }
+}
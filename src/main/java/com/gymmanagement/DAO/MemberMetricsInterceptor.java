@@ -0,0 +1,74 @@
+package com.gymmanagement.DAO;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every member endpoint from the start of the request until the response is complete,
+ * including the time an asynchronous handler waits for its result,
+ * and counts the requests rejected by validation.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+public class MemberMetricsInterceptor extends HandlerInterceptorAdapter implements HandlerExceptionResolver, Ordered {
+
+    /**
+     * Request attribute holding the start time, kept across async dispatches.
+     */
+    private static final String START_ATTRIBUTE = MemberMetricsInterceptor.class.getName() + ".start";
+
+    /**
+     * The member timers and counters.
+     */
+    @Autowired
+    MemberMetrics metrics;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) == null)
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start == null || !(handler instanceof HandlerMethod))
+            return;
+        metrics.httpTimer(((HandlerMethod) handler).getMethod().getName())
+                .update(System.nanoTime() - (Long) start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Runs before the resolvers which handle exceptions, so every exception is seen.
+     * @return the highest precedence
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * Counts the validation failures, leaving the exception to the other resolvers.
+     * @return always null
+     */
+    @Override
+    public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (ex instanceof MethodArgumentNotValidException || ex instanceof BindException)
+            metrics.count(MemberMetrics.VALIDATION_FAILED);
+        return null;
+    }
+}
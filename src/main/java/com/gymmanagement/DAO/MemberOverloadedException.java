@@ -0,0 +1,31 @@
+package com.gymmanagement.DAO;
+
+/**
+ * Thrown by {@link MemberAdmissionControl} when a request is shed instead of being served.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class MemberOverloadedException extends RuntimeException {
+
+    private final boolean queueFull;
+    private final long retryAfterSeconds;
+
+    /**
+     * @param queueFull true if the queue of the endpoint was full, false if the request waited too long in it
+     * @param retryAfterSeconds seconds after which the request may be sent again
+     */
+    public MemberOverloadedException(boolean queueFull, long retryAfterSeconds) {
+        super(queueFull ? "Too many requests, retry later" : "Server busy, retry later");
+        this.queueFull = queueFull;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public boolean isQueueFull() {
+        return queueFull;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,182 @@
+package com.gymmanagement.DAO;
+
+import com.gymmanagement.GymApplication;
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberChange;
+import com.gymmanagement.beans.MemberFields;
+import com.gymmanagement.beans.MemberPurge;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the purges of the member collection in the background, one at a time, so that the request asking
+ * for one returns at once whatever the number of members. A purge first swaps the collection for an empty one;
+ * when that fails, e.g. for a database user not allowed to drop collections, the members are deleted
+ * member.purge.batch-size ids at a time, and the progress can be polled between two batches.
+ * The last purges are kept to be polled after they finish.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+public class MemberPurges {
+
+    /**
+     * Number of purges kept to be polled.
+     */
+    static final int KEPT_PURGES = 20;
+
+    /**
+     * This creates a reference for IRepository interface.
+     */
+    @Autowired
+    IRepository db;
+    /**
+     * Cache of members by id, invalidated by every purge.
+     */
+    @Autowired
+    MemberCache cache;
+    /**
+     * Feed the purges are published to.
+     */
+    @Autowired
+    MemberChangeFeed changes;
+    /**
+     * Mover of the collection revision, after every write.
+     */
+    @Autowired
+    MemberRevisions revisions;
+    /**
+     * The application object used to access logger object.
+     */
+    GymApplication gymnasium;
+
+    /**
+     * Number of members deleted at once when the collection cannot be swapped.
+     */
+    private final int batchSize;
+
+    /**
+     * Thread running the purges.
+     */
+    private final ExecutorService worker;
+
+    /**
+     * The last purges by id, oldest first.
+     */
+    private final Map<String, MemberPurge> purges = new LinkedHashMap<String, MemberPurge>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MemberPurge> eldest) {
+            return size() > KEPT_PURGES;
+        }
+    };
+
+    /**
+     * The last purge submitted, or null.
+     */
+    private MemberPurge last;
+
+    @Autowired
+    public MemberPurges(@Value("${member.purge.batch-size:1000}") int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("member.purge.batch-size must be positive: " + batchSize);
+        this.batchSize = batchSize;
+        this.worker = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "member-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts a purge, unless one is already queued or running, since it deletes the same members.
+     * @return the new purge, or the one which has not finished yet
+     */
+    public synchronized MemberPurge submit() {
+        if (last != null && !last.hasFinished())
+            return last;
+        final MemberPurge purge = new MemberPurge(UUID.randomUUID().toString(), System.currentTimeMillis());
+        purges.put(purge.getId(), purge);
+        last = purge;
+        worker.execute(() -> run(purge));
+        return purge;
+    }
+
+    /**
+     * @param id id of a purge
+     * @return the purge, or null if it is unknown or was forgotten
+     */
+    public synchronized MemberPurge get(String id) {
+        return purges.get(id);
+    }
+
+    @PreDestroy
+    public void close() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Deletes every member, then tells the cache and the subscribers, even when the purge failed
+     * after some members were deleted. The purge is only marked finished once they were told,
+     * so a client polling it never reads a member of the old collection from the cache.
+     * @param purge the purge
+     */
+    private void run(MemberPurge purge) {
+        purge.setStarted(System.currentTimeMillis());
+        purge.setStatus(MemberPurge.Status.RUNNING);
+        boolean failed = false;
+        try {
+            purge.setTotal(db.count());
+            try {
+                purge.setMethod(MemberPurge.Method.TRUNCATE);
+                purge.setDeleted(db.truncate());
+            } catch (DataAccessException e) {
+                gymnasium.llog.warn("Cannot swap the member collection, deleting the members in batches: {}", e.getMessage());
+                purge.setMethod(MemberPurge.Method.BATCHES);
+                deleteInBatches(purge);
+            }
+            gymnasium.llog.debug("Purge {} deleted {} members", purge.getId(), purge.getDeleted());
+        } catch (RuntimeException e) {
+            gymnasium.llog.error("Purge " + purge.getId() + " failed", e);
+            purge.setMessage(e.getMessage());
+            failed = true;
+        }
+        try {
+            cache.invalidateAll();
+            revisions.next();
+            changes.publish(MemberChange.Type.CLEARED, null, null);
+        } finally {
+            purge.setFinished(System.currentTimeMillis());
+            purge.setStatus(failed ? MemberPurge.Status.FAILED : MemberPurge.Status.DONE);
+        }
+    }
+
+    /**
+     * Deletes the members one page of ids at a time, from the lowest id, until none is left.
+     * @param purge the purge, whose progress is updated after every batch
+     */
+    private void deleteInBatches(MemberPurge purge) {
+        MemberFields ids = MemberFields.parse("id");
+        List<Member> batch;
+        while (!(batch = db.findPage(null, batchSize, ids)).isEmpty()) {
+            List<Integer> deleted = new ArrayList<Integer>(batch.size());
+            for (Member member : batch)
+                deleted.add(member.getId());
+            purge.setDeleted(purge.getDeleted() + db.deleteMany(deleted));
+            for (Integer id : deleted)
+                cache.invalidate(id);
+        }
+    }
+}
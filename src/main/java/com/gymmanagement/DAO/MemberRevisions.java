@@ -0,0 +1,114 @@
+package com.gymmanagement.DAO;
+
+import com.gymmanagement.GymApplication;
+import com.gymmanagement.Interface.IRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Moves the revision of the member collection forward after the writes, and builds the ETags from it.
+ * The write is already stored when the revision moves, so the move is tried again a few times
+ * rather than failing the request. When it still fails the revision is no longer known to match the members:
+ * the epoch of this process, which every ETag carries, moves forward instead,
+ * so the ETags given out before the write no longer match.
+ * The epoch starts from the time of the start, so that it also moves forward across restarts.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+public class MemberRevisions {
+
+    /**
+     * This creates a reference for IRepository interface.
+     */
+    @Autowired
+    IRepository db;
+    /**
+     * The application object used to access logger object.
+     */
+    GymApplication gymnasium;
+
+    /**
+     * Number of times the revision is tried to be moved after a write.
+     */
+    private final int attempts;
+
+    /**
+     * Epoch of the revisions in this process, moved forward when a revision could not be moved.
+     */
+    private final AtomicLong epoch = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    public MemberRevisions(@Value("${member.revision.attempts:3}") int attempts) {
+        if (attempts < 1)
+            throw new IllegalArgumentException("member.revision.attempts must be positive: " + attempts);
+        this.attempts = attempts;
+    }
+
+    /**
+     * Builds the tag of a revision of the collection, to be made an ETag.
+     * The epoch is read along with the revision, before the members.
+     * @param revision the revision read before the members
+     * @return the tag
+     */
+    public String tag(long revision) {
+        return "r" + revision + "." + Long.toString(epoch.get(), 36);
+    }
+
+    /**
+     * Moves the revision forward, or the epoch if the revision cannot be moved.
+     */
+    public void next() {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                db.nextRevision();
+                return;
+            } catch (DataAccessException e) {
+                if (attempt == attempts) {
+                    failed(e);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the revision forward without blocking, or the epoch if the revision cannot be moved.
+     * @param move the asynchronous move of the revision
+     * @return completes with the new revision, or null if only the epoch moved
+     */
+    public CompletableFuture<Long> next(Supplier<CompletableFuture<Long>> move) {
+        return next(move, attempts);
+    }
+
+    private CompletableFuture<Long> next(Supplier<CompletableFuture<Long>> move, int left) {
+        return move.get().handle((revision, t) -> {
+            if (t == null)
+                return CompletableFuture.completedFuture(revision);
+            if (left > 1)
+                return next(move, left - 1);
+            failed(t);
+            return CompletableFuture.<Long>completedFuture(null);
+        }).thenCompose(moved -> moved);
+    }
+
+    /**
+     * Moves the epoch forward after a revision which could not be moved, and logs it.
+     * @param t the failure
+     */
+    private void failed(Throwable t) {
+        epoch.incrementAndGet();
+        if (t instanceof CompletionException && t.getCause() != null)
+            t = t.getCause();
+        gymnasium.llog.warn("Cannot move the member revision forward after {} attempts, moved the ETag epoch instead: {}",
+                attempts, t.getMessage());
+    }
+}
@@ -0,0 +1,158 @@
+package com.gymmanagement.DAO;
+
+import com.gymmanagement.GymApplication;
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.Interface.MemberSnapshot;
+import com.gymmanagement.beans.Member;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the member collection into a {@link MemberSnapshot} file, and warms the member cache from it at boot,
+ * so that the first lookups by id after a restart do not all go to Mongo.
+ * The cache is warmed with the members as they were at the export, so the warm start is only allowed together
+ * with the export at shutdown, and is skipped when the revision of the collection moved since the export,
+ * as it does when another instance writes to the collection between the export and the boot.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+public class MemberSnapshots {
+
+    /**
+     * This creates a reference for IRepository interface.
+     */
+    @Autowired
+    IRepository db;
+    /**
+     * Cache of members by id, warmed from the snapshot.
+     */
+    @Autowired
+    MemberCache cache;
+    /**
+     * The application object used to access logger object.
+     */
+    GymApplication gymnasium;
+
+    /**
+     * The snapshot file.
+     */
+    private final Path path;
+
+    /**
+     * Whether the cache is warmed from the snapshot once the application is ready.
+     */
+    private final boolean warmOnStart;
+
+    /**
+     * Whether the collection is exported when the application stops.
+     */
+    private final boolean exportOnStop;
+
+    @Autowired
+    public MemberSnapshots(@Value("${member.snapshot.path:members.snapshot}") String path,
+                           @Value("${member.snapshot.warm-on-start:false}") boolean warmOnStart,
+                           @Value("${member.snapshot.export-on-stop:false}") boolean exportOnStop) {
+        if (warmOnStart && !exportOnStop)
+            throw new IllegalArgumentException("member.snapshot.warm-on-start needs member.snapshot.export-on-stop, "
+                    + "otherwise the cache is warmed with the members of an older export");
+        this.path = Paths.get(path);
+        this.warmOnStart = warmOnStart;
+        this.exportOnStop = exportOnStop;
+    }
+
+    /**
+     * Streams the member collection into the snapshot file, with the revision of the collection read before.
+     * The file is written aside and then moved over the previous snapshot, so a reader never sees a partial snapshot.
+     * @return the number of members, the size of the file and the time taken
+     * @throws IOException If the file cannot be written
+     */
+    public synchronized Map<String, Object> export() throws IOException {
+        long start = System.nanoTime();
+        Path written = path.resolveSibling(path.getFileName() + ".tmp");
+        long revision = db.revision();
+        long members;
+        try (CloseableIterator<Member> all = db.streamAfter(null)) {
+            members = MemberSnapshot.write(all, written, revision);
+        }
+        Files.move(written, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        gymnasium.llog.info("Exported {} Members into {} in {} ms", members, path, millis);
+
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put("path", path.toString());
+        result.put("members", members);
+        result.put("bytes", Files.size(path));
+        result.put("millis", millis);
+        return result;
+    }
+
+    /**
+     * Puts the members of the snapshot file into the cache, up to its maximum size.
+     * Members written since the warm-up started are not overwritten, and the warm-up stops caching
+     * as soon as a member is written or deleted.
+     * @return the number of members read from the snapshot
+     * @throws IOException If the file cannot be read or is not a snapshot
+     */
+    public long warm() throws IOException {
+        long start = System.nanoTime();
+        long generation = cache.generation();
+        long members = MemberSnapshot.read(path, cache.maximumSize(),
+                member -> cache.putIfCurrent(member.getId(), member, generation));
+        gymnasium.llog.info("Warmed the member cache with {} Members from {} in {} ms", members, path,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return members;
+    }
+
+    /**
+     * Warms the cache once the application is ready, if enabled and a snapshot exists
+     * at the current revision of the collection.
+     * A snapshot which cannot be read, or which is older than the collection, only leaves the cache cold.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmOnStart() {
+        if (!warmOnStart || !Files.exists(path))
+            return;
+        try {
+            long exported = MemberSnapshot.revision(path);
+            long revision = db.revision();
+            if (exported == MemberSnapshot.UNKNOWN_REVISION || exported != revision) {
+                gymnasium.llog.info("Member cache not warmed: {} was exported at revision {}, the members are at {}",
+                        path, exported, revision);
+                return;
+            }
+            warm();
+        } catch (IOException | RuntimeException e) {
+            gymnasium.llog.warn("Member cache not warmed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Exports the collection when the application stops, if enabled, for the next warm start.
+     */
+    @PreDestroy
+    public void exportOnStop() {
+        if (!exportOnStop)
+            return;
+        try {
+            export();
+        } catch (IOException | RuntimeException e) {
+            gymnasium.llog.warn("Members not exported at shutdown: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.gymmanagement.DAO;
+
+import com.gymmanagement.beans.Member;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.InitBinder;
+
+import javax.validation.constraints.Pattern;
+import java.io.Serializable;
+
+/**
+ * Checks the constraints declared on {@link Member} without Bean Validation.
+ * Every constraint is a plain loop or comparison, so a valid member is checked without
+ * reflection, regular expressions or allocation. An invalid member gets the same errors,
+ * with the same codes, arguments and messages, as Hibernate Validator gives through Spring.
+ * It replaces the validator of every member request body, so @Validated members are checked by it,
+ * and the bulk enrollment uses it directly.
+ * The constraints must be kept in step with the annotations on Member.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@ControllerAdvice
+public class MemberValidator implements Validator {
+
+    /**
+     * Flags of the @Pattern constraints, none.
+     */
+    private static final Pattern.Flag[] NO_FLAGS = new Pattern.Flag[0];
+
+    /**
+     * Installs this validator on the binders of member request bodies.
+     * @param binder binder of a handler argument named member
+     */
+    @InitBinder("member")
+    public void initBinder(WebDataBinder binder) {
+        if (binder.getTarget() instanceof Member)
+            binder.replaceValidators(this);
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return Member.class.equals(type);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        Member member = (Member) target;
+
+        if (!digits(member.getId(), 5))
+            rejectDigits(errors, "id", 5);
+
+        if (member.getFirstName() == null)
+            rejectNull(errors, "firstName");
+        else if (!letters(member.getFirstName(), 1))
+            rejectPattern(errors, "firstName", "[A-Za-z]+");
+
+        if (member.getLastName() != null && !letters(member.getLastName(), 0))
+            rejectPattern(errors, "lastName", "[A-Za-z]*");
+
+        if (member.getAddress() == null)
+            rejectNull(errors, "address");
+
+        if (!digits(member.getAge(), 2))
+            rejectDigits(errors, "age", 2);
+        if (member.getAge() < 10)
+            errors.rejectValue("age", "Min", new Object[]{field(errors, "age"), 10L},
+                    "must be greater than or equal to 10");
+        if (member.getAge() > 70)
+            errors.rejectValue("age", "Max", new Object[]{field(errors, "age"), 70L},
+                    "must be less than or equal to 70");
+
+        String contactNo = member.getContactNo();
+        if (contactNo == null) {
+            rejectNull(errors, "contactNo");
+        } else {
+            if (contactNo.length() != 10)
+                errors.rejectValue("contactNo", "Size", new Object[]{field(errors, "contactNo"), 10, 10},
+                        "size must be between 10 and 10");
+            if (!numerals(contactNo))
+                rejectPattern(errors, "contactNo", "[0-9]+");
+        }
+    }
+
+    /**
+     * Checks @Digits(integer = n, fraction = 0) on an int.
+     * @param value the value
+     * @param integer maximum number of integer digits
+     * @return true if the value has at most that many digits
+     */
+    private static boolean digits(int value, int integer) {
+        long bound = 1;
+        for (int i = 0; i < integer; i++)
+            bound *= 10;
+        return Math.abs((long) value) < bound;
+    }
+
+    /**
+     * Checks @Pattern("[A-Za-z]+") or @Pattern("[A-Za-z]*").
+     * @param value the value
+     * @param minLength 1 for +, 0 for *
+     * @return true if the value only has ASCII letters, and enough of them
+     */
+    private static boolean letters(String value, int minLength) {
+        if (value.length() < minLength)
+            return false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < 'A' || c > 'Z') && (c < 'a' || c > 'z'))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks @Pattern("[0-9]+").
+     * @param value the value
+     * @return true if the value only has ASCII digits, at least one
+     */
+    private static boolean numerals(String value) {
+        if (value.isEmpty())
+            return false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9')
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Rejects a null field as @NotNull does.
+     * @param errors the errors of the member
+     * @param field the field
+     */
+    private static void rejectNull(Errors errors, String field) {
+        errors.rejectValue(field, "NotNull", new Object[]{field(errors, field)}, "may not be null");
+    }
+
+    /**
+     * Rejects a field as @Pattern does.
+     * @param errors the errors of the member
+     * @param field the field
+     * @param regexp the pattern the field must match
+     */
+    private static void rejectPattern(Errors errors, String field, String regexp) {
+        errors.rejectValue(field, "Pattern", new Object[]{field(errors, field), NO_FLAGS, new Attribute(regexp)},
+                "must match \"" + regexp + "\"");
+    }
+
+    /**
+     * Rejects a field as @Digits(fraction = 0) does.
+     * @param errors the errors of the member
+     * @param field the field
+     * @param integer maximum number of integer digits
+     */
+    private static void rejectDigits(Errors errors, String field, int integer) {
+        errors.rejectValue(field, "Digits", new Object[]{field(errors, field), 0, integer},
+                "numeric value out of bounds (<" + integer + " digits>.<0 digits> expected)");
+    }
+
+    /**
+     * Builds the first argument of an error, naming the field as Spring's Bean Validation adapter does.
+     * @param errors the errors of the member
+     * @param field the field
+     * @return the resolvable field name
+     */
+    private static MessageSourceResolvable field(Errors errors, String field) {
+        return new DefaultMessageSourceResolvable(new String[]{errors.getObjectName() + Errors.NESTED_PATH_SEPARATOR + field, field}, field);
+    }
+
+    /**
+     * A string constraint attribute, given as an argument which is not resolved as a message code
+     * by default, like the attributes passed by Spring's Bean Validation adapter.
+     */
+    private static class Attribute implements MessageSourceResolvable, Serializable {
+
+        private final String value;
+
+        Attribute(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String[] getCodes() {
+            return new String[]{value};
+        }
+
+        @Override
+        public Object[] getArguments() {
+            return null;
+        }
+
+        @Override
+        public String getDefaultMessage() {
+            return value;
+        }
+    }
+}
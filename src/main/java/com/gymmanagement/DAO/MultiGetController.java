@@ -0,0 +1,127 @@
+package com.gymmanagement.DAO;
+
+import com.gymmanagement.GymApplication;
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberBatch;
+import com.gymmanagement.beans.MemberFields;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class contains methods to fetch many members of the Gym by id in one request.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@RestController
+@RequestMapping(value = "/member")
+public class MultiGetController {
+
+    /**
+     * This creates a reference for IRepository interface.
+     */
+    @Autowired
+    IRepository db;
+    /**
+     * Cache of members by id, invalidated by every write.
+     */
+    @Autowired
+    MemberCache cache;
+    /**
+     * Source of the ETags, from the revision of the collection.
+     */
+    @Autowired
+    MemberRevisions revisions;
+    /**
+     * The application object used to access logger object.
+     */
+    GymApplication gymnasium;
+
+    /**
+     * This will find the members with the ids given as a comma separated ids parameter.
+     * @param ids ids of the members
+     * @param fields fields to return, from the fields parameter
+     * @param request the request, checked against the ETag
+     * @return the members found in request order, and the ids which do not exist
+     */
+    @RequestMapping(value = "/gymMembersByIds", method = RequestMethod.GET)
+    public ResponseEntity<MemberBatch> getGymMembersByIds(@RequestParam("ids") List<Integer> ids, MemberFields fields,
+                                                          WebRequest request) {
+        return find(ids, fields, request);
+    }
+
+    /**
+     * This will find the members with the ids given as a JSON array, for lists too long for a URL.
+     * @param ids ids of the members
+     * @param fields fields to return, from the fields parameter
+     * @return the members found in request order, and the ids which do not exist
+     */
+    @RequestMapping(value = "/gymMembersByIds", method = RequestMethod.POST)
+    public ResponseEntity<MemberBatch> postGymMembersByIds(@RequestBody List<Integer> ids, MemberFields fields) {
+        return find(ids, fields, null);
+    }
+
+    /**
+     * Finds the members with the given ids. Cached members are used as they are,
+     * the others are read with a single query and cached when all fields are asked for.
+     * An id given twice is answered once.
+     * The ETag is taken from the revision of the collection, as for the member list,
+     * and a GET whose If-None-Match holds it gets a 304 without any member being read.
+     * @param ids ids of the members
+     * @param fields fields to return
+     * @param request the request checked against the ETag, or null for a POST, whose answer is not cached
+     * @return the members found in request order, and the ids which do not exist
+     */
+    private ResponseEntity<MemberBatch> find(List<Integer> ids, MemberFields fields, WebRequest request) {
+        Set<Integer> distinct = new LinkedHashSet<Integer>(ids);
+        if (distinct.contains(null))
+            throw new InvalidMemberRequestException("Member ids cannot be null");
+        if (distinct.size() > Controller.MAX_PAGE_SIZE)
+            throw new InvalidMemberRequestException("At most " + Controller.MAX_PAGE_SIZE + " members can be fetched at once");
+
+        String etag = fields.etag(revisions.tag(db.revision()));
+        if (request != null && request.checkNotModified(etag))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).body(null);
+        Map<Integer, Member> found = new HashMap<Integer, Member>();
+        List<Integer> misses = new ArrayList<Integer>();
+        for (Integer id : distinct) {
+            Member cached = cache.getIfPresent(id);
+            if (cached != null)
+                found.put(id, cached);
+            else
+                misses.add(id);
+        }
+
+        if (!misses.isEmpty()) {
+            long generation = cache.generation();
+            for (Member member : db.findAll(misses, fields)) {
+                found.put(member.getId(), member);
+                if (fields.isAll())
+                    cache.putIfCurrent(member.getId(), member, generation);
+            }
+        }
+
+        MemberBatch batch = new MemberBatch();
+        for (Integer id : distinct) {
+            Member member = found.get(id);
+            if (member != null)
+                batch.addMember(member);
+            else
+                batch.addMissing(id);
+        }
+        gymnasium.llog.debug("Found {} of {} Members, {} from the database",
+                batch.getMembers().size(), distinct.size(), misses.size());
+        return ResponseEntity.ok().eTag(etag).body(batch);
+    }
+}
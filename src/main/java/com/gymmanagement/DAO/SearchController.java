@@ -0,0 +1,56 @@
+package com.gymmanagement.DAO;
+
+import com.gymmanagement.GymApplication;
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberSearch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * This class contains methods to search the members of the Gym by their indexed fields.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@RestController
+@RequestMapping(value = "/member")
+public class SearchController {
+
+    /**
+     * Number of members returned when the search does not give a limit.
+     */
+    static final int DEFAULT_SEARCH_LIMIT = 100;
+
+    /**
+     * This creates a reference for IRepository interface.
+     */
+    @Autowired
+    IRepository db;
+    /**
+     * The application object used to access logger object.
+     */
+    GymApplication gymnasium;
+
+    /**
+     * This will find the members matching the given last name, first name, contact number or age band.
+     * Only searches which an index can serve are accepted, so a search never scans the whole collection.
+     * @param search the criteria, bound from the lastName, firstName, contactNo, minAge and maxAge parameters
+     * @param limit maximum number of members to return
+     * @return the matching members
+     */
+    @RequestMapping(value = "/search", method = RequestMethod.GET)
+    public List<Member> searchGymMembers(MemberSearch search,
+                                         @RequestParam(value = "limit", required = false) Integer limit) {
+        String reason = search.unindexedReason();
+        if (reason != null)
+            throw new InvalidMemberRequestException(reason);
+
+        int size = Math.max(1, Math.min(limit == null ? DEFAULT_SEARCH_LIMIT : limit, Controller.MAX_PAGE_SIZE));
+        List<Member> members = db.search(search, size);
+        gymnasium.llog.debug("Search found {} Members", members.size());
+        return members;
+    }
+}
@@ -0,0 +1,37 @@
+package com.gymmanagement.DAO;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This class contains the method to export all the members of the Gym into a binary snapshot,
+ * which caches and offline reports read without going through Mongo.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@RestController
+@RequestMapping(value = "/member")
+public class SnapshotController {
+
+    /**
+     * The member snapshot.
+     */
+    @Autowired
+    MemberSnapshots snapshots;
+
+    /**
+     * This will write all the members into the snapshot file, replacing the previous snapshot.
+     * @return the snapshot file, its number of members and size in bytes, and the time taken in milliseconds
+     * @throws IOException If the file cannot be written
+     */
+    @RequestMapping(value = "/snapshot", method = RequestMethod.POST)
+    public Map<String, Object> exportSnapshot() throws IOException {
+        return snapshots.export();
+    }
+}
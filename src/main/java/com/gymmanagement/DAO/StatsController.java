@@ -0,0 +1,182 @@
+package com.gymmanagement.DAO;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gymmanagement.GymApplication;
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.beans.MemberStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class contains the method to get statistics of the members of the Gym, computed by Mongo
+ * aggregation pipelines instead of by clients fetching every member.
+ * Only one count per age and per last name leaves Mongo, whatever the number of members.
+ * The statistics are cached with the revision tag of the collection they were computed at,
+ * so they are computed again after a write, or when the revision could not be moved and its epoch moved instead.
+ * The pipelines of a key run once, outside the cache, while the other requests for it wait on their result.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@RestController
+@RequestMapping(value = "/member")
+public class StatsController {
+
+    /**
+     * Largest age band, wide enough to hold every valid age.
+     */
+    static final int MAX_AGE_BAND = 100;
+
+    /**
+     * Most last names a client can ask for.
+     */
+    static final int MAX_LAST_NAMES = 100;
+
+    /**
+     * Most combinations of parameters whose statistics are cached.
+     */
+    private static final int CACHED_STATS = 64;
+
+    /**
+     * This creates a reference for IRepository interface.
+     */
+    @Autowired
+    IRepository db;
+    /**
+     * Source of the revision tags, which the ETags are made of.
+     */
+    @Autowired
+    MemberRevisions revisions;
+    /**
+     * The application object used to access logger object.
+     */
+    GymApplication gymnasium;
+
+    /**
+     * The statistics last computed, or being computed, for every combination of parameters,
+     * with the revision tag they were computed at.
+     */
+    private final Cache<String, Computed> stats;
+
+    /**
+     * Creates the controller.
+     * @param expireAfterWriteSeconds time after which cached statistics are computed again, even at the same revision
+     */
+    @Autowired
+    public StatsController(@Value("${member.stats.expire-after-write-seconds:60}") long expireAfterWriteSeconds) {
+        this.stats = Caffeine.newBuilder()
+                .maximumSize(CACHED_STATS)
+                .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * This will give the number of members, their ages in bands and the most common last names.
+     * The ETag is taken from the revision of the collection, so a client sending it back in If-None-Match
+     * gets a 304 until the next write, without the statistics being computed.
+     * @param ageBand width of the age bands, in years
+     * @param lastNames number of last names to return
+     * @param request the request, checked against the ETag
+     * @return the statistics
+     */
+    @RequestMapping(value = "/stats", method = RequestMethod.GET)
+    public ResponseEntity<MemberStats> getMemberStats(@RequestParam(value = "ageBand", defaultValue = "10") int ageBand,
+                                                      @RequestParam(value = "lastNames", defaultValue = "10") int lastNames,
+                                                      WebRequest request) {
+        if (ageBand < 1 || ageBand > MAX_AGE_BAND)
+            throw new InvalidMemberRequestException("The age band must be between 1 and " + MAX_AGE_BAND + " years");
+        if (lastNames < 0 || lastNames > MAX_LAST_NAMES)
+            throw new InvalidMemberRequestException("At most " + MAX_LAST_NAMES + " last names can be counted");
+
+        // read before the pipelines run, so that a write racing them leaves the result outdated
+        String tag = revisions.tag(db.revision());
+        String key = ageBand + ":" + lastNames;
+        String etag = "\"stats-" + tag + "-" + key + "\"";
+        if (request.checkNotModified(etag))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).body(null);
+
+        Computed computed = stats.getIfPresent(key);
+        if (computed == null || !computed.tag.equals(tag)) {
+            // only the future is created under the map lock: the request which created it runs the pipelines
+            // afterwards, while the others asking for the key wait on it
+            CompletableFuture<MemberStats> created = new CompletableFuture<MemberStats>();
+            computed = stats.asMap().compute(key, (parameters, cached) ->
+                    cached != null && cached.tag.equals(tag) ? cached : new Computed(tag, created));
+            if (computed.stats == created) {
+                try {
+                    created.complete(compute(ageBand, lastNames));
+                } catch (RuntimeException e) {
+                    stats.asMap().remove(key, computed);
+                    created.completeExceptionally(e);
+                }
+            }
+        }
+        try {
+            return ResponseEntity.ok().eTag(etag).body(computed.stats.join());
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Runs the pipelines and folds the counts by age into bands starting at multiples of the band width.
+     * @param ageBand width of the age bands
+     * @param lastNames number of last names
+     * @return the statistics
+     */
+    private MemberStats compute(int ageBand, int lastNames) {
+        long start = System.nanoTime();
+        SortedMap<Integer, Long> ages = db.countByAge();
+        MemberStats result = new MemberStats();
+        long count = 0;
+        long ageSum = 0;
+        for (Map.Entry<Integer, Long> age : ages.entrySet()) {
+            count += age.getValue();
+            ageSum += age.getKey() * age.getValue();
+        }
+        result.setCount(count);
+        if (!ages.isEmpty()) {
+            result.setAverageAge((double) ageSum / count);
+            result.setMinAge(ages.firstKey());
+            result.setMaxAge(ages.lastKey());
+            for (int from = Math.floorDiv(ages.firstKey(), ageBand) * ageBand; from <= ages.lastKey(); from += ageBand) {
+                long inBand = 0;
+                for (long members : ages.subMap(from, from + ageBand).values())
+                    inBand += members;
+                result.getAgeBands().add(new MemberStats.AgeBand(from, from + ageBand - 1, inBand));
+            }
+        }
+        for (Map.Entry<String, Long> name : db.countByLastName(lastNames).entrySet())
+            result.getLastNames().add(new MemberStats.LastNameCount(name.getKey(), name.getValue()));
+        gymnasium.llog.debug("Member stats computed in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * Statistics, possibly still being computed, with the revision tag of the collection they were computed at.
+     */
+    private static class Computed {
+
+        final String tag;
+        final CompletableFuture<MemberStats> stats;
+
+        Computed(String tag, CompletableFuture<MemberStats> stats) {
+            this.tag = tag;
+            this.stats = stats;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.gymmanagement.DAO;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberFields;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
+
+import java.util.List;
+
+/**
+ * Spring MVC and Jackson settings of the member endpoints.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Configuration
+public class WebConfiguration extends WebMvcConfigurerAdapter {
+
+    /**
+     * Resolves the fields requested by the client.
+     */
+    @Autowired
+    MemberFieldsAdvice fieldsAdvice;
+    /**
+     * Times the member endpoints and counts validation failures.
+     */
+    @Autowired
+    MemberMetricsInterceptor metricsInterceptor;
+    /**
+     * Limits the requests of every member endpoint served at once.
+     */
+    @Autowired
+    MemberAdmissionControl admissionControl;
+    /**
+     * The binary member formats.
+     */
+    @Autowired
+    MemberFormats formats;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> argumentResolvers) {
+        argumentResolvers.add(fieldsAdvice);
+    }
+
+    /**
+     * Adds the Smile and CBOR converters after the default ones, so they are only used when
+     * the Accept or Content-Type header asks for them and JSON stays the default.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.addAll(formats.converters());
+    }
+
+    /**
+     * Adds the admission control first, so a shed request goes no further.
+     * The change streams are left out, since they stay open for as long as the client listens.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionControl).addPathPatterns("/member/**").excludePathPatterns("/member/changes");
+        registry.addInterceptor(metricsInterceptor).addPathPatterns("/member/**");
+    }
+
+    /**
+     * Puts Member under the fields filter in the application object mapper.
+     * The filter writes every field unless a response sets its own, so Member itself
+     * stays free of Jackson annotations.
+     * Static, so that the mappers can be built before this configuration is.
+     * @return customizer of the application object mapper
+     */
+    @Bean
+    public static Jackson2ObjectMapperBuilderCustomizer memberFieldsCustomizer() {
+        return new Jackson2ObjectMapperBuilderCustomizer() {
+            @Override
+            public void customize(Jackson2ObjectMapperBuilder builder) {
+                builder.mixIn(Member.class, MemberFieldsMixin.class);
+                builder.filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+            }
+        };
+    }
+
+    /**
+     * Mix-in attaching the fields filter to Member.
+     */
+    @JsonFilter(MemberFields.FILTER_ID)
+    interface MemberFieldsMixin {
+    }
+}
@@ -0,0 +1,64 @@
+package com.gymmanagement.Interface;
+
+import com.gymmanagement.beans.Member;
+import com.mongodb.async.client.MongoClient;
+import com.mongodb.async.client.MongoClients;
+import com.mongodb.async.client.MongoCollection;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+/**
+ * Creates the asynchronous Mongo client of the reactive profile,
+ * connected to the same database as the blocking one.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Configuration
+@Profile("reactive")
+public class AsyncMongoConfiguration {
+
+    /**
+     * Creates the asynchronous client from the spring.data.mongodb properties.
+     * @param properties the Mongo connection properties
+     * @return the client
+     */
+    @Bean(destroyMethod = "close")
+    public MongoClient asyncMongoClient(MongoProperties properties) {
+        if (properties.getUri() != null)
+            return MongoClients.create(properties.getUri());
+        String host = properties.getHost() == null ? "localhost" : properties.getHost();
+        int port = properties.getPort() == null ? MongoProperties.DEFAULT_PORT : properties.getPort();
+        return MongoClients.create("mongodb://" + host + ":" + port);
+    }
+
+    /**
+     * Gets the collection which holds the members.
+     * @param client the asynchronous client
+     * @param properties the Mongo connection properties
+     * @param mongo the blocking template, used to resolve the collection name of Member
+     * @return the member collection
+     */
+    @Bean
+    public MongoCollection<Document> asyncMemberCollection(MongoClient client, MongoProperties properties,
+                                                           MongoOperations mongo) {
+        return client.getDatabase(properties.getMongoClientDatabase())
+                .getCollection(mongo.getCollectionName(Member.class));
+    }
+
+    /**
+     * Gets the collection which holds the revision markers.
+     * @param client the asynchronous client
+     * @param properties the Mongo connection properties
+     * @return the revision collection
+     */
+    @Bean
+    public MongoCollection<Document> asyncRevisionCollection(MongoClient client, MongoProperties properties) {
+        return client.getDatabase(properties.getMongoClientDatabase())
+                .getCollection(IRepositoryImpl.REVISION_COLLECTION);
+    }
+}
@@ -0,0 +1,293 @@
+package com.gymmanagement.Interface;
+
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberFields;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.async.AsyncBatchCursor;
+import com.mongodb.async.SingleResultCallback;
+import com.mongodb.async.client.FindIterable;
+import com.mongodb.async.client.MongoCollection;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Sorts.ascending;
+import static com.mongodb.client.model.Updates.inc;
+
+/**
+ * Implementation of {@link IAsyncRepository} on the asynchronous Mongo driver.
+ * Documents are mapped with the same converter as {@link IRepository}, so both see the same members.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Repository
+@Profile("reactive")
+public class AsyncRepositoryImpl implements IAsyncRepository {
+
+    /**
+     * Number of members fetched per cursor batch.
+     */
+    private static final int BATCH_SIZE = 100;
+
+    /**
+     * The member collection.
+     */
+    private final MongoCollection<Document> members;
+
+    /**
+     * The revision markers.
+     */
+    private final MongoCollection<Document> revisions;
+
+    /**
+     * Converter mapping between members and documents.
+     */
+    private final MongoConverter converter;
+
+    @Autowired
+    public AsyncRepositoryImpl(@Qualifier("asyncMemberCollection") MongoCollection<Document> members,
+                               @Qualifier("asyncRevisionCollection") MongoCollection<Document> revisions,
+                               MongoConverter converter) {
+        this.members = members;
+        this.revisions = revisions;
+        this.converter = converter;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> create(Member member) {
+        final CompletableFuture<Boolean> created = new CompletableFuture<Boolean>();
+        if (member.getVersion() == null)
+            member.setVersion(0L);
+        members.insertOne(toDocument(member), new SingleResultCallback<Void>() {
+            @Override
+            public void onResult(Void result, Throwable t) {
+                if (t == null)
+                    created.complete(true);
+                else if (!(t instanceof MongoWriteException)
+                        || ((MongoWriteException) t).getError().getCategory() != ErrorCategory.DUPLICATE_KEY)
+                    created.completeExceptionally(t);
+                else if (IRepositoryImpl.isIdCollision(t.getMessage()))
+                    created.complete(false);
+                else
+                    created.completeExceptionally(new DuplicateKeyException(t.getMessage(), t));
+            }
+        });
+        return created;
+    }
+
+    @Override
+    public CompletableFuture<Member> findOne(int id, MemberFields fields) {
+        CompletableFuture<Document> found = new CompletableFuture<Document>();
+        members.find(eq("_id", id)).projection(projectionOf(fields)).first(callback(found));
+        return found.thenApply(this::toMember);
+    }
+
+    @Override
+    public CompletableFuture<List<Member>> findAll(MemberFields fields) {
+        return toMembers(members.find().projection(projectionOf(fields)));
+    }
+
+    @Override
+    public CompletableFuture<List<Member>> findPage(Integer after, int limit, MemberFields fields) {
+        return toMembers(afterId(after).limit(limit).projection(projectionOf(fields)));
+    }
+
+    @Override
+    public CompletableFuture<Long> streamAfter(Integer after, final Function<List<Member>, CompletionStage<?>> consumer) {
+        final CompletableFuture<Long> streamed = new CompletableFuture<Long>();
+        final AtomicLong count = new AtomicLong();
+        afterId(after).batchSize(BATCH_SIZE).batchCursor(new SingleResultCallback<AsyncBatchCursor<Document>>() {
+            @Override
+            public void onResult(final AsyncBatchCursor<Document> cursor, Throwable t) {
+                if (t != null) {
+                    streamed.completeExceptionally(t);
+                    return;
+                }
+                cursor.next(new SingleResultCallback<List<Document>>() {
+                    @Override
+                    public void onResult(List<Document> batch, Throwable t) {
+                        if (t != null || batch == null) {
+                            cursor.close();
+                            if (t != null)
+                                streamed.completeExceptionally(t);
+                            else
+                                streamed.complete(count.get());
+                            return;
+                        }
+                        final SingleResultCallback<List<Document>> next = this;
+                        final List<Member> page = new ArrayList<Member>(batch.size());
+                        CompletionStage<?> consumed;
+                        try {
+                            for (Document document : batch)
+                                page.add(toMember(document));
+                            consumed = consumer.apply(page);
+                        } catch (RuntimeException e) {
+                            cursor.close();
+                            streamed.completeExceptionally(e);
+                            return;
+                        }
+                        consumed.whenComplete((ignored, e) -> {
+                            if (e != null) {
+                                cursor.close();
+                                streamed.completeExceptionally(e);
+                                return;
+                            }
+                            count.addAndGet(page.size());
+                            cursor.next(next);
+                        });
+                    }
+                });
+            }
+        });
+        return streamed;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> replace(Member member) {
+        Document update = copyOf(IRepositoryImpl.replacementOf(converter, member).getUpdateObject());
+        CompletableFuture<UpdateResult> updated = new CompletableFuture<UpdateResult>();
+        members.updateOne(eq("_id", member.getId()), update, new SingleResultCallback<UpdateResult>() {
+            @Override
+            public void onResult(UpdateResult result, Throwable t) {
+                if (t == null)
+                    updated.complete(result);
+                else if (t instanceof MongoWriteException
+                        && ((MongoWriteException) t).getError().getCategory() == ErrorCategory.DUPLICATE_KEY)
+                    updated.completeExceptionally(new DuplicateKeyException(t.getMessage(), t));
+                else
+                    updated.completeExceptionally(t);
+            }
+        });
+        return updated.thenApply(result -> result.getMatchedCount() > 0);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(int id) {
+        CompletableFuture<DeleteResult> deleted = new CompletableFuture<DeleteResult>();
+        members.deleteOne(eq("_id", id), callback(deleted));
+        return deleted.thenApply(result -> null);
+    }
+
+    @Override
+    public CompletableFuture<Long> revision() {
+        CompletableFuture<Document> found = new CompletableFuture<Document>();
+        revisions.find(eq("_id", IRepositoryImpl.MEMBER_REVISION_ID)).first(callback(found));
+        return found.thenApply(marker -> marker == null ? 0L : marker.get(IRepositoryImpl.REVISION_FIELD, Number.class).longValue());
+    }
+
+    @Override
+    public CompletableFuture<Long> nextRevision() {
+        CompletableFuture<Document> updated = new CompletableFuture<Document>();
+        revisions.findOneAndUpdate(eq("_id", IRepositoryImpl.MEMBER_REVISION_ID),
+                inc(IRepositoryImpl.REVISION_FIELD, 1),
+                new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER), callback(updated));
+        return updated.thenApply(marker -> marker.get(IRepositoryImpl.REVISION_FIELD, Number.class).longValue());
+    }
+
+    /**
+     * Builds the keyset query: members with an id greater than the cursor, ordered by id.
+     * @param after id to start after, or null to start from the first member
+     * @return query ordered by ascending id
+     */
+    private FindIterable<Document> afterId(Integer after) {
+        FindIterable<Document> query = after == null ? members.find() : members.find(gt("_id", after));
+        return query.sort(ascending("_id"));
+    }
+
+    /**
+     * Collects the documents of a query as members.
+     * @param query the query
+     * @return completes with the members
+     */
+    private CompletableFuture<List<Member>> toMembers(FindIterable<Document> query) {
+        CompletableFuture<List<Document>> found = new CompletableFuture<List<Document>>();
+        query.into(new ArrayList<Document>(), callback(found));
+        return found.thenApply(documents -> {
+            List<Member> list = new ArrayList<Member>(documents.size());
+            for (Document document : documents)
+                list.add(toMember(document));
+            return list;
+        });
+    }
+
+    /**
+     * Creates a driver callback completing the future.
+     * @param future the future to complete
+     * @param <T> type of the result
+     * @return the callback
+     */
+    private static <T> SingleResultCallback<T> callback(final CompletableFuture<T> future) {
+        return new SingleResultCallback<T>() {
+            @Override
+            public void onResult(T result, Throwable t) {
+                if (t == null)
+                    future.complete(result);
+                else
+                    future.completeExceptionally(t);
+            }
+        };
+    }
+
+    /**
+     * Maps a member to its document.
+     * @param member the member
+     * @return the document
+     */
+    private Document toDocument(Member member) {
+        DBObject document = new BasicDBObject();
+        converter.write(member, document);
+        return copyOf(document);
+    }
+
+    /**
+     * Copies a document of the blocking driver into a document of the asynchronous one.
+     * Nested values are shared, which the codecs of the collection encode either way.
+     * @param object the document of the blocking driver
+     * @return the document
+     */
+    private static Document copyOf(DBObject object) {
+        Document document = new Document();
+        for (String key : object.keySet())
+            document.put(key, object.get(key));
+        return document;
+    }
+
+    /**
+     * Builds the projection of the fields as a document, which the collection's codecs can encode.
+     * @param fields fields to fetch
+     * @return the projection, empty if all fields are requested
+     */
+    private Document projectionOf(MemberFields fields) {
+        return new Document(fields.projection());
+    }
+
+    /**
+     * Maps a document to its member.
+     * @param document the document, may be null
+     * @return the member, or null if there is no document
+     */
+    private Member toMember(Document document) {
+        return document == null ? null : converter.read(Member.class, new BasicDBObject(document));
+    }
+}
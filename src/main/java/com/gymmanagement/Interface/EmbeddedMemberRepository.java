@@ -0,0 +1,749 @@
+package com.gymmanagement.Interface;
+
+import com.gymmanagement.GymApplication;
+import com.gymmanagement.beans.BulkItemResult;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberFields;
+import com.gymmanagement.beans.MemberSearch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Member repository kept in the process instead of in Mongo, for single node gyms and test environments,
+ * selected with --spring.profiles.active=embedded. The Mongo auto-configurations are then skipped,
+ * so the reactive profile, which needs Mongo, cannot be combined with it.
+ * The members are held in a {@link MemberTable}, and every change is appended to a {@link MemberLog} before
+ * it is applied. When the log grows past member.embedded.compact-after-bytes, the members are written into a
+ * {@link MemberSnapshot}, which is the base the log is replayed over at start, and the log is started again.
+ * The log is forced to the disk every member.embedded.fsync-interval-ms milliseconds, or after every write when 0.
+ * The contact numbers are kept unique with an index from each number to the id of its member,
+ * changed under the lock of the stripe of the member, so that it never disagrees with the table.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Repository
+@Profile("embedded")
+public class EmbeddedMemberRepository implements IRepository {
+
+    /**
+     * Name of the snapshot the log is replayed over.
+     */
+    static final String SNAPSHOT_FILE = "members.snapshot";
+
+    /**
+     * Name of the log.
+     */
+    static final String LOG_FILE = "members.log";
+
+    /**
+     * Name of the previous log while a compaction writes the snapshot holding its entries.
+     */
+    static final String OLD_LOG_FILE = "members.log.old";
+
+    /**
+     * The application object used to access logger object.
+     */
+    GymApplication gymnasium;
+
+    private final Path directory;
+    private final boolean sync;
+    private final long compactAfter;
+    private final MemberTable table = new MemberTable(new Journal());
+
+    /**
+     * Id of the member holding each contact number.
+     */
+    private final Map<String, Integer> contacts = new ConcurrentHashMap<String, Integer>();
+
+    /**
+     * Revision of the members, started from the time of the start so that it moves forward across restarts.
+     */
+    private final AtomicLong revision = new AtomicLong(System.currentTimeMillis() << 10);
+
+    /**
+     * Guards the replacement of the log: held while an entry is appended, and while the log is replaced.
+     */
+    private final Object journal = new Object();
+
+    /**
+     * Only lets one compaction run at a time.
+     */
+    private final Object compaction = new Object();
+
+    private final ScheduledExecutorService maintenance;
+
+    /**
+     * The log the changes are appended to, null while it is replayed.
+     */
+    private volatile MemberLog log;
+
+    /**
+     * Last member id reserved, guarded by journal.
+     */
+    private long lastReservedId;
+
+    /**
+     * Loads the members from the snapshot and the log of the directory, creating it if needed.
+     * @param directory directory of the snapshot and the log
+     * @param fsyncInterval milliseconds between two forces of the log to the disk, 0 to force every write
+     * @param compactAfter size of the log in bytes from which it is compacted
+     * @param compactionCheck seconds between two checks of the size of the log
+     * @throws IOException If the snapshot or the log cannot be read, or the log cannot be written
+     */
+    @Autowired
+    public EmbeddedMemberRepository(@Value("${member.embedded.directory:members-data}") String directory,
+                                    @Value("${member.embedded.fsync-interval-ms:1000}") long fsyncInterval,
+                                    @Value("${member.embedded.compact-after-bytes:67108864}") long compactAfter,
+                                    @Value("${member.embedded.compaction-check-seconds:60}") long compactionCheck)
+            throws IOException {
+        this.directory = Files.createDirectories(Paths.get(directory));
+        this.sync = fsyncInterval <= 0;
+        this.compactAfter = compactAfter;
+        recover();
+
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "member-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!sync)
+            maintenance.scheduleWithFixedDelay(this::force, fsyncInterval, fsyncInterval, TimeUnit.MILLISECONDS);
+        maintenance.scheduleWithFixedDelay(this::compactIfLarge, compactionCheck, compactionCheck, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Replays the snapshot, the log left by a compaction which did not finish, and the log.
+     * @throws IOException If a file cannot be read, or the log cannot be written
+     */
+    private void recover() throws IOException {
+        long start = System.nanoTime();
+        Restore restore = new Restore();
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot))
+            MemberSnapshot.read(snapshot, restore::put);
+        Path oldLog = directory.resolve(OLD_LOG_FILE);
+        boolean unfinished = Files.exists(oldLog);
+        if (unfinished)
+            MemberLog.replay(oldLog, restore);
+        MemberLog opened = MemberLog.open(directory.resolve(LOG_FILE), restore, sync);
+        if (opened.discarded() > 0)
+            gymnasium.llog.warn("Dropped the last {} bytes of the member log, which do not hold a whole entry", opened.discarded());
+        log = opened;
+        if (unfinished) {
+            writeSnapshot();
+            synchronized (journal) {
+                log.reserveIds(lastReservedId);
+            }
+            Files.delete(oldLog);
+        }
+        gymnasium.llog.info("Loaded {} members from {} in {} ms", table.size(), directory,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public Member findOne(Integer id) {
+        return table.get(id);
+    }
+
+    @Override
+    public Member findOne(int id, MemberFields fields) {
+        return project(table.get(id), fields);
+    }
+
+    @Override
+    public boolean exists(Integer id) {
+        return table.contains(id);
+    }
+
+    @Override
+    public long count() {
+        return table.size();
+    }
+
+    @Override
+    public List<Member> findAll() {
+        return findAll(MemberFields.ALL);
+    }
+
+    @Override
+    public List<Member> findAll(MemberFields fields) {
+        return findPage(null, Integer.MAX_VALUE, fields);
+    }
+
+    @Override
+    public List<Member> findAll(Iterable<Integer> ids) {
+        List<Member> members = new ArrayList<Member>();
+        for (Integer id : ids) {
+            Member member = table.get(id);
+            if (member != null)
+                members.add(member);
+        }
+        return members;
+    }
+
+    @Override
+    public List<Member> findAll(Collection<Integer> ids, MemberFields fields) {
+        List<Member> members = findAll(ids);
+        for (Member member : members)
+            project(member, fields);
+        return members;
+    }
+
+    @Override
+    public List<Member> findAll(Sort sort) {
+        List<Member> members = findAll();
+        if (sort != null)
+            Collections.sort(members, comparator(sort));
+        return members;
+    }
+
+    @Override
+    public Page<Member> findAll(Pageable pageable) {
+        if (pageable == null)
+            return new PageImpl<Member>(findAll());
+        List<Member> members = findAll(pageable.getSort());
+        int from = (int) Math.min(members.size(), (long) pageable.getOffset());
+        int to = (int) Math.min(members.size(), (long) from + pageable.getPageSize());
+        return new PageImpl<Member>(new ArrayList<Member>(members.subList(from, to)), pageable, members.size());
+    }
+
+    @Override
+    public List<Member> findPage(Integer after, int limit, MemberFields fields) {
+        List<Member> members = new ArrayList<Member>();
+        for (int id : table.ids(after)) {
+            if (members.size() == limit)
+                break;
+            // skips the members removed since the ids were read
+            Member member = table.get(id);
+            if (member != null)
+                members.add(project(member, fields));
+        }
+        return members;
+    }
+
+    @Override
+    public CloseableIterator<Member> streamAfter(Integer after) {
+        final int[] ids = table.ids(after);
+        return new CloseableIterator<Member>() {
+
+            private int next;
+            private Member member;
+
+            @Override
+            public boolean hasNext() {
+                while (member == null && next < ids.length)
+                    member = table.get(ids[next++]);
+                return member != null;
+            }
+
+            @Override
+            public Member next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                Member current = member;
+                member = null;
+                return current;
+            }
+
+            @Override
+            public void close() {
+                next = ids.length;
+                member = null;
+            }
+        };
+    }
+
+    @Override
+    public <S extends Member> S insert(S member) {
+        if (member.getVersion() == null)
+            member.setVersion(0L);
+        if (!insertIfAbsent(member))
+            throw new DuplicateKeyException("Member " + member.getId() + " already exists");
+        return member;
+    }
+
+    @Override
+    public <S extends Member> List<S> insert(Iterable<S> members) {
+        List<S> inserted = new ArrayList<S>();
+        for (S member : members)
+            inserted.add(insert(member));
+        return inserted;
+    }
+
+    @Override
+    public boolean create(Member member) {
+        if (member.getVersion() == null)
+            member.setVersion(0L);
+        return insertIfAbsent(member);
+    }
+
+    @Override
+    public List<BulkItemResult> insertAll(List<Member> members) {
+        List<BulkItemResult> results = new ArrayList<BulkItemResult>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            BulkItemResult result = new BulkItemResult(i, member.getId(), BulkItemResult.Status.CREATED, null);
+            if (member.getVersion() == null)
+                member.setVersion(0L);
+            try {
+                if (!insertIfAbsent(member)) {
+                    result.setStatus(BulkItemResult.Status.DUPLICATE);
+                    result.setMessage("Member already exists! :/");
+                }
+            } catch (DuplicateKeyException e) {
+                result.setStatus(BulkItemResult.Status.CONFLICT);
+                result.setMessage("Contact number already in use! :/");
+            } catch (RuntimeException e) {
+                result.setStatus(BulkItemResult.Status.FAILED);
+                result.setMessage(e.getMessage());
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    @Override
+    public boolean replace(final Member member) {
+        return table.update(member.getId(), current ->
+                current == null ? null : copyOf(member, current.getVersion() == null ? 1 : current.getVersion() + 1)) != null;
+    }
+
+    /**
+     * Saves the member like Spring Data does for a versioned entity: inserted when it has no version,
+     * else replaced only if the stored member has the same version, which is then incremented.
+     */
+    @Override
+    public <S extends Member> S save(final S member) {
+        if (member.getVersion() == null)
+            return insert(member);
+        final long expected = member.getVersion();
+        table.update(member.getId(), current -> {
+            if (current == null || current.getVersion() == null || current.getVersion() != expected)
+                throw new OptimisticLockingFailureException("Member " + member.getId() + " is not at version " + expected);
+            return copyOf(member, expected + 1);
+        });
+        member.setVersion(expected + 1);
+        return member;
+    }
+
+    @Override
+    public <S extends Member> List<S> save(Iterable<S> members) {
+        List<S> saved = new ArrayList<S>();
+        for (S member : members)
+            saved.add(save(member));
+        return saved;
+    }
+
+    @Override
+    public void delete(Integer id) {
+        table.update(id, current -> null);
+    }
+
+    @Override
+    public void delete(Member member) {
+        delete(member.getId());
+    }
+
+    @Override
+    public void delete(Iterable<? extends Member> members) {
+        for (Member member : members)
+            delete(member.getId());
+    }
+
+    @Override
+    public void deleteAll() {
+        table.clear();
+    }
+
+    @Override
+    public long deleteMany(Collection<Integer> ids) {
+        long deleted = 0;
+        for (Integer id : ids) {
+            if (table.update(id, current -> null) != null)
+                deleted++;
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes every member, which the table does at once whatever their number.
+     */
+    @Override
+    public long truncate() {
+        long members = table.size();
+        table.clear();
+        return members;
+    }
+
+    @Override
+    public List<Member> search(final MemberSearch search, int limit) {
+        return table.select(member -> matches(search, member), limit);
+    }
+
+    @Override
+    public SortedMap<Integer, Long> countByAge() {
+        final Map<Integer, Long> counts = new HashMap<Integer, Long>();
+        table.forEachAge(age -> counts.merge(age, 1L, Long::sum));
+        return new TreeMap<Integer, Long>(counts);
+    }
+
+    @Override
+    public Map<String, Long> countByLastName(int limit) {
+        Map<String, Long> counts = new LinkedHashMap<String, Long>();
+        if (limit <= 0)
+            return counts;
+        Map<String, Long> all = new HashMap<String, Long>();
+        for (Iterator<Member> members = table.iterator(); members.hasNext(); )
+            all.merge(members.next().getLastName(), 1L, Long::sum);
+        List<Map.Entry<String, Long>> sorted = new ArrayList<Map.Entry<String, Long>>(all.entrySet());
+        Collections.sort(sorted, Comparator.<Map.Entry<String, Long>, Long>comparing(Map.Entry::getValue).reversed()
+                .thenComparing(Map.Entry::getKey, Comparator.nullsFirst(Comparator.<String>naturalOrder())));
+        for (Map.Entry<String, Long> name : sorted.subList(0, Math.min(limit, sorted.size())))
+            counts.put(name.getKey(), name.getValue());
+        return counts;
+    }
+
+    /**
+     * Gets the revision of the members, which is not stored: it starts from the time of the start,
+     * times 1024, so that it only meets a revision of a previous run after a thousand writes per millisecond.
+     */
+    @Override
+    public long revision() {
+        return revision.get();
+    }
+
+    @Override
+    public long nextRevision() {
+        return revision.incrementAndGet();
+    }
+
+    @Override
+    public long lastReservedId() {
+        synchronized (journal) {
+            return lastReservedId;
+        }
+    }
+
+    @Override
+    public boolean reserveIds(long expected, long next) {
+        synchronized (journal) {
+            if (lastReservedId != expected)
+                return false;
+            try {
+                log.reserveIds(next);
+            } catch (IOException e) {
+                throw failure(e);
+            }
+            lastReservedId = next;
+            return true;
+        }
+    }
+
+    @Override
+    public int highestId() {
+        int[] ids = table.ids(null);
+        return ids.length == 0 ? 0 : ids[ids.length - 1];
+    }
+
+    /**
+     * Writes the members into a new snapshot and starts a new log, so that the entries the snapshot holds
+     * are no longer replayed. Writes only wait while the log is replaced, not while the snapshot is written:
+     * the snapshot may then also hold changes of the new log, which replaying it again leaves as they are.
+     * @throws IOException If the snapshot or the log cannot be written
+     */
+    public void compact() throws IOException {
+        synchronized (compaction) {
+            long start = System.nanoTime();
+            Path current = directory.resolve(LOG_FILE);
+            Path old = directory.resolve(OLD_LOG_FILE);
+            long compacted;
+            synchronized (journal) {
+                compacted = log.size();
+                log.close();
+                Files.move(current, old, StandardCopyOption.REPLACE_EXISTING);
+                log = MemberLog.open(current, new Restore(), sync);
+                log.reserveIds(lastReservedId);
+            }
+            long members = writeSnapshot();
+            Files.delete(old);
+            gymnasium.llog.info("Compacted {} bytes of member log into a snapshot of {} members in {} ms", compacted, members,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Forces the log to the disk and closes it, after which every write fails.
+     * @throws IOException If the log cannot be forced
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        maintenance.shutdownNow();
+        synchronized (journal) {
+            log.close();
+        }
+    }
+
+    private void force() {
+        synchronized (journal) {
+            try {
+                log.force();
+            } catch (IOException e) {
+                gymnasium.llog.error("Cannot force the member log to the disk", e);
+            }
+        }
+    }
+
+    private void compactIfLarge() {
+        if (log.size() < compactAfter)
+            return;
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            gymnasium.llog.error("Cannot compact the member log", e);
+        }
+    }
+
+    /**
+     * Writes every member into the snapshot, through a temporary file so that a crash leaves the previous one.
+     * @return the number of members written
+     * @throws IOException If the snapshot cannot be written
+     */
+    private long writeSnapshot() throws IOException {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        Path written = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        long members = MemberSnapshot.write(table.iterator(), written);
+        Files.move(written, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return members;
+    }
+
+    /**
+     * Stores the member unless one with the same id exists.
+     * @param member the member
+     * @return true if it was stored
+     * @throws DuplicateKeyException if another member has the same contact number
+     */
+    private boolean insertIfAbsent(final Member member) {
+        return table.update(member.getId(), current -> current == null ? member : current) == null;
+    }
+
+    /**
+     * Claims the contact number of a member about to be stored. The numbers held by a member are only
+     * claimed and released under the lock of its stripe, so they always match the stored members;
+     * while the log is replayed, the members are taken as they come, since a snapshot written during
+     * a compaction may briefly give the same number to two members.
+     * @param member the member
+     * @return true if the number was claimed now, false if the member already held it or has none
+     * @throws DuplicateKeyException if another member holds the number
+     */
+    private boolean claimContact(Member member) {
+        String contactNo = member.getContactNo();
+        if (contactNo == null)
+            return false;
+        if (log == null)
+            return contacts.put(contactNo, member.getId()) == null;
+        Integer holder = contacts.putIfAbsent(contactNo, member.getId());
+        if (holder != null && holder != member.getId())
+            throw new DuplicateKeyException("Contact number " + contactNo + " is already used by member " + holder);
+        return holder == null;
+    }
+
+    /**
+     * Releases the contact number of a member, unless another member holds it.
+     * @param member the member, or null
+     * @param kept contact number the member keeps, or null
+     */
+    private void releaseContact(Member member, String kept) {
+        if (member != null && member.getContactNo() != null && !member.getContactNo().equals(kept))
+            contacts.remove(member.getContactNo(), member.getId());
+    }
+
+    private static DataAccessResourceFailureException failure(IOException e) {
+        return new DataAccessResourceFailureException("Cannot write the member log", e);
+    }
+
+    private static Member copyOf(Member member, long version) {
+        Member copy = new Member(member.getId(), member.getFirstName(), member.getLastName(), member.getAddress(),
+                member.getAge(), member.getContactNo());
+        copy.setVersion(version);
+        return copy;
+    }
+
+    /**
+     * Leaves only the requested fields, the id and the version set, as a Mongo projection would.
+     * @param member the member, or null
+     * @param fields the requested fields
+     * @return the same member
+     */
+    private static Member project(Member member, MemberFields fields) {
+        if (member == null || fields.isAll())
+            return member;
+        Set<String> properties = fields.getProperties();
+        if (!properties.contains("firstName"))
+            member.setFirstName(null);
+        if (!properties.contains("lastName"))
+            member.setLastName(null);
+        if (!properties.contains("address"))
+            member.setAddress(null);
+        if (!properties.contains("age"))
+            member.setAge(0);
+        if (!properties.contains("contactNo"))
+            member.setContactNo(null);
+        return member;
+    }
+
+    private static boolean matches(MemberSearch search, Member member) {
+        return (search.getContactNo() == null || search.getContactNo().equals(member.getContactNo()))
+                && (search.getLastName() == null || search.getLastName().equals(member.getLastName()))
+                && (search.getFirstName() == null || search.getFirstName().equals(member.getFirstName()))
+                && (search.getMinAge() == null || member.getAge() >= search.getMinAge())
+                && (search.getMaxAge() == null || member.getAge() <= search.getMaxAge());
+    }
+
+    /**
+     * Builds the comparator of a sort on member properties, missing values first as Mongo sorts them.
+     * @param sort the sort
+     * @return the comparator
+     * @throws IllegalArgumentException if a property is not a member property
+     */
+    private static Comparator<Member> comparator(Sort sort) {
+        Comparator<Member> comparator = (first, second) -> 0;
+        Comparator<String> text = Comparator.nullsFirst(Comparator.<String>naturalOrder());
+        for (Sort.Order order : sort) {
+            Comparator<Member> property;
+            switch (order.getProperty()) {
+                case "id":
+                    property = Comparator.comparingInt(Member::getId);
+                    break;
+                case "firstName":
+                    property = Comparator.comparing(Member::getFirstName, text);
+                    break;
+                case "lastName":
+                    property = Comparator.comparing(Member::getLastName, text);
+                    break;
+                case "address":
+                    property = Comparator.comparing(Member::getAddress, text);
+                    break;
+                case "age":
+                    property = Comparator.comparingInt(Member::getAge);
+                    break;
+                case "contactNo":
+                    property = Comparator.comparing(Member::getContactNo, text);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown member property: " + order.getProperty());
+            }
+            comparator = comparator.thenComparing(order.isAscending() ? property : property.reversed());
+        }
+        return comparator;
+    }
+
+    /**
+     * Appends the changes of the table to the log.
+     */
+    private class Journal implements MemberTable.Journal {
+
+        @Override
+        public void put(Member previous, Member member) {
+            boolean claimed = claimContact(member);
+            synchronized (journal) {
+                try {
+                    if (log != null)
+                        log.put(member);
+                } catch (IOException e) {
+                    if (claimed)
+                        contacts.remove(member.getContactNo(), member.getId());
+                    throw failure(e);
+                }
+            }
+            releaseContact(previous, member.getContactNo());
+        }
+
+        @Override
+        public void delete(Member previous) {
+            synchronized (journal) {
+                try {
+                    if (log != null)
+                        log.delete(previous.getId());
+                } catch (IOException e) {
+                    throw failure(e);
+                }
+            }
+            releaseContact(previous, null);
+        }
+
+        @Override
+        public void clear() {
+            synchronized (journal) {
+                try {
+                    if (log != null)
+                        log.clear();
+                } catch (IOException e) {
+                    throw failure(e);
+                }
+            }
+            contacts.clear();
+        }
+    }
+
+    /**
+     * Applies the entries of the snapshot and the logs to the table, which has no log to append them to yet.
+     */
+    private class Restore implements MemberLog.Replay {
+
+        @Override
+        public void put(Member member) {
+            table.update(member.getId(), current -> member);
+        }
+
+        @Override
+        public void delete(int id) {
+            table.update(id, current -> null);
+        }
+
+        @Override
+        public void clear() {
+            table.clear();
+        }
+
+        @Override
+        public void reserveIds(long lastId) {
+            lastReservedId = lastId;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.gymmanagement.Interface;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Shortens the boot of the fast profile, used by instances which are started under load.
+ * Together with application-fast.properties, which turns off the auto-configurations the
+ * application does not use, it makes the singletons lazy so that only the beans needed to
+ * serve the first requests are created.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Configuration
+@Profile("fast")
+public class FastStartupConfiguration {
+
+    /**
+     * Creates the post processor making the singletons lazy.
+     * Static, since it must run before any bean is created.
+     * @return the post processor
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyInitPostProcessor() {
+        return new LazyInitPostProcessor();
+    }
+
+    /**
+     * Marks every singleton lazy, except the infrastructure beans, the beans which act
+     * once all singletons are created, and the beans declared with {@code @Lazy(false)}.
+     */
+    static class LazyInitPostProcessor implements BeanFactoryPostProcessor {
+
+        @Override
+        public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (definition.isAbstract() || !definition.isSingleton()
+                        || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE
+                        || eager(definition))
+                    continue;
+                Class<?> type = typeOf(definition, beanFactory.getBeanClassLoader());
+                if (type != null && SmartInitializingSingleton.class.isAssignableFrom(type))
+                    continue;
+                definition.setLazyInit(true);
+            }
+        }
+
+        /**
+         * Resolves the declared type of a bean without creating it, which getType could do for factory beans.
+         * @param definition the bean definition
+         * @param classLoader loader of the bean classes
+         * @return the class or factory method return type, or null if it is not known
+         */
+        private static Class<?> typeOf(BeanDefinition definition, ClassLoader classLoader) {
+            String typeName;
+            if (definition instanceof AnnotatedBeanDefinition
+                    && ((AnnotatedBeanDefinition) definition).getFactoryMethodMetadata() != null)
+                typeName = ((AnnotatedBeanDefinition) definition).getFactoryMethodMetadata().getReturnTypeName();
+            else if (definition.getFactoryMethodName() == null)
+                typeName = definition.getBeanClassName();
+            else
+                return null;
+            if (typeName == null || !ClassUtils.isPresent(typeName, classLoader))
+                return null;
+            return ClassUtils.resolveClassName(typeName, classLoader);
+        }
+
+        /**
+         * Tells whether the bean asks to be created at startup with {@code @Lazy(false)}.
+         * @param definition the bean definition
+         * @return true if the bean must not be lazy
+         */
+        private static boolean eager(BeanDefinition definition) {
+            if (!(definition instanceof AnnotatedBeanDefinition))
+                return false;
+            AnnotatedBeanDefinition annotated = (AnnotatedBeanDefinition) definition;
+            AnnotatedTypeMetadata metadata = annotated.getFactoryMethodMetadata() != null
+                    ? annotated.getFactoryMethodMetadata() : annotated.getMetadata();
+            return metadata.isAnnotated(Lazy.class.getName())
+                    && Boolean.FALSE.equals(metadata.getAnnotationAttributes(Lazy.class.getName()).get("value"));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.gymmanagement.Interface;
+
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberFields;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Non-blocking counterpart of {@link IRepository}, used by the reactive profile.
+ * Every operation returns at once and completes its future from the Mongo driver's I/O threads.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public interface IAsyncRepository {
+
+    /**
+     * Inserts the member at version 0, relying on the unique indexes to detect duplicates.
+     * @param member member to insert
+     * @return completes with true if the member was inserted, false if the id already exists,
+     *         or fails with a DuplicateKeyException if another member has the same contact number
+     */
+    CompletableFuture<Boolean> create(Member member);
+
+    /**
+     * Finds the member with the specified id, fetching only the requested fields.
+     * @param id id of the member
+     * @param fields fields to fetch, the others are left unset
+     * @return completes with the member, or null if it does not exist
+     */
+    CompletableFuture<Member> findOne(int id, MemberFields fields);
+
+    /**
+     * Finds all the members, fetching only the requested fields.
+     * @param fields fields to fetch, the others are left unset
+     * @return completes with every member
+     */
+    CompletableFuture<List<Member>> findAll(MemberFields fields);
+
+    /**
+     * Finds one page of members ordered by id, starting after the given id.
+     * @param after id of the last member of the previous page, or null for the first page
+     * @param limit maximum number of members in the page
+     * @param fields fields to fetch, the others are left unset
+     * @return completes with the members of the page in ascending id order
+     */
+    CompletableFuture<List<Member>> findPage(Integer after, int limit, MemberFields fields);
+
+    /**
+     * Streams the members ordered by id, starting after the given id, one cursor batch at a time.
+     * The next batch is only requested once the stage returned by the consumer for the previous one has completed,
+     * so a consumer writing to a slow client holds the cursor back rather than buffering the members.
+     * @param after id to start after, or null to stream from the first member
+     * @param consumer receives each batch of members, and returns a stage completing once it is done with it
+     * @return completes with the number of members streamed
+     */
+    CompletableFuture<Long> streamAfter(Integer after, Function<List<Member>, CompletionStage<?>> consumer);
+
+    /**
+     * Replaces the stored member with the same id, matching on the id, and increments its version.
+     * @param member new state of the member
+     * @return completes with true if the member was replaced, false if it does not exist
+     */
+    CompletableFuture<Boolean> replace(Member member);
+
+    /**
+     * Deletes the member with the specified id.
+     * @param id id of the member
+     * @return completes once the member is deleted
+     */
+    CompletableFuture<Void> delete(int id);
+
+    /**
+     * Gets the revision of the member collection, a marker which changes after every write on it.
+     * @return completes with the revision, 0 if the collection was never written
+     */
+    CompletableFuture<Long> revision();
+
+    /**
+     * Moves the revision of the member collection forward, to be called after every write on it.
+     * @return completes with the new revision
+     */
+    CompletableFuture<Long> nextRevision();
+}
@@ -2,13 +2,44 @@ package com.gymmanagement.Interface;
 
 
 import com.gymmanagement.beans.Member;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
- * Interface which enables MongoRepository functions
+ * Interface which enables the MongoRepository functions every member store can serve,
+ * along with the custom operations of {@link IRepositoryCustom}.
+ * The queries by example of MongoRepository are left out, since the embedded store cannot serve them;
+ * the Mongo store still runs the functions declared here with its MongoRepository implementation.
  */
 @Transactional
-public interface IRepository  extends MongoRepository<Member, Integer> {
+public interface IRepository  extends PagingAndSortingRepository<Member, Integer>, IRepositoryCustom {
+
+    @Override
+    <S extends Member> List<S> save(Iterable<S> members);
+
+    @Override
+    List<Member> findAll();
+
+    @Override
+    List<Member> findAll(Sort sort);
+
+    @Override
+    List<Member> findAll(Iterable<Integer> ids);
+
+    /**
+     * Inserts the member, which must not exist yet.
+     * @param member member to insert
+     * @return the inserted member
+     */
+    <S extends Member> S insert(S member);
 
+    /**
+     * Inserts the members, which must not exist yet.
+     * @param members members to insert
+     * @return the inserted members
+     */
+    <S extends Member> List<S> insert(Iterable<S> members);
 }
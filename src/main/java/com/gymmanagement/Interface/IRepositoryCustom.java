@@ -0,0 +1,158 @@
+package com.gymmanagement.Interface;
+
+import com.gymmanagement.beans.BulkItemResult;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberFields;
+import com.gymmanagement.beans.MemberSearch;
+import org.springframework.data.util.CloseableIterator;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Operations on the member collection which are not derived by MongoRepository.
+ * Implemented by {@link IRepositoryImpl} and mixed into {@link IRepository}.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public interface IRepositoryCustom {
+
+    /**
+     * Finds the member with the specified id, fetching only the requested fields.
+     * @param id id of the member
+     * @param fields fields to fetch, the others are left unset
+     * @return the member, or null if it does not exist
+     */
+    Member findOne(int id, MemberFields fields);
+
+    /**
+     * Finds all the members, fetching only the requested fields.
+     * @param fields fields to fetch, the others are left unset
+     * @return every member
+     */
+    List<Member> findAll(MemberFields fields);
+
+    /**
+     * Finds the members with the given ids with a single query, fetching only the requested fields.
+     * @param ids ids of the members
+     * @param fields fields to fetch, the others are left unset
+     * @return the members which exist, in no particular order
+     */
+    List<Member> findAll(Collection<Integer> ids, MemberFields fields);
+
+    /**
+     * Finds one page of members ordered by id, starting after the given id.
+     * @param after id of the last member of the previous page, or null for the first page
+     * @param limit maximum number of members in the page
+     * @param fields fields to fetch, the others are left unset
+     * @return the members of the page in ascending id order
+     */
+    List<Member> findPage(Integer after, int limit, MemberFields fields);
+
+    /**
+     * Streams the members ordered by id, starting after the given id.
+     * Members are read from the Mongo cursor as they are consumed, so the
+     * collection is never held in memory. The iterator must be closed.
+     * @param after id to start after, or null to stream from the first member
+     * @return a cursor over the members in ascending id order
+     */
+    CloseableIterator<Member> streamAfter(Integer after);
+
+    /**
+     * Inserts the members with one unordered bulk write.
+     * A member which cannot be inserted does not stop the others.
+     * @param members members to insert
+     * @return one result per member, indexed by its position in the given list
+     */
+    List<BulkItemResult> insertAll(List<Member> members);
+
+    /**
+     * Inserts the member in one round trip, relying on the unique indexes to detect duplicates.
+     * The member is enrolled at version 0.
+     * @param member member to insert
+     * @return true if the member was inserted, false if a member with the same id already exists
+     * @throws org.springframework.dao.DuplicateKeyException if another member has the same contact number
+     */
+    boolean create(Member member);
+
+    /**
+     * Replaces the stored member with the same id in one round trip, matching on the id,
+     * and increments its version. Nothing is written when no member has that id.
+     * @param member new state of the member
+     * @return true if the member was replaced, false if it does not exist
+     */
+    boolean replace(Member member);
+
+    /**
+     * Deletes the members with the given ids with a single delete of every matching document.
+     * @param ids ids of the members, those which do not exist are ignored
+     * @return the number of members deleted
+     */
+    long deleteMany(Collection<Integer> ids);
+
+    /**
+     * Deletes every member at once, by swapping the member collection for an empty one with the same indexes
+     * rather than removing the documents. A write racing the swap may be lost with the old collection.
+     * The truncations of this application run one at a time, each with an empty collection of its own.
+     * @return the number of members just before the swap
+     */
+    long truncate();
+
+    /**
+     * Finds the members matching the search criteria.
+     * @param search the criteria, which must be served by an index
+     * @param limit maximum number of members returned
+     * @return the matching members
+     */
+    List<Member> search(MemberSearch search, int limit);
+
+    /**
+     * Counts the members of every age, grouped by Mongo so that only one count per age is sent back.
+     * The pipeline walks the age index in order, reading only the ages.
+     * @return number of members by age, in ascending age
+     */
+    SortedMap<Integer, Long> countByAge();
+
+    /**
+     * Counts the members of the most common last names, grouped and sorted by Mongo.
+     * The pipeline walks the lastName_firstName index in order, reading only the last names.
+     * @param limit number of last names returned
+     * @return number of members by last name, most common first, null standing for members without one
+     */
+    Map<String, Long> countByLastName(int limit);
+
+    /**
+     * Gets the revision of the member collection, a marker which changes after every write on it.
+     * @return the revision, 0 if the collection was never written
+     */
+    long revision();
+
+    /**
+     * Moves the revision of the member collection forward, to be called after every write on it.
+     * @return the new revision
+     */
+    long nextRevision();
+
+    /**
+     * Gets the counter of the member ids reserved by the {@link MemberIdAllocator} of every instance.
+     * @return the last reserved id, 0 if none was ever reserved
+     */
+    long lastReservedId();
+
+    /**
+     * Moves the counter of the reserved member ids, unless it was moved since it was read.
+     * @param expected the counter as read by {@link #lastReservedId()}
+     * @param next new value of the counter
+     * @return true if the counter was moved, false if another allocator moved it first
+     */
+    boolean reserveIds(long expected, long next);
+
+    /**
+     * Gets the highest member id in use, read from the end of the id index.
+     * @return the highest id, or 0 if there are no members
+     */
+    int highestId();
+}
@@ -0,0 +1,375 @@
+package com.gymmanagement.Interface;
+
+import com.gymmanagement.beans.BulkItemResult;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberFields;
+import com.gymmanagement.beans.MemberSearch;
+import com.mongodb.AggregationOptions;
+import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteError;
+import com.mongodb.Cursor;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.ErrorCategory;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.CollectionCallback;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * MongoTemplate backed implementation of {@link IRepositoryCustom}.
+ * Picked up by Spring Data through the Impl suffix.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class IRepositoryImpl implements IRepositoryCustom {
+
+    /**
+     * Collection holding the revision markers.
+     */
+    static final String REVISION_COLLECTION = "revisions";
+
+    /**
+     * Id of the revision marker of the member collection.
+     */
+    static final String MEMBER_REVISION_ID = "member";
+
+    /**
+     * Field of the revision marker holding the revision.
+     */
+    static final String REVISION_FIELD = "revision";
+
+    /**
+     * Collection holding the id counters.
+     */
+    static final String SEQUENCE_COLLECTION = "sequences";
+
+    /**
+     * Id of the counter of the member ids.
+     */
+    static final String MEMBER_SEQUENCE_ID = "member";
+
+    /**
+     * Field of the counter holding the last reserved id.
+     */
+    static final String LAST_ID_FIELD = "lastId";
+
+    /**
+     * Suffix of the empty collections prepared to replace the member collection when it is truncated,
+     * followed by an id of its own for every truncation.
+     */
+    static final String TRUNCATED_SUFFIX = "_truncated_";
+
+    /**
+     * Lock held while the member collection is swapped, by any repository of this application.
+     */
+    private static final Object TRUNCATION = new Object();
+
+    /**
+     * Field of the aggregation results holding the number of members.
+     */
+    private static final String COUNT_FIELD = "count";
+
+    /**
+     * Template used for the queries which MongoRepository cannot express.
+     */
+    private final MongoOperations mongo;
+
+    @Autowired
+    public IRepositoryImpl(MongoOperations mongo) {
+        this.mongo = mongo;
+    }
+
+    @Override
+    public Member findOne(int id, MemberFields fields) {
+        return mongo.findOne(fields.project(new Query(where("_id").is(id))), Member.class);
+    }
+
+    @Override
+    public List<Member> findAll(MemberFields fields) {
+        return mongo.find(fields.project(new Query()), Member.class);
+    }
+
+    @Override
+    public List<Member> findAll(Collection<Integer> ids, MemberFields fields) {
+        return mongo.find(fields.project(new Query(where("_id").in(ids))), Member.class);
+    }
+
+    @Override
+    public List<Member> findPage(Integer after, int limit, MemberFields fields) {
+        return mongo.find(fields.project(afterId(after).limit(limit)), Member.class);
+    }
+
+    @Override
+    public CloseableIterator<Member> streamAfter(Integer after) {
+        return mongo.stream(afterId(after), Member.class);
+    }
+
+    @Override
+    public List<BulkItemResult> insertAll(List<Member> members) {
+        List<BulkItemResult> results = new ArrayList<BulkItemResult>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            if (members.get(i).getVersion() == null)
+                members.get(i).setVersion(0L);
+            results.add(new BulkItemResult(i, members.get(i).getId(), BulkItemResult.Status.CREATED, null));
+        }
+        if (members.isEmpty()) {
+            return results;
+        }
+
+        try {
+            mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Member.class).insert(members).execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                BulkItemResult result = results.get(error.getIndex());
+                if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                    result.setStatus(BulkItemResult.Status.FAILED);
+                    result.setMessage(error.getMessage());
+                } else if (isIdCollision(error.getMessage())) {
+                    result.setStatus(BulkItemResult.Status.DUPLICATE);
+                    result.setMessage("Member already exists! :/");
+                } else {
+                    result.setStatus(BulkItemResult.Status.CONFLICT);
+                    result.setMessage("Contact number already in use! :/");
+                }
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public boolean create(Member member) {
+        try {
+            mongo.insert(member);
+            return true;
+        } catch (DuplicateKeyException e) {
+            if (isIdCollision(e.getMessage()))
+                return false;
+            throw e;
+        }
+    }
+
+    /**
+     * Tells whether a duplicate key error was raised by the id index, rather than the contact number index.
+     * Mongo names the index in the message, as "index: _id_ dup key".
+     * @param message message of the duplicate key error
+     * @return true if another member has the same id
+     */
+    static boolean isIdCollision(String message) {
+        return message != null && message.contains(" _id_ ");
+    }
+
+    @Override
+    public boolean replace(Member member) {
+        Query byId = new Query(where("_id").is(member.getId()));
+        return mongo.updateFirst(byId, replacementOf(mongo.getConverter(), member), Member.class).getN() > 0;
+    }
+
+    @Override
+    public long deleteMany(Collection<Integer> ids) {
+        if (ids.isEmpty())
+            return 0;
+        return mongo.remove(new Query(where("_id").in(ids)), Member.class).getN();
+    }
+
+    @Override
+    public long truncate() {
+        final String collection = mongo.getCollectionName(Member.class);
+        String empty = collection + TRUNCATED_SUFFIX + new ObjectId().toHexString();
+        synchronized (TRUNCATION) {
+            boolean swapped = false;
+            try {
+                mongo.createCollection(empty);
+                MemberIndexes.create(mongo.indexOps(empty));
+
+                long members = mongo.count(new Query(), collection);
+                mongo.execute(empty, new CollectionCallback<Void>() {
+                    @Override
+                    public Void doInCollection(DBCollection emptied) {
+                        emptied.rename(collection, true);
+                        return null;
+                    }
+                });
+                swapped = true;
+                return members;
+            } finally {
+                if (!swapped)
+                    mongo.dropCollection(empty);
+            }
+        }
+    }
+
+    @Override
+    public List<Member> search(MemberSearch search, int limit) {
+        return mongo.find(search.toQuery().limit(limit), Member.class);
+    }
+
+    @Override
+    public SortedMap<Integer, Long> countByAge() {
+        SortedMap<Integer, Long> counts = new TreeMap<Integer, Long>();
+        for (DBObject group : aggregate(countBy("age"))) {
+            counts.put(((Number) group.get("_id")).intValue(), ((Number) group.get(COUNT_FIELD)).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> countByLastName(int limit) {
+        Map<String, Long> counts = new LinkedHashMap<String, Long>();
+        if (limit <= 0)
+            return counts;
+        List<DBObject> pipeline = countBy("lastName");
+        pipeline.add(new BasicDBObject("$sort", new BasicDBObject(COUNT_FIELD, -1).append("_id", 1)));
+        pipeline.add(new BasicDBObject("$limit", limit));
+        for (DBObject group : aggregate(pipeline)) {
+            counts.put((String) group.get("_id"), ((Number) group.get(COUNT_FIELD)).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public long revision() {
+        BasicDBObject marker = mongo.findOne(new Query(where("_id").is(MEMBER_REVISION_ID)),
+                BasicDBObject.class, REVISION_COLLECTION);
+        return marker == null ? 0 : marker.getLong(REVISION_FIELD, 0);
+    }
+
+    @Override
+    public long nextRevision() {
+        BasicDBObject marker = mongo.findAndModify(new Query(where("_id").is(MEMBER_REVISION_ID)),
+                new Update().inc(REVISION_FIELD, 1), FindAndModifyOptions.options().returnNew(true).upsert(true),
+                BasicDBObject.class, REVISION_COLLECTION);
+        return marker.getLong(REVISION_FIELD);
+    }
+
+    @Override
+    public long lastReservedId() {
+        BasicDBObject counter = mongo.findOne(new Query(where("_id").is(MEMBER_SEQUENCE_ID)),
+                BasicDBObject.class, SEQUENCE_COLLECTION);
+        return counter == null ? 0 : counter.getLong(LAST_ID_FIELD, 0);
+    }
+
+    @Override
+    public boolean reserveIds(long expected, long next) {
+        Query unchanged = new Query(where("_id").is(MEMBER_SEQUENCE_ID).and(LAST_ID_FIELD).is(expected));
+        if (mongo.updateFirst(unchanged, new Update().set(LAST_ID_FIELD, next), SEQUENCE_COLLECTION).getN() > 0)
+            return true;
+        if (expected != 0)
+            return false;
+        try {
+            mongo.insert(new BasicDBObject("_id", MEMBER_SEQUENCE_ID).append(LAST_ID_FIELD, next), SEQUENCE_COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // another instance created the counter at the same time
+            return false;
+        }
+    }
+
+    @Override
+    public int highestId() {
+        Member highest = mongo.findOne(new Query().with(new Sort(Sort.Direction.DESC, "_id")).limit(1), Member.class);
+        return highest == null ? 0 : highest.getId();
+    }
+
+    /**
+     * Builds an update which gives the stored document the same fields as the member,
+     * like a save would, but only applies when the id matches.
+     * Fields which are null on the member are unset, and the version is incremented.
+     * @param converter converter mapping the member to its document
+     * @param member new state of the member
+     * @return the update setting every field but the id and the version
+     */
+    static Update replacementOf(MongoConverter converter, Member member) {
+        final DBObject document = new BasicDBObject();
+        converter.write(member, document);
+
+        final MongoPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(Member.class);
+        final String version = entity.getVersionProperty().getFieldName();
+        final Update update = new Update();
+        for (String key : document.keySet()) {
+            if (!"_id".equals(key) && !version.equals(key))
+                update.set(key, document.get(key));
+        }
+        entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
+            @Override
+            public void doWithPersistentProperty(MongoPersistentProperty property) {
+                if (!property.isIdProperty() && !property.isVersionProperty()
+                        && !document.containsField(property.getFieldName()))
+                    update.unset(property.getFieldName());
+            }
+        });
+        return update.inc(version, 1);
+    }
+
+    /**
+     * Builds the start of a pipeline counting the members by the value of a field. The members are first
+     * sorted on the field, so that Mongo reads the values in order from the index of the field.
+     * @param field the field
+     * @return the pipeline, whose results have the value as _id and the number of members as count
+     */
+    private static List<DBObject> countBy(String field) {
+        List<DBObject> pipeline = new ArrayList<DBObject>();
+        pipeline.add(new BasicDBObject("$sort", new BasicDBObject(field, 1)));
+        pipeline.add(new BasicDBObject("$group", new BasicDBObject("_id", "$" + field)
+                .append(COUNT_FIELD, new BasicDBObject("$sum", 1))));
+        return pipeline;
+    }
+
+    /**
+     * Runs an aggregation pipeline on the member collection. The results are read through a cursor,
+     * which servers from 3.6 require, rather than inline as MongoOperations.aggregate asks for them.
+     * @param pipeline the stages of the pipeline
+     * @return the results
+     */
+    private List<DBObject> aggregate(final List<DBObject> pipeline) {
+        return mongo.execute(Member.class, new CollectionCallback<List<DBObject>>() {
+            @Override
+            public List<DBObject> doInCollection(DBCollection collection) {
+                List<DBObject> results = new ArrayList<DBObject>();
+                Cursor cursor = collection.aggregate(pipeline, AggregationOptions.builder()
+                        .outputMode(AggregationOptions.OutputMode.CURSOR).allowDiskUse(true).build());
+                try {
+                    while (cursor.hasNext())
+                        results.add(cursor.next());
+                } finally {
+                    cursor.close();
+                }
+                return results;
+            }
+        });
+    }
+
+    /**
+     * Builds the keyset query: members with an id greater than the cursor, ordered by id.
+     * The range and the sort are both served by the _id index.
+     * @param after id to start after, or null to start from the first member
+     * @return query ordered by ascending id
+     */
+    private Query afterId(Integer after) {
+        Query query = after == null ? new Query() : new Query(where("_id").gt(after));
+        return query.with(new Sort(Sort.Direction.ASC, "_id"));
+    }
+}
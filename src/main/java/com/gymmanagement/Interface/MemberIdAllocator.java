@@ -0,0 +1,169 @@
+package com.gymmanagement.Interface;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns member ids on the server, when member.ids.assign is set.
+ * The ids come from a counter stored by the member repository, which every instance moves forward by a whole block
+ * of ids at a time; the ids of the block are then handed out from memory, so only one create
+ * per block waits on the repository. Blocks never overlap, across threads or instances, since the counter is
+ * only moved with an update conditional on its previous value.
+ * The first block of an instance starts after the highest id in use, so the ids already chosen
+ * by clients are skipped. Blocks shrink as the id space fills, so that fewer ids are left unused
+ * in the block of a stopped instance, and once the counter passes the largest id a member can have,
+ * every allocation fails with {@link MemberIdsExhaustedException}. The ids of deleted members are not reused.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+public class MemberIdAllocator {
+
+    /**
+     * Largest id a member can have, from @Digits(integer = 5) on Member.
+     */
+    public static final int MAX_ID = 99999;
+
+    /**
+     * Fraction of the remaining ids a block may take, as a divisor.
+     */
+    private static final int REMAINING_SHARE = 16;
+
+    /**
+     * Repository storing the counter.
+     */
+    private final IRepositoryCustom members;
+
+    /**
+     * Whether members get their ids from this allocator.
+     */
+    private final boolean enabled;
+
+    /**
+     * Largest number of ids reserved at once.
+     */
+    private final int blockSize;
+
+    /**
+     * The ids of the current block.
+     */
+    private volatile Block block = new Block(1, 0);
+
+    /**
+     * Last value of the counter seen by this instance, or -1 before the first block.
+     */
+    private long lastSeen = -1;
+
+    @Autowired
+    public MemberIdAllocator(IRepository members,
+                             @Value("${member.ids.assign:false}") boolean enabled,
+                             @Value("${member.ids.block-size:100}") int blockSize) {
+        this((IRepositoryCustom) members, enabled, blockSize);
+    }
+
+    /**
+     * Creates an allocator moving the counter stored in Mongo, as another instance would.
+     * @param mongo template of the member database
+     * @param enabled whether members get their ids from this allocator
+     * @param blockSize largest number of ids reserved at once
+     */
+    public MemberIdAllocator(MongoOperations mongo, boolean enabled, int blockSize) {
+        this(new IRepositoryImpl(mongo), enabled, blockSize);
+    }
+
+    private MemberIdAllocator(IRepositoryCustom members, boolean enabled, int blockSize) {
+        if (blockSize < 1)
+            throw new IllegalArgumentException("member.ids.block-size must be positive: " + blockSize);
+        this.members = members;
+        this.enabled = enabled;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * @return true if members get their ids from this allocator rather than from the client
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Allocates an id no other member was given by this or any other allocator.
+     * Only waits on the repository when the current block is used up.
+     * @return the id
+     * @throws MemberIdsExhaustedException if every id was allocated
+     */
+    public int nextId() {
+        while (true) {
+            Block current = block;
+            int id = current.next.getAndIncrement();
+            if (id <= current.last)
+                return id;
+            refill(current);
+        }
+    }
+
+    /**
+     * Allocates an id of the current block, never waiting on the repository.
+     * @return the id, or 0 when the block is used up and {@link #nextId()} has to reserve another one
+     */
+    public int nextReservedId() {
+        Block current = block;
+        int id = current.next.getAndIncrement();
+        return id <= current.last ? id : 0;
+    }
+
+    /**
+     * Replaces the used up block by a newly reserved one, unless another thread already did.
+     * @param used the used up block
+     */
+    private synchronized void refill(Block used) {
+        if (block == used)
+            block = reserve();
+    }
+
+    /**
+     * Moves the counter forward by one block.
+     * The counter is only moved from the value just read, so two instances moving it at once
+     * cannot both succeed; the one which fails reads it again.
+     * @return the reserved ids
+     */
+    private Block reserve() {
+        if (lastSeen >= MAX_ID)
+            throw new MemberIdsExhaustedException();
+        long floor = lastSeen < 0 ? members.highestId() : 0;
+        long remaining = MAX_ID - Math.max(lastSeen, floor);
+        int size = (int) Math.max(1, Math.min(blockSize, remaining / REMAINING_SHARE));
+
+        while (true) {
+            long last = members.lastReservedId();
+            long first = Math.max(last, floor) + 1;
+            if (first > MAX_ID) {
+                lastSeen = MAX_ID;
+                throw new MemberIdsExhaustedException();
+            }
+            if (members.reserveIds(last, first + size - 1)) {
+                lastSeen = first + size - 1;
+                return new Block((int) first, (int) Math.min(lastSeen, MAX_ID));
+            }
+        }
+    }
+
+    /**
+     * A range of reserved ids, handed out in increasing order.
+     */
+    private static final class Block {
+
+        private final AtomicInteger next;
+        private final int last;
+
+        Block(int first, int last) {
+            this.next = new AtomicInteger(first);
+            this.last = last;
+        }
+    }
+}
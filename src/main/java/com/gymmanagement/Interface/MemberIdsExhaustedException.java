@@ -0,0 +1,14 @@
+package com.gymmanagement.Interface;
+
+/**
+ * Thrown by {@link MemberIdAllocator} when every member id was allocated.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class MemberIdsExhaustedException extends IllegalStateException {
+
+    public MemberIdsExhaustedException() {
+        super("Every member id up to " + MemberIdAllocator.MAX_ID + " is allocated");
+    }
+}
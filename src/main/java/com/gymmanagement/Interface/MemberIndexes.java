@@ -0,0 +1,105 @@
+package com.gymmanagement.Interface;
+
+import com.gymmanagement.GymApplication;
+import com.gymmanagement.beans.Member;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.IndexOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates the indexes of the member collection at startup, only those which are missing.
+ * They are declared here rather than with annotations on {@link Member}, since Spring Data asks for every annotated index
+ * again at each startup, and an index built over the members already stored can fail or, on a Mongo stand-in,
+ * come out empty. The unique contact number index cannot be built while two members share a number;
+ * the application then refuses to start, naming the index, until the numbers are made distinct.
+ * It is not lazy with the fast profile, so that the indexes exist before the first write.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+@Lazy(false)
+@Profile("!embedded")
+public class MemberIndexes {
+
+    /**
+     * Name of the unique contact number index.
+     */
+    public static final String CONTACT_NO = "contactNo";
+
+    /**
+     * The indexes of the member collection, besides the id index: by last and first name, by age,
+     * and uniquely by contact number.
+     */
+    static final List<Index> INDEXES = Arrays.asList(
+            new Index().on("lastName", Sort.Direction.ASC).on("firstName", Sort.Direction.ASC).named("lastName_firstName"),
+            new Index().on("age", Sort.Direction.ASC).named("age"),
+            new Index().on("contactNo", Sort.Direction.ASC).unique().named(CONTACT_NO));
+
+    /**
+     * Template of the member database.
+     */
+    @Autowired
+    MongoOperations mongo;
+    /**
+     * The application object used to access logger object.
+     */
+    GymApplication gymnasium;
+
+    /**
+     * Creates the missing indexes of the member collection.
+     * @throws IllegalStateException if an index cannot be built on the stored members
+     */
+    @PostConstruct
+    public void ensureIndexes() {
+        try {
+            int created = ensure(mongo.indexOps(Member.class));
+            if (created > 0)
+                gymnasium.llog.info("Created {} member indexes", created);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Cannot build the member indexes, the unique " + CONTACT_NO
+                    + " index needs every member to have its own contact number: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates the member indexes a collection does not have yet, known by their names.
+     * @param indexes operations on the indexes of the collection
+     * @return the number of indexes created
+     */
+    static int ensure(IndexOperations indexes) {
+        Set<String> existing = new HashSet<String>();
+        for (IndexInfo index : indexes.getIndexInfo())
+            existing.add(index.getName());
+        int created = 0;
+        for (Index index : INDEXES) {
+            if (existing.add(index.getIndexOptions().get("name").toString())) {
+                indexes.ensureIndex(index);
+                created++;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Creates every member index on a new collection.
+     * @param indexes operations on the indexes of the collection
+     */
+    static void create(IndexOperations indexes) {
+        for (Index index : INDEXES)
+            indexes.ensureIndex(index);
+    }
+}
@@ -0,0 +1,322 @@
+package com.gymmanagement.Interface;
+
+import com.gymmanagement.beans.Member;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-ahead log of the changes to the members of {@link EmbeddedMemberRepository}.
+ * Each entry is prefixed by its length and the CRC32 of its content, which is one of: a stored member,
+ * laid out as a {@link MemberSnapshot} record, the id of a removed member, the removal of every member,
+ * or the counter of the reserved member ids.
+ * An entry gives the state it leaves behind rather than how it was reached, so the entries can be replayed
+ * over a snapshot which already holds some of them. A log cut short by a crash is read up to its last whole entry.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+final class MemberLog implements Closeable {
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+    static final byte CLEAR = 3;
+    static final byte IDS = 4;
+
+    /**
+     * Size of the length and the checksum before each entry.
+     */
+    private static final int ENTRY_HEADER = 4 + 4;
+
+    /**
+     * Size of the largest entry, a member with four text fields of the longest length.
+     */
+    private static final int MAX_ENTRY_SIZE = 1 + 4 + 4 + 8 + 4 * (2 + MemberSnapshot.NULL_LENGTH - 1);
+
+    private final Path file;
+    private final FileChannel channel;
+
+    /**
+     * Whether every entry is forced to the disk before the write returns.
+     */
+    private final boolean sync;
+
+    /**
+     * Bytes after the last whole entry which were dropped when the log was opened.
+     */
+    private final long discarded;
+
+    private final CRC32 checksum = new CRC32();
+    private ByteBuffer buffer = ByteBuffer.allocate(1 << 12);
+    private volatile long size;
+
+    private MemberLog(Path file, FileChannel channel, long size, long discarded, boolean sync) {
+        this.file = file;
+        this.channel = channel;
+        this.size = size;
+        this.discarded = discarded;
+        this.sync = sync;
+    }
+
+    /**
+     * Opens a log for appending, creating it if it does not exist.
+     * Its entries are replayed first, and whatever follows the last whole entry is cut off.
+     * @param file the log file
+     * @param replay receives the entries of the log
+     * @param sync true to force every entry to the disk before the write returns
+     * @return the log
+     * @throws IOException If the log cannot be read or written
+     */
+    static MemberLog open(Path file, Replay replay, boolean sync) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long end = replay(channel, replay);
+            long discarded = channel.size() - end;
+            channel.truncate(end);
+            channel.position(end);
+            return new MemberLog(file, channel, end, discarded, sync);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Replays the whole entries of a log without opening it for appending.
+     * @param file the log file
+     * @param replay receives the entries of the log
+     * @throws IOException If the log cannot be read
+     */
+    static void replay(Path file, Replay replay) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            replay(channel, replay);
+        }
+    }
+
+    /**
+     * Reads the entries from the start of the channel until the end, an incomplete entry, or a corrupt one.
+     * @param channel the log
+     * @param replay receives the entries
+     * @return the position after the last whole entry
+     * @throws IOException If the log cannot be read, or holds an entry of an unknown kind
+     */
+    private static long replay(FileChannel channel, Replay replay) throws IOException {
+        // not closed, as that would close the channel
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+        CRC32 checksum = new CRC32();
+        byte[] entry = new byte[256];
+        byte[] scratch = new byte[256];
+        long position = 0;
+        while (true) {
+            int length;
+            int expected;
+            try {
+                length = in.readInt();
+                expected = in.readInt();
+                if (length < 1 || length > MAX_ENTRY_SIZE)
+                    return position;
+                if (entry.length < length)
+                    entry = new byte[length];
+                in.readFully(entry, 0, length);
+            } catch (EOFException e) {
+                return position;
+            }
+            checksum.reset();
+            checksum.update(entry, 0, length);
+            if ((int) checksum.getValue() != expected)
+                return position;
+            apply(ByteBuffer.wrap(entry, 0, length), scratch, replay);
+            position += ENTRY_HEADER + length;
+        }
+    }
+
+    private static void apply(ByteBuffer entry, byte[] scratch, Replay replay) throws IOException {
+        byte type = entry.get();
+        switch (type) {
+            case PUT:
+                Member member = new Member();
+                member.setId(entry.getInt());
+                member.setAge(entry.getInt());
+                long version = entry.getLong();
+                member.setVersion(version == MemberSnapshot.NULL_VERSION ? null : version);
+                member.setFirstName(MemberSnapshot.get(entry, scratch));
+                member.setLastName(MemberSnapshot.get(entry, scratch));
+                member.setAddress(MemberSnapshot.get(entry, scratch));
+                member.setContactNo(MemberSnapshot.get(entry, scratch));
+                replay.put(member);
+                break;
+            case DELETE:
+                replay.delete(entry.getInt());
+                break;
+            case CLEAR:
+                replay.clear();
+                break;
+            case IDS:
+                replay.reserveIds(entry.getLong());
+                break;
+            default:
+                throw new IOException("Unknown member log entry " + type);
+        }
+    }
+
+    /**
+     * Appends a stored member.
+     * @param member the member
+     * @throws IOException If the entry cannot be written, in which case the log is left as it was
+     */
+    synchronized void put(Member member) throws IOException {
+        byte[] firstName = MemberSnapshot.encode(member.getFirstName());
+        byte[] lastName = MemberSnapshot.encode(member.getLastName());
+        byte[] address = MemberSnapshot.encode(member.getAddress());
+        byte[] contactNo = MemberSnapshot.encode(member.getContactNo());
+        ByteBuffer entry = start(1 + 4 + 4 + 8 + MemberSnapshot.field(firstName) + MemberSnapshot.field(lastName)
+                + MemberSnapshot.field(address) + MemberSnapshot.field(contactNo));
+        entry.put(PUT);
+        entry.putInt(member.getId());
+        entry.putInt(member.getAge());
+        entry.putLong(member.getVersion() == null ? MemberSnapshot.NULL_VERSION : member.getVersion());
+        MemberSnapshot.put(entry, firstName);
+        MemberSnapshot.put(entry, lastName);
+        MemberSnapshot.put(entry, address);
+        MemberSnapshot.put(entry, contactNo);
+        write(entry);
+    }
+
+    /**
+     * Appends the removal of a member.
+     * @param id id of the member
+     * @throws IOException If the entry cannot be written, in which case the log is left as it was
+     */
+    synchronized void delete(int id) throws IOException {
+        write(start(1 + 4).put(DELETE).putInt(id));
+    }
+
+    /**
+     * Appends the removal of every member.
+     * @throws IOException If the entry cannot be written, in which case the log is left as it was
+     */
+    synchronized void clear() throws IOException {
+        write(start(1).put(CLEAR));
+    }
+
+    /**
+     * Appends the counter of the reserved member ids.
+     * @param lastId the last reserved id
+     * @throws IOException If the entry cannot be written, in which case the log is left as it was
+     */
+    synchronized void reserveIds(long lastId) throws IOException {
+        write(start(1 + 8).put(IDS).putLong(lastId));
+    }
+
+    /**
+     * Forces the entries written so far to the disk.
+     * @throws IOException If they cannot be forced
+     */
+    synchronized void force() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * @return the size of the log in bytes
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * @return the bytes after the last whole entry which were cut off when the log was opened
+     */
+    long discarded() {
+        return discarded;
+    }
+
+    /**
+     * @return the log file
+     */
+    Path file() {
+        return file;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * @param length size of the entry
+     * @return the buffer, positioned where the entry starts
+     */
+    private ByteBuffer start(int length) {
+        if (buffer.capacity() < ENTRY_HEADER + length)
+            buffer = ByteBuffer.allocate(ENTRY_HEADER + length);
+        buffer.clear();
+        buffer.position(ENTRY_HEADER);
+        return buffer;
+    }
+
+    /**
+     * Writes the entry with its length and checksum, cutting off what was written of it if the write fails,
+     * so that the entries appended next are not hidden behind a partial one.
+     * @param entry the buffer holding the entry
+     * @throws IOException If the entry cannot be written
+     */
+    private void write(ByteBuffer entry) throws IOException {
+        int length = entry.position() - ENTRY_HEADER;
+        checksum.reset();
+        checksum.update(entry.array(), ENTRY_HEADER, length);
+        entry.putInt(0, length);
+        entry.putInt(4, (int) checksum.getValue());
+        entry.flip();
+        try {
+            while (entry.hasRemaining())
+                channel.write(entry);
+            if (sync)
+                channel.force(false);
+        } catch (IOException e) {
+            channel.truncate(size);
+            channel.position(size);
+            throw e;
+        }
+        size += ENTRY_HEADER + length;
+    }
+
+    /**
+     * Receives the entries of a log as it is replayed.
+     */
+    interface Replay {
+
+        /**
+         * @param member member stored, replacing any member with the same id
+         */
+        void put(Member member);
+
+        /**
+         * @param id id of the removed member
+         */
+        void delete(int id);
+
+        /**
+         * Every member was removed.
+         */
+        void clear();
+
+        /**
+         * @param lastId last member id reserved
+         */
+        void reserveIds(long lastId);
+    }
+}
@@ -0,0 +1,306 @@
+package com.gymmanagement.Interface;
+
+import com.gymmanagement.beans.Member;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Compact binary snapshot of the member collection, read without Mongo, for warming caches and offline reports.
+ * The file starts with a header: the magic number, the format version, the number of members, the time of the export
+ * and the revision of the collection read before the export. Files of the first version, without the revision, are still read.
+ * Each member follows as a record prefixed by its length: the id, the age and the version,
+ * then the first name, last name, address and contact number as UTF-8, each prefixed by its length.
+ * All numbers are big endian. A file is read through a memory map, so reading does not copy it onto the heap.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public final class MemberSnapshot {
+
+    /**
+     * First bytes of every snapshot, "GYMS".
+     */
+    public static final int MAGIC = 0x47594D53;
+
+    /**
+     * Version of the format written.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * Revision of a snapshot written without one, or of the first version.
+     */
+    public static final long UNKNOWN_REVISION = -1;
+
+    /**
+     * Size of the header: magic, version, member count, export time and revision.
+     */
+    static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8;
+
+    /**
+     * Size of the header of the first version, without the revision.
+     */
+    private static final int FIRST_HEADER_SIZE = 4 + 4 + 8 + 8;
+
+    /**
+     * Length written for a missing text field; longer fields cannot be written.
+     */
+    static final int NULL_LENGTH = 0xFFFF;
+
+    /**
+     * Version written for a member which has none.
+     */
+    static final long NULL_VERSION = Long.MIN_VALUE;
+
+    /**
+     * Size of a record with four empty text fields.
+     */
+    static final int MIN_RECORD_SIZE = 4 + 4 + 8 + 4 * 2;
+
+    /**
+     * Size of the buffer the records are written through.
+     */
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Largest part of the file mapped at once, so that files over 2 GB can be read.
+     */
+    private static final long MAP_WINDOW = 1L << 28;
+
+    private MemberSnapshot() {
+    }
+
+    /**
+     * Writes the members into a snapshot file, replacing it if it exists, without a revision.
+     * @param members the members, in the order they are read back
+     * @param file the snapshot file
+     * @return the number of members written
+     * @throws IOException If the file cannot be written
+     */
+    public static long write(Iterator<Member> members, Path file) throws IOException {
+        return write(members, file, UNKNOWN_REVISION);
+    }
+
+    /**
+     * Writes the members into a snapshot file, replacing it if it exists.
+     * @param members the members, in the order they are read back
+     * @param file the snapshot file
+     * @param revision revision of the collection read before the members, or {@link #UNKNOWN_REVISION}
+     * @return the number of members written
+     * @throws IOException If the file cannot be written
+     */
+    public static long write(Iterator<Member> members, Path file, long revision) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            buffer.position(HEADER_SIZE);
+            long count = 0;
+            while (members.hasNext()) {
+                Member member = members.next();
+                byte[] firstName = encode(member.getFirstName());
+                byte[] lastName = encode(member.getLastName());
+                byte[] address = encode(member.getAddress());
+                byte[] contactNo = encode(member.getContactNo());
+                int length = 4 + 4 + 8 + field(firstName) + field(lastName) + field(address) + field(contactNo);
+                if (buffer.remaining() < 4 + length)
+                    flush(channel, buffer);
+
+                buffer.putInt(length);
+                buffer.putInt(member.getId());
+                buffer.putInt(member.getAge());
+                buffer.putLong(member.getVersion() == null ? NULL_VERSION : member.getVersion());
+                put(buffer, firstName);
+                put(buffer, lastName);
+                put(buffer, address);
+                put(buffer, contactNo);
+                count++;
+            }
+            flush(channel, buffer);
+
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putLong(count);
+            buffer.putLong(System.currentTimeMillis());
+            buffer.putLong(revision);
+            buffer.flip();
+            while (buffer.hasRemaining())
+                channel.write(buffer, buffer.position());
+            channel.force(false);
+            return count;
+        }
+    }
+
+    /**
+     * Reads the revision of the collection a snapshot file was exported at.
+     * @param file the snapshot file
+     * @return the revision, or {@link #UNKNOWN_REVISION} if the snapshot has none
+     * @throws IOException If the file cannot be read or is not a snapshot
+     */
+    public static long revision(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer header = header(channel, file);
+            return header.limit() < HEADER_SIZE ? UNKNOWN_REVISION : header.getLong(HEADER_SIZE - 8);
+        }
+    }
+
+    /**
+     * Maps and checks the header of a snapshot file.
+     * @param channel the snapshot file
+     * @param file path of the snapshot file, for the messages
+     * @return the header, positioned on the member count and limited to the header size of its version
+     * @throws IOException If the file cannot be read or is not a snapshot
+     */
+    private static MappedByteBuffer header(FileChannel channel, Path file) throws IOException {
+        long size = channel.size();
+        if (size < FIRST_HEADER_SIZE)
+            throw new IOException("Not a member snapshot: " + file);
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, HEADER_SIZE));
+        if (header.getInt() != MAGIC)
+            throw new IOException("Not a member snapshot: " + file);
+        int version = header.getInt();
+        if (version == 1)
+            header.limit(FIRST_HEADER_SIZE);
+        else if (version != VERSION)
+            throw new IOException("Unsupported member snapshot version " + version + ": " + file);
+        else if (size < HEADER_SIZE)
+            throw new IOException("Not a member snapshot: " + file);
+        return header;
+    }
+
+    /**
+     * Reads the members of a snapshot file in the order they were written.
+     * @param file the snapshot file
+     * @param consumer receives every member, a new object each
+     * @return the number of members read
+     * @throws IOException If the file cannot be read, is not a snapshot, or is truncated
+     */
+    public static long read(Path file, Consumer<Member> consumer) throws IOException {
+        return read(file, Long.MAX_VALUE, consumer);
+    }
+
+    /**
+     * Reads the first members of a snapshot file in the order they were written.
+     * @param file the snapshot file
+     * @param max the most members to read
+     * @param consumer receives every member, a new object each
+     * @return the number of members read
+     * @throws IOException If the file cannot be read, is not a snapshot, or is truncated
+     */
+    public static long read(Path file, long max, Consumer<Member> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer header = header(channel, file);
+            long expected = header.getLong();
+
+            byte[] scratch = new byte[256];
+            long count = 0;
+            long position = header.limit();
+            MappedByteBuffer window = null;
+            long windowStart = position;
+            while (position < size && count < max) {
+                // remap when the next record is not wholly inside the window
+                int offset = (int) (position - windowStart);
+                if (window == null || window.limit() - offset < 4
+                        || window.limit() - offset < 4 + window.getInt(offset)) {
+                    windowStart = position;
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, MAP_WINDOW));
+                    offset = 0;
+                    if (window.limit() < 4 || window.limit() < 4 + window.getInt(0))
+                        throw new IOException("Truncated member snapshot after " + count + " members: " + file);
+                }
+                window.position(offset);
+                int length = window.getInt();
+                if (length < MIN_RECORD_SIZE)
+                    throw new IOException("Corrupt member snapshot record " + count + ": " + file);
+                Member member = new Member();
+                member.setId(window.getInt());
+                member.setAge(window.getInt());
+                long memberVersion = window.getLong();
+                member.setVersion(memberVersion == NULL_VERSION ? null : memberVersion);
+                member.setFirstName(get(window, scratch));
+                member.setLastName(get(window, scratch));
+                member.setAddress(get(window, scratch));
+                member.setContactNo(get(window, scratch));
+                if (window.position() != offset + 4 + length)
+                    throw new IOException("Corrupt member snapshot record " + count + ": " + file);
+                position += 4 + length;
+                count++;
+                consumer.accept(member);
+            }
+            if (count < max && count != expected)
+                throw new IOException("Member snapshot holds " + count + " members instead of " + expected + ": " + file);
+            return count;
+        }
+    }
+
+    /**
+     * Writes the filled part of the buffer to the end of the channel, and empties the buffer.
+     * @param channel the snapshot file
+     * @param buffer the records to write
+     * @throws IOException If the file cannot be written
+     */
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * @param value a text field, or null
+     * @return its UTF-8 bytes, or null
+     */
+    static byte[] encode(String value) {
+        if (value == null)
+            return null;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_LENGTH)
+            throw new IllegalArgumentException("Member field of " + bytes.length + " bytes is too long for a snapshot");
+        return bytes;
+    }
+
+    /**
+     * @param bytes an encoded text field, or null
+     * @return the size it takes in a record
+     */
+    static int field(byte[] bytes) {
+        return 2 + (bytes == null ? 0 : bytes.length);
+    }
+
+    /**
+     * Writes an encoded text field prefixed by its length.
+     * @param buffer the buffer
+     * @param bytes the field, or null
+     */
+    static void put(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putShort((short) NULL_LENGTH);
+        } else {
+            buffer.putShort((short) bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    /**
+     * Reads a text field written by {@link #put(ByteBuffer, byte[])}.
+     * @param buffer the buffer
+     * @param scratch array the bytes are copied into when they fit
+     * @return the field, or null
+     */
+    static String get(ByteBuffer buffer, byte[] scratch) {
+        int length = buffer.getShort() & 0xFFFF;
+        if (length == NULL_LENGTH)
+            return null;
+        byte[] bytes = length <= scratch.length ? scratch : new byte[length];
+        buffer.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
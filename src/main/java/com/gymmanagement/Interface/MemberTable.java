@@ -0,0 +1,515 @@
+package com.gymmanagement.Interface;
+
+import com.gymmanagement.beans.Member;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-process table of the members keyed by id, which {@link EmbeddedMemberRepository} keeps them in.
+ * The ids are spread over stripes, each an open addressing hash table with linear probing guarded by
+ * its own read write lock, so that writers only wait for the readers and writers of one stripe.
+ * A stored member is not an object: the id, age and version sit in primitive arrays, and the text fields
+ * are packed as UTF-8 into one byte array per stripe, in the layout of the {@link MemberSnapshot} records.
+ * Every change is handed to the {@link Journal} before it is applied, under the lock of its stripe,
+ * so the journal gets the changes of a member in the order they are applied, and can refuse one by throwing.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+final class MemberTable {
+
+    /**
+     * Number of bits of the hash choosing the stripe.
+     */
+    private static final int STRIPE_BITS = 6;
+
+    /**
+     * Number of slots of an empty stripe, a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Size of the text array of an empty stripe.
+     */
+    private static final int INITIAL_TEXT_SIZE = 1024;
+
+    /**
+     * Text offset of an empty slot.
+     */
+    private static final int EMPTY = -1;
+
+    /**
+     * The stripes, chosen by the high bits of the hash of the id.
+     */
+    private final Stripe[] stripes = new Stripe[1 << STRIPE_BITS];
+
+    /**
+     * Receives every change before it is applied.
+     */
+    private final Journal journal;
+
+    MemberTable(Journal journal) {
+        this.journal = journal;
+        for (int i = 0; i < stripes.length; i++)
+            stripes[i] = new Stripe();
+    }
+
+    /**
+     * @param id id of the member
+     * @return a copy of the stored member, or null if there is none
+     */
+    Member get(int id) {
+        Stripe stripe = stripe(id);
+        stripe.readLock().lock();
+        try {
+            int slot = stripe.find(id);
+            return slot < 0 ? null : stripe.member(slot);
+        } finally {
+            stripe.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param id id of the member
+     * @return true if a member with that id is stored
+     */
+    boolean contains(int id) {
+        Stripe stripe = stripe(id);
+        stripe.readLock().lock();
+        try {
+            return stripe.find(id) >= 0;
+        } finally {
+            stripe.readLock().unlock();
+        }
+    }
+
+    /**
+     * Changes the member with the given id, atomically with respect to every other change of that member.
+     * The change runs under the lock of the stripe and must not block.
+     * @param id id of the member
+     * @param change receives a copy of the stored member, or null if there is none, and returns the member to store,
+     *               null to remove it, or what it received to leave it as it is
+     * @return the member stored before the change, or null if there was none
+     * @throws IllegalArgumentException if the member to store has another id, or a text field too long to be packed
+     */
+    Member update(int id, UnaryOperator<Member> change) {
+        Stripe stripe = stripe(id);
+        stripe.writeLock().lock();
+        try {
+            int slot = stripe.find(id);
+            Member current = slot < 0 ? null : stripe.member(slot);
+            Member next = change.apply(current);
+            if (next == current)
+                return current;
+            if (next == null) {
+                journal.delete(current);
+                stripe.remove(slot);
+            } else {
+                if (next.getId() != id)
+                    throw new IllegalArgumentException("Member " + next.getId() + " cannot be stored as member " + id);
+                byte[] text = pack(next);
+                journal.put(current, next);
+                stripe.store(slot, next, text);
+            }
+            return current;
+        } finally {
+            stripe.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every member, holding the locks of all the stripes, so no change is applied meanwhile.
+     */
+    void clear() {
+        for (Stripe stripe : stripes)
+            stripe.writeLock().lock();
+        try {
+            journal.clear();
+            for (Stripe stripe : stripes)
+                stripe.reset();
+        } finally {
+            for (Stripe stripe : stripes)
+                stripe.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of stored members
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes)
+            size += stripe.size;
+        return size;
+    }
+
+    /**
+     * Gets the ids of the stored members greater than the given one, in ascending order.
+     * @param after id to start after, or null for every id
+     * @return the ids
+     */
+    int[] ids(Integer after) {
+        int[] ids = new int[Math.max(16, size())];
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            stripe.readLock().lock();
+            try {
+                for (int slot = 0; slot < stripe.texts.length; slot++) {
+                    if (stripe.texts[slot] == EMPTY || (after != null && stripe.keys[slot] <= after))
+                        continue;
+                    if (count == ids.length)
+                        ids = Arrays.copyOf(ids, count * 2);
+                    ids[count++] = stripe.keys[slot];
+                }
+            } finally {
+                stripe.readLock().unlock();
+            }
+        }
+        ids = Arrays.copyOf(ids, count);
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    /**
+     * Finds the stored members accepted by a filter, stopping once enough were found.
+     * @param filter the filter, run under the lock of a stripe
+     * @param limit most members returned
+     * @return copies of the members, in no particular order
+     */
+    List<Member> select(Predicate<Member> filter, int limit) {
+        List<Member> selected = new ArrayList<Member>();
+        for (int i = 0; i < stripes.length && selected.size() < limit; i++) {
+            Stripe stripe = stripes[i];
+            stripe.readLock().lock();
+            try {
+                for (int slot = 0; slot < stripe.texts.length && selected.size() < limit; slot++) {
+                    if (stripe.texts[slot] == EMPTY)
+                        continue;
+                    Member member = stripe.member(slot);
+                    if (filter.test(member))
+                        selected.add(member);
+                }
+            } finally {
+                stripe.readLock().unlock();
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Gives the age of every stored member, without unpacking the members.
+     * @param consumer receives the ages, under the lock of a stripe
+     */
+    void forEachAge(IntConsumer consumer) {
+        for (Stripe stripe : stripes) {
+            stripe.readLock().lock();
+            try {
+                for (int slot = 0; slot < stripe.texts.length; slot++) {
+                    if (stripe.texts[slot] != EMPTY)
+                        consumer.accept(stripe.ages[slot]);
+                }
+            } finally {
+                stripe.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Iterates over the stored members one stripe at a time, copying a stripe when the iteration reaches it.
+     * Changes made meanwhile are seen or not depending on whether their stripe was reached.
+     * @return an iterator over copies of the members, in no particular order
+     */
+    Iterator<Member> iterator() {
+        return new Iterator<Member>() {
+
+            private int next;
+            private Iterator<Member> members = Collections.<Member>emptyList().iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!members.hasNext() && next < stripes.length)
+                    members = select(stripes[next++]).iterator();
+                return members.hasNext();
+            }
+
+            @Override
+            public Member next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return members.next();
+            }
+        };
+    }
+
+    /**
+     * @param stripe a stripe
+     * @return copies of all its members
+     */
+    private static List<Member> select(Stripe stripe) {
+        stripe.readLock().lock();
+        try {
+            List<Member> members = new ArrayList<Member>(stripe.size);
+            for (int slot = 0; slot < stripe.texts.length; slot++) {
+                if (stripe.texts[slot] != EMPTY)
+                    members.add(stripe.member(slot));
+            }
+            return members;
+        } finally {
+            stripe.readLock().unlock();
+        }
+    }
+
+    private Stripe stripe(int id) {
+        return stripes[hash(id) >>> (32 - STRIPE_BITS)];
+    }
+
+    /**
+     * Spreads the ids, which are mostly consecutive, over the stripes and the slots.
+     * @param id an id
+     * @return its hash
+     */
+    private static int hash(int id) {
+        int hash = id * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Packs the text fields of a member as they are laid out in a snapshot record.
+     * @param member the member
+     * @return the packed fields
+     */
+    private static byte[] pack(Member member) {
+        byte[] firstName = MemberSnapshot.encode(member.getFirstName());
+        byte[] lastName = MemberSnapshot.encode(member.getLastName());
+        byte[] address = MemberSnapshot.encode(member.getAddress());
+        byte[] contactNo = MemberSnapshot.encode(member.getContactNo());
+        ByteBuffer text = ByteBuffer.allocate(MemberSnapshot.field(firstName) + MemberSnapshot.field(lastName)
+                + MemberSnapshot.field(address) + MemberSnapshot.field(contactNo));
+        MemberSnapshot.put(text, firstName);
+        MemberSnapshot.put(text, lastName);
+        MemberSnapshot.put(text, address);
+        MemberSnapshot.put(text, contactNo);
+        return text.array();
+    }
+
+    /**
+     * Receives the changes of the table before they are applied.
+     */
+    interface Journal {
+
+        /**
+         * @param previous member about to be replaced, or null
+         * @param member member about to be stored
+         */
+        void put(Member previous, Member member);
+
+        /**
+         * @param previous member about to be removed
+         */
+        void delete(Member previous);
+
+        /**
+         * Called before every member is removed, while no other change can be applied.
+         */
+        void clear();
+    }
+
+    /**
+     * One open addressing table. Slot i holds the member with id keys[i] when texts[i] is not EMPTY;
+     * texts[i] is then the offset of its packed text fields in text. Removed and replaced fields are left
+     * in text as garbage until text is full, and then dropped as the live fields are copied into a new array.
+     */
+    private static final class Stripe extends ReentrantReadWriteLock {
+
+        private int[] keys;
+        private int[] ages;
+        private long[] versions;
+        private int[] texts;
+        private byte[] text;
+        private int textSize;
+        private volatile int size;
+
+        Stripe() {
+            reset();
+        }
+
+        void reset() {
+            keys = new int[INITIAL_CAPACITY];
+            ages = new int[INITIAL_CAPACITY];
+            versions = new long[INITIAL_CAPACITY];
+            texts = new int[INITIAL_CAPACITY];
+            Arrays.fill(texts, EMPTY);
+            text = new byte[INITIAL_TEXT_SIZE];
+            textSize = 0;
+            size = 0;
+        }
+
+        /**
+         * @param id an id
+         * @return the slot of the member with that id, or -1 - the empty slot where it would be stored
+         */
+        int find(int id) {
+            int mask = texts.length - 1;
+            int slot = hash(id) & mask;
+            while (texts[slot] != EMPTY) {
+                if (keys[slot] == id)
+                    return slot;
+                slot = (slot + 1) & mask;
+            }
+            return -1 - slot;
+        }
+
+        Member member(int slot) {
+            Member member = new Member();
+            member.setId(keys[slot]);
+            member.setAge(ages[slot]);
+            member.setVersion(versions[slot] == MemberSnapshot.NULL_VERSION ? null : versions[slot]);
+            int position = texts[slot];
+            member.setFirstName(string(position));
+            position = skip(position);
+            member.setLastName(string(position));
+            position = skip(position);
+            member.setAddress(string(position));
+            position = skip(position);
+            member.setContactNo(string(position));
+            return member;
+        }
+
+        /**
+         * Stores a member in its slot, found by {@link #find(int)}.
+         * @param slot the slot of the member, or where it would be stored
+         * @param member the member
+         * @param packed its text fields
+         */
+        void store(int slot, Member member, byte[] packed) {
+            if (slot < 0) {
+                if ((size + 1) * 3 > texts.length * 2) {
+                    grow();
+                    slot = find(member.getId());
+                }
+                slot = -1 - slot;
+                keys[slot] = member.getId();
+                size++;
+            } else {
+                // the fields it replaces are garbage, not to be copied if text has to be compacted
+                texts[slot] = EMPTY;
+            }
+            texts[slot] = append(packed);
+            ages[slot] = member.getAge();
+            versions[slot] = member.getVersion() == null ? MemberSnapshot.NULL_VERSION : member.getVersion();
+        }
+
+        /**
+         * Empties a slot, moving back the members after it which were stored further from their own slot,
+         * so that the slots between a member and its own slot are never empty.
+         * @param slot the slot
+         */
+        void remove(int slot) {
+            int mask = texts.length - 1;
+            int hole = slot;
+            for (int next = (hole + 1) & mask; texts[next] != EMPTY; next = (next + 1) & mask) {
+                int home = hash(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    ages[hole] = ages[next];
+                    versions[hole] = versions[next];
+                    texts[hole] = texts[next];
+                    hole = next;
+                }
+            }
+            texts[hole] = EMPTY;
+            size--;
+        }
+
+        /**
+         * Doubles the number of slots.
+         */
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldAges = ages;
+            long[] oldVersions = versions;
+            int[] oldTexts = texts;
+            int capacity = oldTexts.length * 2;
+            keys = new int[capacity];
+            ages = new int[capacity];
+            versions = new long[capacity];
+            texts = new int[capacity];
+            Arrays.fill(texts, EMPTY);
+            for (int old = 0; old < oldTexts.length; old++) {
+                if (oldTexts[old] == EMPTY)
+                    continue;
+                int slot = -1 - find(oldKeys[old]);
+                keys[slot] = oldKeys[old];
+                ages[slot] = oldAges[old];
+                versions[slot] = oldVersions[old];
+                texts[slot] = oldTexts[old];
+            }
+        }
+
+        /**
+         * Appends packed text fields, copying the live fields into a new array first if they do not fit.
+         * @param packed the fields
+         * @return their offset
+         */
+        private int append(byte[] packed) {
+            if (textSize + packed.length > text.length) {
+                int live = packed.length;
+                for (int slot = 0; slot < texts.length; slot++) {
+                    if (texts[slot] != EMPTY)
+                        live += skip(texts[slot], 4) - texts[slot];
+                }
+                byte[] compacted = new byte[Math.max(INITIAL_TEXT_SIZE, live * 2)];
+                int position = 0;
+                for (int slot = 0; slot < texts.length; slot++) {
+                    if (texts[slot] == EMPTY)
+                        continue;
+                    int length = skip(texts[slot], 4) - texts[slot];
+                    System.arraycopy(text, texts[slot], compacted, position, length);
+                    texts[slot] = position;
+                    position += length;
+                }
+                text = compacted;
+                textSize = position;
+            }
+            System.arraycopy(packed, 0, text, textSize, packed.length);
+            textSize += packed.length;
+            return textSize - packed.length;
+        }
+
+        /**
+         * @param position offset of a packed field
+         * @return the field, or null
+         */
+        private String string(int position) {
+            int length = length(position);
+            return length == MemberSnapshot.NULL_LENGTH
+                    ? null : new String(text, position + 2, length, StandardCharsets.UTF_8);
+        }
+
+        private int skip(int position) {
+            int length = length(position);
+            return position + 2 + (length == MemberSnapshot.NULL_LENGTH ? 0 : length);
+        }
+
+        private int skip(int position, int fields) {
+            for (int i = 0; i < fields; i++)
+                position = skip(position);
+            return position;
+        }
+
+        private int length(int position) {
+            return (text[position] & 0xFF) << 8 | text[position + 1] & 0xFF;
+        }
+    }
+}
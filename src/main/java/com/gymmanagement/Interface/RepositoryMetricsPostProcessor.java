@@ -0,0 +1,116 @@
+package com.gymmanagement.Interface;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every operation of the member repositories, {@link IRepository} and {@link IAsyncRepository},
+ * with one timer per method named member.mongo.&lt;method&gt;(&lt;parameter types&gt;), e.g. member.mongo.findOne(int,MemberFields),
+ * so that the overloads of a method are timed apart.
+ * Operations returning a CompletableFuture are timed until the future completes;
+ * operations returning a cursor are timed until the cursor is opened.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    /**
+     * Prefix of the repository timers.
+     */
+    public static final String TIMER_PREFIX = "member.mongo.";
+
+    /**
+     * Registry holding the timers, looked up on first use since post processors are created early.
+     */
+    private final ObjectProvider<MetricRegistry> registry;
+
+    /**
+     * Timer names of the methods already called.
+     */
+    private final Map<Method, String> names = new ConcurrentHashMap<Method, String>();
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MetricRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof IRepository) && !(bean instanceof IAsyncRepository))
+            return bean;
+
+        MethodInterceptor timing = new TimingInterceptor();
+        if (bean instanceof Advised && !((Advised) bean).isFrozen()) {
+            // first, since the Spring Data query interceptor ends the chain without proceeding
+            ((Advised) bean).addAdvice(0, timing);
+            return bean;
+        }
+        ProxyFactory proxy = new ProxyFactory(bean);
+        proxy.addAdvice(timing);
+        return proxy.getProxy();
+    }
+
+    /**
+     * Names the timer of a method after its name and the simple names of its parameter types.
+     * @param method the method
+     * @return the timer name
+     */
+    static String name(Method method) {
+        StringBuilder name = new StringBuilder(TIMER_PREFIX).append(method.getName()).append('(');
+        Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0)
+                name.append(',');
+            name.append(types[i].getSimpleName());
+        }
+        return name.append(')').toString();
+    }
+
+    /**
+     * Records the time of each repository call in the timer of its method.
+     */
+    private class TimingInterceptor implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            if (invocation.getMethod().getDeclaringClass() == Object.class)
+                return invocation.proceed();
+
+            final Timer timer = registry.getObject().timer(names.computeIfAbsent(invocation.getMethod(), RepositoryMetricsPostProcessor::name));
+            final long start = System.nanoTime();
+            Object result;
+            try {
+                result = invocation.proceed();
+            } catch (Throwable t) {
+                timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw t;
+            }
+
+            if (result instanceof CompletableFuture)
+                ((CompletableFuture<?>) result).whenComplete((value, t) ->
+                        timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+            else
+                timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.gymmanagement.beans;
+
+/**
+ * Outcome of enrolling one member of a bulk request.
+ *
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class BulkItemResult {
+
+    /**
+     * Possible outcomes of a bulk item.
+     */
+    public enum Status {
+        /** The member was enrolled. */
+        CREATED,
+        /** A member with the same id already exists. */
+        DUPLICATE,
+        /** Another member has the same contact number. */
+        CONFLICT,
+        /** The member could not be read or broke one of its constraints. */
+        INVALID,
+        /** The member was rejected by the database for another reason. */
+        FAILED
+    }
+
+    /**
+     * Position of the member in the request, starting from 0.
+     */
+    private int index;
+
+    /**
+     * Id of the member, null when the member could not be read.
+     */
+    private Integer id;
+
+    /**
+     * Outcome for the member.
+     */
+    private Status status;
+
+    /**
+     * Reason of the failure, null when the member was enrolled.
+     */
+    private String message;
+
+    /**
+     * Creates the outcome of one bulk item.
+     * @param index Position of the member in the request
+     * @param id Id of the member
+     * @param status Outcome for the member
+     * @param message Reason of the failure
+     */
+    public BulkItemResult(int index, Integer id, Status status, String message) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.message = message;
+    }
+
+    /**
+     * Default Constructor for the creation of the BulkItemResult.
+     */
+    public BulkItemResult(){
+
+    }
+
+    /**
+     * Gets the position of the member in the request.
+     * @return this item's index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the position of the member in the request.
+     * @param index this item's new index
+     */
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Gets the Id of the member.
+     * @return this item's member Id
+     */
+    public Integer getId() {
+        return id;
+    }
+
+    /**
+     * Sets the Id of the member.
+     * @param id this item's new member Id
+     */
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the outcome for the member.
+     * @return this item's status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Sets the outcome for the member.
+     * @param status this item's new status
+     */
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    /**
+     * Gets the reason of the failure.
+     * @return this item's message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Sets the reason of the failure.
+     * @param message this item's new message
+     */
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,101 @@
+package com.gymmanagement.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Report of a bulk enrollment, with one result per member of the request.
+ *
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class BulkResult {
+
+    /**
+     * Number of members enrolled.
+     */
+    private int created;
+
+    /**
+     * Number of members rejected because their id or contact number already exists.
+     */
+    private int duplicates;
+
+    /**
+     * Number of members which could not be read or broke a constraint.
+     */
+    private int invalid;
+
+    /**
+     * Number of members rejected by the database for another reason.
+     */
+    private int failed;
+
+    /**
+     * Result of every member, in request order.
+     */
+    private List<BulkItemResult> items = new ArrayList<BulkItemResult>();
+
+    /**
+     * Records the result of one member and updates the matching count.
+     * @param item result of the member
+     */
+    public void add(BulkItemResult item) {
+        switch (item.getStatus()) {
+            case CREATED:
+                created++;
+                break;
+            case DUPLICATE:
+            case CONFLICT:
+                duplicates++;
+                break;
+            case INVALID:
+                invalid++;
+                break;
+            default:
+                failed++;
+        }
+        items.add(item);
+    }
+
+    /**
+     * Gets the number of members enrolled.
+     * @return number of created members
+     */
+    public int getCreated() {
+        return created;
+    }
+
+    /**
+     * Gets the number of members rejected because their id or contact number already exists.
+     * @return number of duplicate members
+     */
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * Gets the number of members which could not be read or broke a constraint.
+     * @return number of invalid members
+     */
+    public int getInvalid() {
+        return invalid;
+    }
+
+    /**
+     * Gets the number of members rejected by the database for another reason.
+     * @return number of failed members
+     */
+    public int getFailed() {
+        return failed;
+    }
+
+    /**
+     * Gets the result of every member, in request order.
+     * @return the item results
+     */
+    public List<BulkItemResult> getItems() {
+        return items;
+    }
+}
@@ -1,6 +1,8 @@
 package com.gymmanagement.beans;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import javax.validation.constraints.*;
@@ -8,6 +10,8 @@ import javax.validation.constraints.*;
 /**
  * Represents a member joined in the Gym.
  * A member can have the following attributes.
+ * Members are indexed by id, by last and first name, by age and uniquely by contact number;
+ * the indexes are created at startup by MemberIndexes, when they are missing.
  *
  * @author Ajay.Srivas
  * @author Keerthana.Pai
@@ -65,12 +69,21 @@ public class Member {
     /**
      * Contact No of the Member enrolled.
      * Contact No cannot be null and should be of 10 digits.
+     * Two members cannot share a Contact No.
      */
     @NotNull
     @Size(min = 10, max = 10)
     @Pattern(regexp = "[0-9]+")
     private String contactNo;
 
+    /**
+     * Version of the Member, starting at 0 when enrolled and incremented by every update.
+     * It is kept by the database, never read from nor written to request and response bodies.
+     */
+    @Version
+    @JsonIgnore
+    private Long version;
+
     /**
      * Enrolls a Member with the following parameters into the Gym.
      * @param id id of the Member
@@ -194,4 +207,21 @@ public class Member {
     public void setContactNo(String contactNo) {
         this.contactNo = contactNo;
     }
+
+
+    /**
+     * Gets the Version of the Member.
+     * @return this Member's Version, or null if it was not read from the database
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the Version of the Member.
+     * @param version this Member's new Version
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
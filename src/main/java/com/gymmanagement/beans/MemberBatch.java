@@ -0,0 +1,56 @@
+package com.gymmanagement.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a multi-get, with the members found and the ids which were not.
+ *
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class MemberBatch {
+
+    /**
+     * The members found, in request order.
+     */
+    private List<Member> members = new ArrayList<Member>();
+
+    /**
+     * Ids for which no member exists, in request order.
+     */
+    private List<Integer> missing = new ArrayList<Integer>();
+
+    /**
+     * Records the member found for the next requested id.
+     * @param member the member
+     */
+    public void addMember(Member member) {
+        members.add(member);
+    }
+
+    /**
+     * Records that no member has the next requested id.
+     * @param id id of the missing member
+     */
+    public void addMissing(int id) {
+        missing.add(id);
+    }
+
+    /**
+     * Gets the members found, in request order.
+     * @return the members
+     */
+    public List<Member> getMembers() {
+        return members;
+    }
+
+    /**
+     * Gets the ids for which no member exists, in request order.
+     * @return the missing ids
+     */
+    public List<Integer> getMissing() {
+        return missing;
+    }
+}
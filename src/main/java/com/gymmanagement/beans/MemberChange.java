@@ -0,0 +1,96 @@
+package com.gymmanagement.beans;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One event of the member change feed.
+ *
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MemberChange {
+
+    /**
+     * Possible kinds of change.
+     */
+    public enum Type {
+        /** A member was enrolled. */
+        CREATED,
+        /** A member was updated. */
+        UPDATED,
+        /** A member was deleted. */
+        DELETED,
+        /** All the members were deleted. */
+        CLEARED,
+        /** The changes since the given token are no longer known, the consumer must read all the members again. */
+        RESYNC
+    }
+
+    /**
+     * Token of the change, given back to resume the feed after it.
+     */
+    private String token;
+
+    /**
+     * Kind of change.
+     */
+    private Type type;
+
+    /**
+     * Id of the changed member, null when the change is not about one member.
+     */
+    private Integer id;
+
+    /**
+     * New state of the member, null when it was deleted.
+     */
+    private Member member;
+
+    /**
+     * Creates a change.
+     * @param token Token of the change
+     * @param type Kind of change
+     * @param id Id of the changed member
+     * @param member New state of the member
+     */
+    public MemberChange(String token, Type type, Integer id, Member member) {
+        this.token = token;
+        this.type = type;
+        this.id = id;
+        this.member = member;
+    }
+
+    /**
+     * Gets the token of the change.
+     * @return the token
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Gets the kind of change.
+     * @return the type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the id of the changed member.
+     * @return the id, or null
+     */
+    public Integer getId() {
+        return id;
+    }
+
+    /**
+     * Gets the new state of the member.
+     * @return the member, or null
+     */
+    public Member getMember() {
+        return member;
+    }
+}
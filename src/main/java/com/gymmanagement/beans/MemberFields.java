@@ -0,0 +1,155 @@
+package com.gymmanagement.beans;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.mongodb.BasicDBObject;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields of a member a client asked for with the fields parameter, e.g. fields=id,firstName.
+ * They are used twice: as the Mongo projection of the read, so the other fields are never fetched,
+ * and as the Jackson filter of the response, so the other fields are never written.
+ *
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class MemberFields {
+
+    /**
+     * Id of the Jackson filter applied to Member.
+     */
+    public static final String FILTER_ID = "memberFields";
+
+    /**
+     * Every field of the member, keeping the properties in the order of Member.
+     */
+    public static final MemberFields ALL = new MemberFields(null);
+
+    /**
+     * Document field of each member property.
+     */
+    private static final Map<String, String> DOCUMENT_FIELDS = new LinkedHashMap<String, String>();
+
+    /**
+     * Document field of the member version.
+     */
+    private static final String VERSION_FIELD = "version";
+
+    static {
+        DOCUMENT_FIELDS.put("id", "_id");
+        DOCUMENT_FIELDS.put("firstName", "firstName");
+        DOCUMENT_FIELDS.put("lastName", "lastName");
+        DOCUMENT_FIELDS.put("address", "address");
+        DOCUMENT_FIELDS.put("age", "age");
+        DOCUMENT_FIELDS.put("contactNo", "contactNo");
+    }
+
+    /**
+     * Requested member properties, or null for all of them.
+     */
+    private final Set<String> properties;
+
+    private MemberFields(Set<String> properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Parses the comma separated list of member properties.
+     * @param fields the list, or null or blank for every field
+     * @return the requested fields
+     * @throws IllegalArgumentException if a field is not a member property
+     */
+    public static MemberFields parse(String fields) {
+        if (fields == null || fields.trim().isEmpty())
+            return ALL;
+
+        Set<String> properties = new LinkedHashSet<String>();
+        for (String field : fields.split(",")) {
+            String property = field.trim();
+            if (!DOCUMENT_FIELDS.containsKey(property))
+                throw new IllegalArgumentException("Unknown member field: " + property);
+            properties.add(property);
+        }
+        return new MemberFields(Collections.unmodifiableSet(properties));
+    }
+
+    /**
+     * Tells whether every field is requested.
+     * @return true if nothing is left out
+     */
+    public boolean isAll() {
+        return properties == null;
+    }
+
+    /**
+     * Gets the requested member properties.
+     * @return the properties, or every property if all fields are requested
+     */
+    public Set<String> getProperties() {
+        return properties == null ? DOCUMENT_FIELDS.keySet() : properties;
+    }
+
+    /**
+     * Builds the Mongo projection of the requested fields.
+     * The id is always fetched, as Mongo does by default, since pages and the cache are keyed by it,
+     * and so is the version, which tags the response; they are only written when requested.
+     * @return the projection, empty if all fields are requested
+     */
+    public BasicDBObject projection() {
+        BasicDBObject projection = new BasicDBObject();
+        if (properties == null)
+            return projection;
+        for (String property : properties)
+            projection.put(DOCUMENT_FIELDS.get(property), 1);
+        projection.put(VERSION_FIELD, 1);
+        return projection;
+    }
+
+    /**
+     * Restricts the query to the requested fields, the id and the version.
+     * @param query the query
+     * @return the same query
+     */
+    public Query project(Query query) {
+        if (properties == null)
+            return query;
+        for (String property : properties)
+            query.fields().include(DOCUMENT_FIELDS.get(property));
+        query.fields().include(VERSION_FIELD);
+        return query;
+    }
+
+    /**
+     * Tags the entity tag of a response with the requested fields, since each selection is another representation.
+     * @param tag the entity tag of the full member or list, without quotes
+     * @return the quoted entity tag of the response
+     */
+    public String etag(String tag) {
+        if (properties == null)
+            return "\"" + tag + "\"";
+        StringBuilder etag = new StringBuilder("\"").append(tag).append(";fields=");
+        for (String property : properties)
+            etag.append(property).append(',');
+        etag.setCharAt(etag.length() - 1, '"');
+        return etag.toString();
+    }
+
+    /**
+     * Builds the Jackson filters which write only the requested properties of a member.
+     * @return the filters
+     */
+    public FilterProvider filters() {
+        SimpleBeanPropertyFilter filter = properties == null
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(properties);
+        return new SimpleFilterProvider().addFilter(FILTER_ID, filter);
+    }
+}
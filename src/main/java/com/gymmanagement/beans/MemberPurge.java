@@ -0,0 +1,166 @@
+package com.gymmanagement.beans;
+
+/**
+ * A background job deleting every member of the Gym, as polled by clients.
+ * The job updates it while it runs, so its fields are volatile.
+ *
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class MemberPurge {
+
+    /**
+     * State of a purge.
+     */
+    public enum Status {
+        /** Waiting for the purge thread to start it. */
+        QUEUED,
+        /** Deleting the members. */
+        RUNNING,
+        /** Every member was deleted. */
+        DONE,
+        /** Stopped by an error, possibly after some members were deleted. */
+        FAILED
+    }
+
+    /**
+     * How the members are deleted.
+     */
+    public enum Method {
+        /** The member collection was swapped for an empty one at once. */
+        TRUNCATE,
+        /** The members are deleted a batch of ids at a time, since the collection could not be swapped. */
+        BATCHES
+    }
+
+    /**
+     * Id of the purge, which it is polled by.
+     */
+    private volatile String id;
+
+    private volatile Status status = Status.QUEUED;
+
+    /**
+     * How the members are deleted, null until the purge starts.
+     */
+    private volatile Method method;
+
+    /**
+     * Number of members when the purge started, null until it starts.
+     */
+    private volatile Long total;
+
+    /**
+     * Number of members deleted so far.
+     */
+    private volatile long deleted;
+
+    /**
+     * Time the purge was requested, in milliseconds since the epoch.
+     */
+    private volatile long submitted;
+
+    /**
+     * Time the purge started, null until it starts.
+     */
+    private volatile Long started;
+
+    /**
+     * Time the purge finished, null until it finishes.
+     */
+    private volatile Long finished;
+
+    /**
+     * Why the purge failed, null unless it did.
+     */
+    private volatile String message;
+
+    public MemberPurge() {
+    }
+
+    public MemberPurge(String id, long submitted) {
+        this.id = id;
+        this.submitted = submitted;
+    }
+
+    /**
+     * Tells whether the purge is over, whether it succeeded or not.
+     * @return true if it is done or failed
+     */
+    public boolean hasFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public void setMethod(Method method) {
+        this.method = method;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public long getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(long deleted) {
+        this.deleted = deleted;
+    }
+
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    public void setSubmitted(long submitted) {
+        this.submitted = submitted;
+    }
+
+    public Long getStarted() {
+        return started;
+    }
+
+    public void setStarted(Long started) {
+        this.started = started;
+    }
+
+    public Long getFinished() {
+        return finished;
+    }
+
+    public void setFinished(Long finished) {
+        this.finished = finished;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,157 @@
+package com.gymmanagement.beans;
+
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Criteria of a member search. Every search must be answerable from an index of Member:
+ * the contact number index, the last name and first name index, or the age index.
+ * A first name is therefore only accepted together with a last name.
+ *
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class MemberSearch {
+
+    /**
+     * Exact last name of the members.
+     */
+    private String lastName;
+
+    /**
+     * Exact first name of the members, only used with a last name.
+     */
+    private String firstName;
+
+    /**
+     * Exact contact number of the member.
+     */
+    private String contactNo;
+
+    /**
+     * Lowest age of the members, inclusive.
+     */
+    private Integer minAge;
+
+    /**
+     * Highest age of the members, inclusive.
+     */
+    private Integer maxAge;
+
+    /**
+     * Checks that the criteria can be served by an index.
+     * @return null if they can, else the reason why they cannot
+     */
+    public String unindexedReason() {
+        if (firstName != null && lastName == null)
+            return "firstName can only be searched together with lastName";
+        if (lastName == null && contactNo == null && minAge == null && maxAge == null)
+            return "Search by lastName, contactNo, minAge or maxAge";
+        return null;
+    }
+
+    /**
+     * Builds the Mongo query of the search.
+     * @return query matching every given criterion
+     */
+    public Query toQuery() {
+        Criteria criteria = new Criteria();
+        if (contactNo != null)
+            criteria.and("contactNo").is(contactNo);
+        if (lastName != null)
+            criteria.and("lastName").is(lastName);
+        if (firstName != null)
+            criteria.and("firstName").is(firstName);
+        if (minAge != null || maxAge != null) {
+            Criteria age = criteria.and("age");
+            if (minAge != null)
+                age.gte(minAge);
+            if (maxAge != null)
+                age.lte(maxAge);
+        }
+        return new Query(criteria);
+    }
+
+    /**
+     * Gets the last name searched.
+     * @return the last name
+     */
+    public String getLastName() {
+        return lastName;
+    }
+
+    /**
+     * Sets the last name searched.
+     * @param lastName the last name
+     */
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    /**
+     * Gets the first name searched.
+     * @return the first name
+     */
+    public String getFirstName() {
+        return firstName;
+    }
+
+    /**
+     * Sets the first name searched.
+     * @param firstName the first name
+     */
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    /**
+     * Gets the contact number searched.
+     * @return the contact number
+     */
+    public String getContactNo() {
+        return contactNo;
+    }
+
+    /**
+     * Sets the contact number searched.
+     * @param contactNo the contact number
+     */
+    public void setContactNo(String contactNo) {
+        this.contactNo = contactNo;
+    }
+
+    /**
+     * Gets the lowest age searched.
+     * @return the lowest age, inclusive
+     */
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    /**
+     * Sets the lowest age searched.
+     * @param minAge the lowest age, inclusive
+     */
+    public void setMinAge(Integer minAge) {
+        this.minAge = minAge;
+    }
+
+    /**
+     * Gets the highest age searched.
+     * @return the highest age, inclusive
+     */
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Sets the highest age searched.
+     * @param maxAge the highest age, inclusive
+     */
+    public void setMaxAge(Integer maxAge) {
+        this.maxAge = maxAge;
+    }
+}
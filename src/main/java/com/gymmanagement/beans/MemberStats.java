@@ -0,0 +1,168 @@
+package com.gymmanagement.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Statistics of the members of the Gym: their number, their ages in bands, and the most common last names.
+ *
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class MemberStats {
+
+    /**
+     * Number of members.
+     */
+    private long count;
+
+    /**
+     * Mean age of the members, null when there are none.
+     */
+    private Double averageAge;
+
+    /**
+     * Youngest age, null when there are no members.
+     */
+    private Integer minAge;
+
+    /**
+     * Oldest age, null when there are no members.
+     */
+    private Integer maxAge;
+
+    /**
+     * Number of members in every age band from the youngest to the oldest, empty bands included.
+     */
+    private List<AgeBand> ageBands = new ArrayList<AgeBand>();
+
+    /**
+     * The most common last names, most common first.
+     */
+    private List<LastNameCount> lastNames = new ArrayList<LastNameCount>();
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public Double getAverageAge() {
+        return averageAge;
+    }
+
+    public void setAverageAge(Double averageAge) {
+        this.averageAge = averageAge;
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(Integer minAge) {
+        this.minAge = minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Integer maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public List<AgeBand> getAgeBands() {
+        return ageBands;
+    }
+
+    public void setAgeBands(List<AgeBand> ageBands) {
+        this.ageBands = ageBands;
+    }
+
+    public List<LastNameCount> getLastNames() {
+        return lastNames;
+    }
+
+    public void setLastNames(List<LastNameCount> lastNames) {
+        this.lastNames = lastNames;
+    }
+
+    /**
+     * Number of members whose age is between two ages, both included.
+     */
+    public static class AgeBand {
+
+        private int from;
+        private int to;
+        private long count;
+
+        public AgeBand() {
+        }
+
+        public AgeBand(int from, int to, long count) {
+            this.from = from;
+            this.to = to;
+            this.count = count;
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public void setFrom(int from) {
+            this.from = from;
+        }
+
+        public int getTo() {
+            return to;
+        }
+
+        public void setTo(int to) {
+            this.to = to;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+    }
+
+    /**
+     * Number of members with one last name, null for the members without one.
+     */
+    public static class LastNameCount {
+
+        private String lastName;
+        private long count;
+
+        public LastNameCount() {
+        }
+
+        public LastNameCount(String lastName, long count) {
+            this.lastName = lastName;
+            this.count = count;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public void setLastName(String lastName) {
+            this.lastName = lastName;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.gymmanagement;
+
+import com.gymmanagement.Interface.EmbeddedMemberRepository;
+import com.gymmanagement.Interface.IRepository;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+/**
+ * Class used for Integration Testing of the embedded and fast startup profiles together,
+ * which must skip the auto-configurations of both.
+ * It runs its own application on a random port and directory, since its beans differ from the other tests.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "member.embedded.directory=target/embedded-fast-gym")
+@ActiveProfiles({"embedded", "fast"})
+public class EmbeddedFastStartupTest {
+    /**
+     * The application started with both profiles.
+     */
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    /**
+     * The member store of the application.
+     */
+    @Autowired
+    private IRepository db;
+
+    /**
+     * Test Method to check that the auto-configurations skipped by either profile are skipped.
+     */
+    @Test
+    public void skippedAutoConfigurationTest() {
+        Assert.assertTrue(db.getClass().getName(), db instanceof EmbeddedMemberRepository);
+        Assert.assertFalse(context.containsBean("mongoTemplate"));
+        Assert.assertFalse(context.containsBean("mbeanExporter"));
+        Assert.assertFalse(context.containsBean("multipartResolver"));
+    }
+}
@@ -0,0 +1,39 @@
+package com.gymmanagement;
+
+import com.gymmanagement.Interface.EmbeddedMemberRepository;
+import com.gymmanagement.Interface.IRepository;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+
+/**
+ * Class used for Integration Testing of the embedded profile, running the tests of {@link GymApplicationTest}
+ * against the member store kept in the process, which must keep the same contract as Mongo.
+ * It runs its own application on a random port and directory, since its beans differ from the other tests.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "member.embedded.directory=target/embedded-gym")
+@ActiveProfiles("embedded")
+public class EmbeddedGymApplicationTest extends GymApplicationTest {
+    /**
+     * The member store of the application.
+     */
+    @Autowired
+    private IRepository db;
+
+    /**
+     * Test Method to check that the members are kept by the embedded store.
+     */
+    @Test
+    public void embeddedRepositoryTest() {
+        Assert.assertTrue(db.getClass().getName(), db instanceof EmbeddedMemberRepository);
+        Assert.assertEquals(2, db.count());
+    }
+}
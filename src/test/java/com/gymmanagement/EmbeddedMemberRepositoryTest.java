@@ -0,0 +1,248 @@
+package com.gymmanagement;
+
+import com.gymmanagement.Interface.EmbeddedMemberRepository;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberFields;
+import com.gymmanagement.beans.MemberSearch;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * Class used for Testing the embedded member store, without an application,
+ * reopening it on the same directory as a restart would.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+public class EmbeddedMemberRepositoryTest {
+    /**
+     * Directory of the snapshot and the log.
+     */
+    private static final Path DIRECTORY = Paths.get("target/embedded-members");
+
+    private EmbeddedMemberRepository db;
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure the store starts empty.
+     * @throws IOException If the directory cannot be deleted
+     */
+    @Before
+    public void setUp() throws IOException {
+        delete(DIRECTORY);
+        db = open();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        db.close();
+    }
+
+    /**
+     * Test Method to check that the members, their versions and the unique contact numbers are kept like in Mongo.
+     */
+    @Test
+    public void storeMembersTest() {
+        Assert.assertTrue(db.create(member(101, "1234567890")));
+        Assert.assertFalse(db.create(member(101, "1234567899")));
+        try {
+            db.create(member(102, "1234567890"));
+            Assert.fail("Contact number used twice");
+        } catch (DuplicateKeyException e) {
+            Assert.assertFalse(db.exists(102));
+        }
+        Assert.assertEquals(Long.valueOf(0), db.findOne(101).getVersion());
+
+        Member moved = member(101, "1111111111");
+        moved.setAge(40);
+        Assert.assertTrue(db.replace(moved));
+        Assert.assertFalse(db.replace(member(103, "2222222222")));
+        Assert.assertEquals(40, db.findOne(101).getAge());
+        Assert.assertEquals(Long.valueOf(1), db.findOne(101).getVersion());
+        // the previous number of the member is free again
+        Assert.assertTrue(db.create(member(102, "1234567890")));
+
+        try {
+            db.replace(member(102, "1111111111"));
+            Assert.fail("Contact number used twice");
+        } catch (DuplicateKeyException e) {
+            Assert.assertEquals("1234567890", db.findOne(102).getContactNo());
+        }
+        try {
+            Member stale = db.findOne(101);
+            stale.setVersion(0L);
+            db.save(stale);
+            Assert.fail("Stale member saved");
+        } catch (OptimisticLockingFailureException e) {
+            Assert.assertEquals(Long.valueOf(1), db.findOne(101).getVersion());
+        }
+
+        Member projected = db.findOne(101, MemberFields.parse("firstName"));
+        Assert.assertEquals("Cristiano", projected.getFirstName());
+        Assert.assertNull(projected.getContactNo());
+        Assert.assertEquals(Long.valueOf(1), projected.getVersion());
+
+        db.delete(101);
+        Assert.assertFalse(db.exists(101));
+        Assert.assertEquals(1, db.count());
+    }
+
+    /**
+     * Test Method to check the pages, the search and the counts, which are answered from the table.
+     */
+    @Test
+    public void queryMembersTest() {
+        for (int id = 1; id <= 500; id++) {
+            Member member = member(id, String.format("%010d", id));
+            member.setAge(10 + id % 50);
+            member.setLastName(id % 2 == 0 ? "even" : "odd");
+            db.create(member);
+        }
+        db.delete(2);
+
+        List<Member> page = db.findPage(1, 3, MemberFields.ALL);
+        Assert.assertEquals(3, page.size());
+        Assert.assertEquals(3, page.get(0).getId());
+        Assert.assertEquals(5, page.get(2).getId());
+        Assert.assertEquals(499, db.findAll().size());
+        Assert.assertEquals(500, db.highestId());
+
+        MemberSearch search = new MemberSearch();
+        search.setLastName("even");
+        search.setMinAge(20);
+        search.setMaxAge(20);
+        List<Member> found = db.search(search, 100);
+        Assert.assertEquals(10, found.size());
+        for (Member member : found)
+            Assert.assertEquals(20, member.getAge());
+
+        Assert.assertEquals(Long.valueOf(10), db.countByAge().get(20));
+        Assert.assertEquals("odd", db.countByLastName(1).keySet().iterator().next());
+        Assert.assertEquals(Long.valueOf(249), db.countByLastName(2).get("even"));
+    }
+
+    /**
+     * Test Method to check that the members are loaded back from the log, and from the snapshot after a compaction.
+     * @throws IOException If the store cannot be reopened
+     */
+    @Test
+    public void recoverMembersTest() throws IOException {
+        for (int id = 1; id <= 100; id++)
+            db.create(member(id, String.format("%010d", id)));
+        db.compact();
+        db.delete(1);
+        db.replace(member(2, "9999999999"));
+        Assert.assertTrue(db.reserveIds(0, 150));
+
+        db.close();
+        db = open();
+        Assert.assertEquals(99, db.count());
+        Assert.assertNull(db.findOne(1));
+        Assert.assertEquals("9999999999", db.findOne(2).getContactNo());
+        Assert.assertEquals(Long.valueOf(1), db.findOne(2).getVersion());
+        Assert.assertEquals(150, db.lastReservedId());
+        Assert.assertFalse(db.create(member(3, "9999999999")));
+        Assert.assertTrue(db.create(member(101, "0000000002")));
+
+        db.deleteAll();
+        db.close();
+        db = open();
+        Assert.assertEquals(0, db.count());
+        Assert.assertEquals(150, db.lastReservedId());
+    }
+
+    /**
+     * Test Method to check that a log cut in the middle of an entry, as by a crash, is read up to its last whole entry.
+     * @throws IOException If the log cannot be cut
+     */
+    @Test
+    public void truncatedLogTest() throws IOException {
+        db.create(member(101, "1234567890"));
+        db.create(member(102, "0987654321"));
+        db.close();
+
+        Path log = DIRECTORY.resolve("members.log");
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+        db = open();
+        Assert.assertTrue(db.exists(101));
+        Assert.assertFalse(db.exists(102));
+        Assert.assertTrue(db.create(member(102, "0987654321")));
+
+        db.close();
+        db = open();
+        Assert.assertEquals(2, db.count());
+    }
+
+    /**
+     * Test Method to check that the table stays consistent under concurrent writers of the same members.
+     * @throws Exception If a writer fails
+     */
+    @Test
+    public void concurrentWritesTest() throws Exception {
+        List<Thread> writers = new ArrayList<Thread>();
+        final List<Throwable> errors = new ArrayList<Throwable>();
+        for (int t = 0; t < 4; t++) {
+            writers.add(new Thread(() -> {
+                try {
+                    for (int id = 1; id <= 2000; id++) {
+                        db.create(member(id, String.format("%010d", id)));
+                        if (id % 3 == 0)
+                            db.delete(id);
+                    }
+                } catch (Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            }));
+        }
+        for (Thread writer : writers)
+            writer.start();
+        for (Thread writer : writers)
+            writer.join();
+        Assert.assertEquals(new ArrayList<Throwable>(), errors);
+
+        for (int id = 1; id <= 2000; id++) {
+            if (id % 3 != 0)
+                Assert.assertEquals(String.valueOf(id), String.format("%010d", id), db.findOne(id).getContactNo());
+        }
+        long stored = db.count();
+        db.close();
+        db = open();
+        Assert.assertEquals(stored, db.count());
+    }
+
+    private static EmbeddedMemberRepository open() throws IOException {
+        return new EmbeddedMemberRepository(DIRECTORY.toString(), 1000, 64 << 20, 60);
+    }
+
+    private static Member member(int id, String contactNo) {
+        return new Member(id, "Cristiano", "ronaldo", "some block, some street, some country", 45, contactNo);
+    }
+
+    private static void delete(Path directory) throws IOException {
+        if (!Files.exists(directory))
+            return;
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+}
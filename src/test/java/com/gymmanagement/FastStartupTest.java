@@ -0,0 +1,105 @@
+package com.gymmanagement;
+
+import com.gymmanagement.beans.Member;
+import org.json.JSONException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Map;
+
+
+/**
+ * Class used for Integration Testing of the fast startup profile.
+ * It runs its own application on a random port and database, since its beans differ from the other tests.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.data.mongodb.database=GymFastStartup")
+@ActiveProfiles("fast")
+public class FastStartupTest {
+    /**
+     * Maps the random port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * The application started with the fast profile.
+     */
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the defined members.
+     */
+    @Before
+    public void setUp() {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(new Member(101, "Cristiano", "ronaldo", "some block, some street, some country", 45, "1234567890"), headers),
+                String.class);
+    }
+
+    /**
+     * Test Method to check that the members are served as with the default profile.
+     * @throws JSONException If a problem occurs
+     */
+    @Test
+    public void getGymMemberByIdTest() throws JSONException {
+        String actualOut = restTemplate.getForObject(createURL("/member/gymMemberById/101"), String.class);
+
+        JSONAssert.assertEquals("{id:101,firstName:Cristiano,lastName:ronaldo}", actualOut, false);
+    }
+
+    /**
+     * Test Method to check that the application beans are lazy, and that the lazy repository is still timed.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void lazyBeansTest() {
+        Assert.assertTrue(context.getBeanFactory().getBeanDefinition("searchController").isLazyInit());
+        Assert.assertTrue(context.getBeanFactory().getBeanDefinition("memberCache").isLazyInit());
+
+        Map<String, Object> actualOut = restTemplate.getForObject(createURL("/memberMetrics"), Map.class);
+        Assert.assertTrue(actualOut.toString(), ((Map<String, Object>) actualOut.get("mongo")).containsKey("create(Member)"));
+    }
+
+    /**
+     * Test Method to check that the unused auto-configurations are skipped.
+     */
+    @Test
+    public void skippedAutoConfigurationTest() {
+        Assert.assertFalse(context.containsBean("mbeanExporter"));
+        Assert.assertFalse(context.containsBean("multipartResolver"));
+        Assert.assertFalse(context.containsBean("webRequestLoggingFilter"));
+    }
+
+    /**
+     * Method to Create the URL with the port of this application.
+     * @param URL Takes a url prefix
+     * @return Complete url with the port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
@@ -3,6 +3,7 @@ package com.gymmanagement;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberPurge;
 import org.json.JSONException;
 import org.junit.Assert;
 import org.junit.Before;
@@ -45,10 +46,7 @@ public class GymApplicationTest {
     public void setUp() throws Exception {
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        HttpEntity<String> deleteEntity = new HttpEntity<String>(null, headers);
-        ResponseEntity<String> deleteResponse = restTemplate.exchange(
-                createURL("/member/allGymMembers"),
-                HttpMethod.DELETE, deleteEntity, String.class);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
 
         Member sampleMember = new Member(101, "Cristiano", "ronaldo",
                 "some block, some street, some country", 45, "1234567890");
@@ -190,11 +188,10 @@ public class GymApplicationTest {
      */
     @Test
 	public void deleteAllGymMembersTest(){
-        String expectedOut = "Database Empty!";
-        HttpEntity<String> entity = new HttpEntity<String>(null, headers);
-        ResponseEntity<String> actualOut = restTemplate.exchange(createURL("/member/allGymMembers"), HttpMethod.DELETE, entity, String.class);
+        MemberPurge purge = MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
 
-        Assert.assertEquals(expectedOut,actualOut.getBody());
+        Assert.assertEquals(2, purge.getDeleted());
+        Assert.assertEquals(0, restTemplate.getForObject(createURL("/member/allGymMembers"), Member[].class).length);
     }
 
     /**
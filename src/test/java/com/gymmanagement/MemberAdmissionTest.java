@@ -0,0 +1,191 @@
+package com.gymmanagement;
+
+import com.gymmanagement.DAO.ConcurrencyLimit;
+import com.gymmanagement.DAO.MemberAdmissionControl;
+import com.gymmanagement.beans.Member;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Class used for Integration Testing of the admission control of the member endpoints.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberAdmissionTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * The limits of the member endpoints.
+     */
+    @Autowired
+    private MemberAdmissionControl admission;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the defined members.
+     */
+    @Before
+    public void setUp() {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(new Member(101, "Cristiano", "ronaldo", "some block, some street, some country", 45, "1234567890"), headers),
+                String.class);
+    }
+
+    /**
+     * Test Method to check that a request to a busy endpoint waits, then is answered with 503 and Retry-After,
+     * while the lookups by id and the pages of the same endpoint are still served, and that the rejection is shown by the actuator.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void busyEndpointTest() {
+        ConcurrencyLimit limit = admission.limit("getAllGymMember");
+        int held = hold(limit);
+        try {
+            long start = System.nanoTime();
+            ResponseEntity<String> actualOut = restTemplate.getForEntity(createURL("/member/allGymMembers"), String.class);
+
+            Assert.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, actualOut.getStatusCode());
+            Assert.assertNotNull(actualOut.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 900);
+            Assert.assertEquals(HttpStatus.OK,
+                    restTemplate.getForEntity(createURL("/member/gymMemberById/101"), String.class).getStatusCode());
+            Assert.assertEquals(HttpStatus.OK,
+                    restTemplate.getForEntity(createURL("/member/allGymMembers?limit=10"), String.class).getStatusCode());
+        } finally {
+            release(limit, held);
+        }
+
+        Map<String, Object> state = restTemplate.getForObject(createURL("/memberAdmission"), Map.class);
+        Map<String, Object> endpoint = (Map<String, Object>) ((Map<String, Object>) state.get("endpoints")).get("getAllGymMember");
+        Assert.assertTrue(state.toString(), ((Number) endpoint.get("rejectedTimedOut")).longValue() >= 1);
+        Assert.assertEquals(HttpStatus.OK,
+                restTemplate.getForEntity(createURL("/member/allGymMembers"), String.class).getStatusCode());
+    }
+
+    /**
+     * Test Method to check that a request to an endpoint whose queue is full is answered at once with 429 and Retry-After.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void fullQueueTest() throws Exception {
+        final ConcurrencyLimit limit = admission.limit("getAllGymMember");
+        int held = hold(limit);
+        ExecutorService pool = Executors.newCachedThreadPool();
+        List<Future<ConcurrencyLimit.Admission>> queued = new ArrayList<Future<ConcurrencyLimit.Admission>>();
+        try {
+            for (int i = 0; i < 8; i++)
+                queued.add(pool.submit(limit::acquire));
+            Thread.sleep(200);
+
+            long start = System.nanoTime();
+            ResponseEntity<String> actualOut = restTemplate.getForEntity(createURL("/member/allGymMembers"), String.class);
+
+            Assert.assertEquals(HttpStatus.TOO_MANY_REQUESTS, actualOut.getStatusCode());
+            Assert.assertNotNull(actualOut.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500);
+        } finally {
+            for (Future<ConcurrencyLimit.Admission> admission : queued) {
+                if (admission.get() == ConcurrencyLimit.Admission.ADMITTED)
+                    limit.release(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            release(limit, held);
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test Method to check that the limit grows while the latency stays low, and shrinks when it climbs.
+     */
+    @Test
+    public void adaptiveLimitTest() {
+        ConcurrencyLimit limit = new ConcurrencyLimit(10, 2, 100, 0, 0, TimeUnit.MILLISECONDS);
+        for (int window = 0; window < 20; window++)
+            run(limit, 10, TimeUnit.MILLISECONDS.toNanos(1));
+        int grown = limit.getLimit();
+        Assert.assertTrue(String.valueOf(grown), grown > 10);
+
+        for (int window = 0; window < 20; window++)
+            run(limit, 10, TimeUnit.MILLISECONDS.toNanos(20));
+        Assert.assertTrue(String.valueOf(limit.getLimit()), limit.getLimit() < grown);
+        Assert.assertEquals(ConcurrencyLimit.Admission.ADMITTED, limit.acquire());
+    }
+
+    /**
+     * Fills the limit, as if its requests were in flight.
+     * @param limit the limit
+     * @return the number of places taken
+     */
+    private int hold(ConcurrencyLimit limit) {
+        int held = limit.getLimit();
+        for (int i = 0; i < held; i++)
+            Assert.assertEquals(ConcurrencyLimit.Admission.ADMITTED, limit.acquire());
+        return held;
+    }
+
+    /**
+     * Frees places taken by {@link #hold(ConcurrencyLimit)}.
+     * @param limit the limit
+     * @param held the number of places taken
+     */
+    private void release(ConcurrencyLimit limit, int held) {
+        for (int i = 0; i < held; i++)
+            limit.release(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * Runs one window of requests with the limit full.
+     * @param limit the limit
+     * @param samples number of requests
+     * @param latencyNanos latency of every request
+     */
+    private void run(ConcurrencyLimit limit, int samples, long latencyNanos) {
+        int held = Math.max(samples, limit.getLimit());
+        for (int i = 0; i < held; i++) {
+            if (limit.acquire() != ConcurrencyLimit.Admission.ADMITTED) {
+                held = i;
+                break;
+            }
+        }
+        for (int i = 0; i < held; i++)
+            limit.release(latencyNanos);
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
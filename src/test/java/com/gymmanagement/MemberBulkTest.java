@@ -0,0 +1,128 @@
+package com.gymmanagement;
+
+import com.gymmanagement.beans.BulkItemResult;
+import com.gymmanagement.beans.BulkResult;
+import com.gymmanagement.beans.Member;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+/**
+ * Class used for Integration Testing of the bulk enrollment.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberBulkTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the member 101.
+     * @throws Exception If a problem occurs
+     */
+    @Before
+    public void setUp() throws Exception {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+
+        Member sampleMember = new Member(101, "Cristiano", "ronaldo",
+                "some block, some street, some country", 45, "1234567890");
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(sampleMember, headers), String.class);
+    }
+
+    /**
+     * Test Method to check that every member of a JSON array gets its own result.
+     */
+    @Test
+    public void bulkArrayTest() {
+        Member[] members = {
+                new Member(301, "Lionel", "Messi", "some block5, some street5, some country5", 23, "6754378901"),
+                new Member(101, "Cristiano", "ronaldo", "some block, some street, some country", 45, "1234567890"),
+                new Member(302, "Wayne1", "rooney", "some block1, some street1, some country1", 54, "0987654321"),
+                new Member(303, "Wayne", "rooney", "some block1, some street1, some country1", 54, "0987654321")
+        };
+
+        BulkResult actualOut = restTemplate.exchange(createURL("/member/gymMembers/bulk"), HttpMethod.POST,
+                new HttpEntity<Member[]>(members, headers), BulkResult.class).getBody();
+
+        Assert.assertEquals(2, actualOut.getCreated());
+        Assert.assertEquals(1, actualOut.getDuplicates());
+        Assert.assertEquals(1, actualOut.getInvalid());
+        Assert.assertEquals(BulkItemResult.Status.CREATED, actualOut.getItems().get(0).getStatus());
+        Assert.assertEquals(BulkItemResult.Status.DUPLICATE, actualOut.getItems().get(1).getStatus());
+        Assert.assertEquals(BulkItemResult.Status.INVALID, actualOut.getItems().get(2).getStatus());
+        Assert.assertEquals(3, actualOut.getItems().get(3).getIndex());
+    }
+
+    /**
+     * Test Method to check the newline delimited JSON body, including a line which is not a member.
+     */
+    @Test
+    public void bulkNdjsonTest() {
+        String body = "{\"id\":311,\"firstName\":\"Lionel\",\"lastName\":\"Messi\",\"address\":\"x\",\"age\":23,\"contactNo\":\"6754378901\"}\n"
+                + "{\"id\":\"abc\"}\n"
+                + "{\"id\":312,\"firstName\":\"Wayne\",\"lastName\":\"rooney\",\"address\":\"y\",\"age\":54,\"contactNo\":\"0987654321\"}\n";
+        HttpHeaders ndjsonHeaders = new HttpHeaders();
+        ndjsonHeaders.setContentType(MediaType.valueOf("application/x-ndjson"));
+
+        BulkResult actualOut = restTemplate.exchange(createURL("/member/gymMembers/bulk"), HttpMethod.POST,
+                new HttpEntity<String>(body, ndjsonHeaders), BulkResult.class).getBody();
+
+        Assert.assertEquals(2, actualOut.getCreated());
+        Assert.assertEquals(1, actualOut.getInvalid());
+        Assert.assertEquals(BulkItemResult.Status.INVALID, actualOut.getItems().get(1).getStatus());
+        Assert.assertEquals(Integer.valueOf(312), actualOut.getItems().get(2).getId());
+    }
+
+    /**
+     * Test Method to check that a body which is not well formed still writes the members before the malformed one,
+     * and reports it.
+     */
+    @Test
+    public void bulkMalformedTest() {
+        String body = "{\"id\":321,\"firstName\":\"Lionel\",\"lastName\":\"Messi\",\"address\":\"x\",\"age\":23,\"contactNo\":\"6754378901\"}\n"
+                + "{\"id\":322,\"firstName\":]}\n"
+                + "{\"id\":323,\"firstName\":\"Wayne\",\"lastName\":\"rooney\",\"address\":\"y\",\"age\":54,\"contactNo\":\"0987654321\"}\n";
+        HttpHeaders ndjsonHeaders = new HttpHeaders();
+        ndjsonHeaders.setContentType(MediaType.valueOf("application/x-ndjson"));
+
+        ResponseEntity<BulkResult> actualOut = restTemplate.exchange(createURL("/member/gymMembers/bulk"), HttpMethod.POST,
+                new HttpEntity<String>(body, ndjsonHeaders), BulkResult.class);
+
+        Assert.assertEquals(HttpStatus.OK, actualOut.getStatusCode());
+        Assert.assertEquals(1, actualOut.getBody().getCreated());
+        Assert.assertEquals(1, actualOut.getBody().getInvalid());
+        Assert.assertEquals(2, actualOut.getBody().getItems().size());
+        Assert.assertEquals(1, actualOut.getBody().getItems().get(1).getIndex());
+        Assert.assertEquals(BulkItemResult.Status.INVALID, actualOut.getBody().getItems().get(1).getStatus());
+        Assert.assertNotNull(restTemplate.getForObject(createURL("/member/gymMemberById/321"), Member.class));
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
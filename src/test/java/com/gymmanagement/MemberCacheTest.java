@@ -0,0 +1,102 @@
+package com.gymmanagement;
+
+import com.gymmanagement.beans.Member;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Map;
+
+
+/**
+ * Class used for Integration Testing of the member cache.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberCacheTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the member 101 and that it is cached.
+     * @throws Exception If a problem occurs
+     */
+    @Before
+    public void setUp() throws Exception {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+
+        Member sampleMember = new Member(101, "Cristiano", "ronaldo",
+                "some block, some street, some country", 45, "1234567890");
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(sampleMember, headers), String.class);
+        restTemplate.getForObject(createURL("/member/gymMemberById/101"), Member.class);
+    }
+
+    /**
+     * Test Method to check that an update is visible to the next read of a cached member.
+     */
+    @Test
+    public void readAfterUpdateTest() {
+        Member updateMem = new Member(101, "Ashwini", "D", "Tumkur, Banglore", 21, "9740209573");
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.PUT,
+                new HttpEntity<Member>(updateMem, headers), String.class);
+
+        Member actualOut = restTemplate.getForObject(createURL("/member/gymMemberById/101"), Member.class);
+
+        Assert.assertEquals("Ashwini", actualOut.getFirstName());
+    }
+
+    /**
+     * Test Method to check that a deleted member is no longer served from the cache.
+     */
+    @Test
+    public void readAfterDeleteTest() {
+        restTemplate.exchange(createURL("/member/gymMemberById/101"), HttpMethod.DELETE,
+                new HttpEntity<String>(null, headers), String.class);
+
+        ResponseEntity<String> actualOut = restTemplate.getForEntity(createURL("/member/gymMemberById/101"), String.class);
+
+        Assert.assertNull(actualOut.getBody());
+    }
+
+    /**
+     * Test Method to check that the cache statistics are published as metrics.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void cacheMetricsTest() {
+        restTemplate.getForObject(createURL("/member/gymMemberById/101"), Member.class);
+
+        Map<String, Object> metrics = restTemplate.getForObject(createURL("/metrics"), Map.class);
+
+        Assert.assertTrue(((Number) metrics.get("cache.member.hits")).longValue() > 0);
+        Assert.assertTrue(metrics.containsKey("cache.member.evictions"));
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
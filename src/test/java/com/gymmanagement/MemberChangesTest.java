@@ -0,0 +1,264 @@
+package com.gymmanagement;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gymmanagement.DAO.MemberChangeFeed;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberChange;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Class used for Integration Testing of the member change feed.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberChangesTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * The feed the streams subscribe to.
+     */
+    @Autowired
+    private MemberChangeFeed feed;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+    ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the defined members.
+     */
+    @Before
+    public void setUp() {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(member(101, "some block, some street, some country"), headers), String.class);
+    }
+
+    /**
+     * Method which will execute after each test case.
+     * Ends the streams of the test on the server before the next test writes changes. The feed only finds out
+     * a stream was closed by its client when a write to it fails, and when that write runs on a feed thread
+     * Tomcat may close another connection than the failed one.
+     * @throws Exception If a problem occurs
+     */
+    @After
+    public void tearDown() throws Exception {
+        feed.disconnect();
+        for (int i = 0; i < 50 && feed.subscriberCount() > 0; i++)
+            Thread.sleep(100);
+        Assert.assertEquals(0, feed.subscriberCount());
+    }
+
+    /**
+     * Test Method to check that creates, updates and deletes are streamed as JSON lines in order.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void streamChangesTest() throws Exception {
+        try (BufferedReader stream = open("/member/changes", "application/x-ndjson")) {
+            writeChanges();
+
+            JsonNode created = mapper.readTree(stream.readLine());
+            Assert.assertEquals("CREATED", created.get("type").asText());
+            Assert.assertEquals(102, created.get("id").asInt());
+            Assert.assertEquals("Wayne", created.get("member").get("firstName").asText());
+
+            JsonNode updated = mapper.readTree(stream.readLine());
+            Assert.assertEquals("UPDATED", updated.get("type").asText());
+            Assert.assertEquals("other block", updated.get("member").get("address").asText());
+
+            JsonNode deleted = mapper.readTree(stream.readLine());
+            Assert.assertEquals("DELETED", deleted.get("type").asText());
+            Assert.assertEquals(102, deleted.get("id").asInt());
+            Assert.assertNull(deleted.get("member"));
+        }
+    }
+
+    /**
+     * Test Method to check that a stream resumed after a token first replays the changes which followed it.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void resumeChangesTest() throws Exception {
+        String token;
+        try (BufferedReader stream = open("/member/changes", "application/x-ndjson")) {
+            writeChanges();
+            token = mapper.readTree(stream.readLine()).get("token").asText();
+        }
+
+        try (BufferedReader stream = open("/member/changes?after=" + token, "application/x-ndjson")) {
+            Assert.assertEquals("UPDATED", mapper.readTree(stream.readLine()).get("type").asText());
+            Assert.assertEquals("DELETED", mapper.readTree(stream.readLine()).get("type").asText());
+        }
+    }
+
+    /**
+     * Test Method to check that a stream resumed after an unknown token asks for a resync.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void resyncChangesTest() throws Exception {
+        try (BufferedReader stream = open("/member/changes?after=unknown-42", "application/x-ndjson")) {
+            Assert.assertEquals("RESYNC", mapper.readTree(stream.readLine()).get("type").asText());
+        }
+    }
+
+    /**
+     * Test Method to check that changes are streamed as server-sent events named after their type.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void streamChangeEventsTest() throws Exception {
+        try (BufferedReader stream = open("/member/changes", "text/event-stream")) {
+            writeChanges();
+
+            String id = stream.readLine();
+            Assert.assertTrue(id, id.startsWith("id:"));
+            Assert.assertEquals("event:created", stream.readLine());
+            String data = stream.readLine();
+            Assert.assertTrue(data, data.startsWith("data:"));
+            Assert.assertEquals(id.substring(3), mapper.readTree(data.substring(5)).get("token").asText());
+        }
+    }
+
+    /**
+     * Test Method to check that a feed without history or buffer is refused at startup.
+     */
+    @Test
+    public void emptyHistoryTest() {
+        try {
+            new MemberChangeFeed(0, 1000, 2, 5000);
+            Assert.fail("Expected the empty history to be refused");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("member.changes.history"));
+        }
+        try {
+            new MemberChangeFeed(1000, 0, 2, 5000);
+            Assert.fail("Expected the empty buffer to be refused");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("member.changes.buffer"));
+        }
+    }
+
+    /**
+     * Test Method to check that a subscriber stuck in a write is disconnected at the write deadline,
+     * and that the other subscribers still get the changes while the write stays stuck.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void stuckSubscriberTest() throws Exception {
+        MemberChangeFeed stuckFeed = new MemberChangeFeed(1000, 1000, 1, 200);
+        ReflectionTestUtils.setField(stuckFeed, "mapper", mapper);
+        final CountDownLatch release = new CountDownLatch(1);
+        final BlockingQueue<Object> received = new LinkedBlockingQueue<Object>();
+        try {
+            stuckFeed.subscribe(new ResponseBodyEmitter() {
+                @Override
+                public void send(Object object) throws IOException {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }, null);
+            stuckFeed.publish(MemberChange.Type.CREATED, 101, member(101, "some block, some street, some country"));
+            Thread.sleep(50);
+            stuckFeed.subscribe(new ResponseBodyEmitter() {
+                @Override
+                public void send(Object object) throws IOException {
+                    received.add(object);
+                }
+            }, null);
+            stuckFeed.publish(MemberChange.Type.DELETED, 101, null);
+
+            Assert.assertNotNull(received.poll(5, TimeUnit.SECONDS));
+            Assert.assertEquals(1, stuckFeed.subscriberCount());
+        } finally {
+            release.countDown();
+            stuckFeed.close();
+        }
+    }
+
+    /**
+     * Creates, updates and deletes the member 102.
+     */
+    private void writeChanges() {
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(member(102, "some block1, some street1, some country1"), headers), String.class);
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.PUT,
+                new HttpEntity<Member>(member(102, "other block"), headers), String.class);
+        restTemplate.exchange(createURL("/member/gymMemberById/102"), HttpMethod.DELETE,
+                new HttpEntity<String>(null, headers), String.class);
+    }
+
+    /**
+     * Builds a valid member.
+     * @param id id of the member
+     * @param address address of the member
+     * @return the member
+     */
+    private Member member(int id, String address) {
+        return new Member(id, id == 101 ? "Cristiano" : "Wayne", "rooney", address, 45, String.format("09876543%02d", id % 100));
+    }
+
+    /**
+     * Opens a change stream, on a connection which is not reused once the stream is closed.
+     * @param URL url prefix of the stream
+     * @param accept media type of the stream
+     * @return reader of the stream lines
+     * @throws IOException If the stream cannot be opened
+     */
+    private BufferedReader open(String URL, String accept) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(createURL(URL)).openConnection();
+        connection.setRequestProperty(HttpHeaders.ACCEPT, accept);
+        connection.setRequestProperty(HttpHeaders.CONNECTION, "close");
+        connection.setReadTimeout(10000);
+        Assert.assertEquals(200, connection.getResponseCode());
+        return new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
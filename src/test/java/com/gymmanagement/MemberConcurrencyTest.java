@@ -0,0 +1,142 @@
+package com.gymmanagement;
+
+import com.gymmanagement.beans.Member;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * Class used for Integration Testing of concurrent writes on one member.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberConcurrencyTest {
+    /**
+     * Number of clients writing the same member at once.
+     */
+    private static final int THREADS = 32;
+
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database is empty.
+     * @throws Exception If a problem occurs
+     */
+    @Before
+    public void setUp() throws Exception {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+    }
+
+    /**
+     * Test Method to check that only one of many concurrent creates of one id succeeds.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void concurrentCreateTest() throws Exception {
+        Member sampleMember = new Member(401, "Lionel", "Messi", "some block5, some street5, some country5", 23, "6754378901");
+
+        List<String> actualOut = hammer(HttpMethod.POST, sampleMember);
+
+        Assert.assertEquals(1, count(actualOut, "Member with 401 created successfully :)"));
+        Assert.assertEquals(THREADS - 1, count(actualOut, "Member already exists! :/"));
+    }
+
+    /**
+     * Test Method to check that concurrent updates of a missing id never create it.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void concurrentUpdateOfMissingMemberTest() throws Exception {
+        Member sampleMember = new Member(402, "Lionel", "Messi", "some block5, some street5, some country5", 23, "6754378901");
+
+        List<String> actualOut = hammer(HttpMethod.PUT, sampleMember);
+
+        Assert.assertEquals(THREADS, count(actualOut, "Member does not exists!"));
+        Assert.assertNull(restTemplate.getForEntity(createURL("/member/gymMemberById/402"), String.class).getBody());
+    }
+
+    /**
+     * Sends the same request from many threads released at the same time.
+     * @param method the http method of the request
+     * @param member the body of the request
+     * @return the response bodies
+     * @throws Exception If a problem occurs
+     */
+    private List<String> hammer(final HttpMethod method, final Member member) throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<String>> responses = new ArrayList<Future<String>>();
+            for (int i = 0; i < THREADS; i++) {
+                responses.add(clients.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        start.await();
+                        return restTemplate.exchange(createURL("/member/gymMember"), method,
+                                new HttpEntity<Member>(member, headers), String.class).getBody();
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<String> bodies = new ArrayList<String>();
+            for (Future<String> response : responses)
+                bodies.add(response.get());
+            return bodies;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * Counts the responses equal to the expected one.
+     * @param bodies the response bodies
+     * @param expected the expected body
+     * @return number of matching responses
+     */
+    private int count(List<String> bodies, String expected) {
+        int matches = 0;
+        for (String body : bodies) {
+            if (expected.equals(body))
+                matches++;
+        }
+        return matches;
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
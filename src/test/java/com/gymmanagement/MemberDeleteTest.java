@@ -0,0 +1,165 @@
+package com.gymmanagement;
+
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberPurge;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+
+/**
+ * Class used for Integration Testing of the batch deletes and the purges.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberDeleteTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * The application, called through MockMvc for the requests the rest template cannot send,
+     * such as a DELETE with a body.
+     */
+    @Autowired
+    private WebApplicationContext context;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the defined members.
+     */
+    @Before
+    public void setUp() {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+        for (int id = 101; id <= 110; id++)
+            create(new Member(id, "Cristiano", "ronaldo", "some block, some street, some country", 45, "123456" + (1000 + id)));
+    }
+
+    /**
+     * Test Method to check that the given members are deleted, and the others are kept.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void deleteGymMembersTest() {
+        ResponseEntity<Map> actualOut = exchange("/member/gymMembers?ids=101,102,103,103,999", HttpMethod.DELETE, null, Map.class);
+
+        Assert.assertEquals(HttpStatus.OK, actualOut.getStatusCode());
+        Assert.assertEquals(4, ((Number) actualOut.getBody().get("requested")).intValue());
+        Assert.assertEquals(3, ((Number) actualOut.getBody().get("deleted")).intValue());
+        Assert.assertEquals(HttpStatus.OK, restTemplate.getForEntity(createURL("/member/gymMemberById/104"), String.class).getStatusCode());
+        Assert.assertNull(restTemplate.getForObject(createURL("/member/gymMemberById/101"), Member.class));
+        Assert.assertEquals(7, restTemplate.getForObject(createURL("/member/allGymMembers"), Member[].class).length);
+    }
+
+    /**
+     * Test Method to check that the ids can be given as a JSON array in the body, along with the ids parameter.
+     * @throws Exception If the request fails
+     */
+    @Test
+    public void deleteGymMembersWithBodyTest() throws Exception {
+        MockMvc mvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        mvc.perform(delete("/member/gymMembers?ids=104").contentType(MediaType.APPLICATION_JSON).content("[101,102,103,103,999]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(5))
+                .andExpect(jsonPath("$.deleted").value(4));
+        Assert.assertNull(restTemplate.getForObject(createURL("/member/gymMemberById/101"), Member.class));
+        Assert.assertNull(restTemplate.getForObject(createURL("/member/gymMemberById/104"), Member.class));
+        Assert.assertEquals(6, restTemplate.getForObject(createURL("/member/allGymMembers"), Member[].class).length);
+    }
+
+    /**
+     * Test Method to check that a batch delete without ids is refused.
+     */
+    @Test
+    public void deleteGymMembersWithoutIdsTest() {
+        Assert.assertEquals(HttpStatus.BAD_REQUEST,
+                exchange("/member/gymMembers", HttpMethod.DELETE, null, String.class).getStatusCode());
+        Assert.assertEquals(10, restTemplate.getForObject(createURL("/member/allGymMembers"), Member[].class).length);
+    }
+
+    /**
+     * Test Method to check that a purge returns at once, can be polled until every member is deleted,
+     * and leaves the unique contact number index in place.
+     * @throws InterruptedException If interrupted while polling
+     */
+    @Test
+    public void purgeGymMembersTest() throws InterruptedException {
+        ResponseEntity<MemberPurge> submitted = exchange("/member/purges", HttpMethod.POST, null, MemberPurge.class);
+        Assert.assertEquals(HttpStatus.ACCEPTED, submitted.getStatusCode());
+        Assert.assertNotNull(submitted.getBody().getId());
+        Assert.assertTrue(submitted.getHeaders().getLocation().toString().endsWith("/member/purges/" + submitted.getBody().getId()));
+
+        MemberPurge purge = submitted.getBody();
+        for (int i = 0; i < 50 && !purge.hasFinished(); i++) {
+            Thread.sleep(100);
+            purge = restTemplate.getForObject(submitted.getHeaders().getLocation(), MemberPurge.class);
+        }
+        Assert.assertEquals(MemberPurge.Status.DONE, purge.getStatus());
+        Assert.assertEquals(Long.valueOf(10), purge.getTotal());
+        Assert.assertEquals(10, purge.getDeleted());
+        Assert.assertNotNull(purge.getFinished());
+        Assert.assertEquals(0, restTemplate.getForObject(createURL("/member/allGymMembers"), Member[].class).length);
+
+        create(new Member(201, "Wayne", "rooney", "some block1, some street1, some country1", 32, "0987654321"));
+        String duplicate = create(new Member(202, "Lionel", "Messi", "some block5, some street5, some country5", 23, "0987654321"));
+        Assert.assertEquals("Contact number already in use! :/", duplicate);
+    }
+
+    /**
+     * Test Method to check that an unknown purge is not found.
+     */
+    @Test
+    public void unknownPurgeTest() {
+        Assert.assertEquals(HttpStatus.NOT_FOUND,
+                restTemplate.getForEntity(createURL("/member/purges/unknown"), String.class).getStatusCode());
+    }
+
+    /**
+     * Creates a member through the API.
+     * @param member the member
+     * @return the message of the response
+     */
+    private String create(Member member) {
+        return exchange("/member/gymMember", HttpMethod.POST, member, String.class).getBody();
+    }
+
+    private <T> ResponseEntity<T> exchange(String URL, HttpMethod method, Object body, Class<T> type) {
+        return restTemplate.exchange(createURL(URL), method, new HttpEntity<Object>(body, headers), type);
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
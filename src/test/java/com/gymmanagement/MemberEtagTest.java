@@ -0,0 +1,216 @@
+package com.gymmanagement;
+
+import com.codahale.metrics.MetricRegistry;
+import com.gymmanagement.DAO.MemberRevisions;
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.Interface.RepositoryMetricsPostProcessor;
+import com.gymmanagement.beans.Member;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Class used for Integration Testing of the conditional member reads.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberEtagTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MetricRegistry registry;
+
+    @Autowired
+    private MemberRevisions revisions;
+
+    @Autowired
+    private IRepository db;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the defined members.
+     */
+    @Before
+    public void setUp() {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+
+        Member[] members = {
+                new Member(101, "Cristiano", "ronaldo", "some block, some street, some country", 45, "1234567890"),
+                new Member(102, "Wayne", "rooney", "some block1, some street1, some country1", 54, "0987654321")
+        };
+        for (Member member : members)
+            restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                    new HttpEntity<Member>(member, headers), String.class);
+    }
+
+    /**
+     * Test Method to check that a member is answered with an ETag and that
+     * sending it back gives a 304 without a body.
+     */
+    @Test
+    public void getGymMemberByIdNotModifiedTest() {
+        ResponseEntity<String> first = get("/member/gymMemberById/101", null);
+        String etag = first.getHeaders().getETag();
+        Assert.assertEquals(HttpStatus.OK, first.getStatusCode());
+        Assert.assertNotNull(etag);
+
+        ResponseEntity<String> second = get("/member/gymMemberById/101", etag);
+        Assert.assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        Assert.assertNull(second.getBody());
+    }
+
+    /**
+     * Test Method to check that updating a member changes its ETag.
+     */
+    @Test
+    public void getGymMemberByIdAfterUpdateTest() {
+        String etag = get("/member/gymMemberById/101", null).getHeaders().getETag();
+
+        Member member = new Member(101, "Cristiano", "ronaldo", "other block, other street, other country", 46, "1234567890");
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.PUT,
+                new HttpEntity<Member>(member, headers), String.class);
+
+        ResponseEntity<String> updated = get("/member/gymMemberById/101", etag);
+        Assert.assertEquals(HttpStatus.OK, updated.getStatusCode());
+        Assert.assertNotEquals(etag, updated.getHeaders().getETag());
+        Assert.assertTrue(updated.getBody(), updated.getBody().contains("other block"));
+    }
+
+    /**
+     * Test Method to check that the ETag depends on the requested fields.
+     */
+    @Test
+    public void getGymMemberByIdFieldsEtagTest() {
+        String all = get("/member/gymMemberById/101", null).getHeaders().getETag();
+        String some = get("/member/gymMemberById/101?fields=firstName", null).getHeaders().getETag();
+        Assert.assertNotEquals(all, some);
+        Assert.assertEquals(HttpStatus.NOT_MODIFIED,
+                get("/member/gymMemberById/101?fields=firstName", some).getStatusCode());
+    }
+
+    /**
+     * Test Method to check that the member list gives a 304 until the next write.
+     */
+    @Test
+    public void getAllGymMemberNotModifiedTest() {
+        String etag = get("/member/allGymMembers", null).getHeaders().getETag();
+        Assert.assertNotNull(etag);
+        Assert.assertEquals(HttpStatus.NOT_MODIFIED, get("/member/allGymMembers", etag).getStatusCode());
+
+        Member member = new Member(103, "Lionel", "messi", "some block2, some street2, some country2", 30, "1122334455");
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(member, headers), String.class);
+
+        ResponseEntity<String> changed = get("/member/allGymMembers", etag);
+        Assert.assertEquals(HttpStatus.OK, changed.getStatusCode());
+        Assert.assertNotEquals(etag, changed.getHeaders().getETag());
+        Assert.assertTrue(changed.getBody(), changed.getBody().contains("Lionel"));
+    }
+
+    /**
+     * Test Method to check that a matching If-None-Match is answered without reading the members.
+     */
+    @Test
+    public void notModifiedSkipsReadTest() {
+        String etag = get("/member/allGymMembers", null).getHeaders().getETag();
+        String timer = RepositoryMetricsPostProcessor.TIMER_PREFIX + "findAll(MemberFields)";
+        long before = registry.timer(timer).getCount();
+
+        ResponseEntity<String> notModified = get("/member/allGymMembers", etag);
+
+        Assert.assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        Assert.assertEquals(etag, notModified.getHeaders().getETag());
+        Assert.assertEquals(before, registry.timer(timer).getCount());
+        Assert.assertEquals(HttpStatus.NOT_MODIFIED,
+                get("/member/gymMembersByIds?ids=101,102", get("/member/gymMembersByIds?ids=101,102", null).getHeaders().getETag())
+                        .getStatusCode());
+    }
+
+    /**
+     * Test Method to check that a revision which cannot be moved is tried again,
+     * and then changes the ETags rather than leaving them matching.
+     */
+    @Test
+    public void revisionFailureTest() {
+        final AtomicInteger attempts = new AtomicInteger();
+        ProxyFactory proxy = new ProxyFactory(db);
+        proxy.addAdvice((MethodInterceptor) invocation -> {
+            if (invocation.getMethod().getName().equals("nextRevision")) {
+                attempts.incrementAndGet();
+                throw new DataAccessResourceFailureException("revisions unavailable");
+            }
+            return invocation.proceed();
+        });
+        String tag = revisions.tag(7);
+        ReflectionTestUtils.setField(revisions, "db", proxy.getProxy());
+        try {
+            revisions.next();
+        } finally {
+            ReflectionTestUtils.setField(revisions, "db", db);
+        }
+        Assert.assertEquals(3, attempts.get());
+        Assert.assertNotEquals(tag, revisions.tag(7));
+
+        tag = revisions.tag(7);
+        attempts.set(0);
+        CompletableFuture<Long> moved = revisions.next(() -> {
+            attempts.incrementAndGet();
+            CompletableFuture<Long> failed = new CompletableFuture<Long>();
+            failed.completeExceptionally(new DataAccessResourceFailureException("revisions unavailable"));
+            return failed;
+        });
+        Assert.assertNull(moved.join());
+        Assert.assertEquals(3, attempts.get());
+        Assert.assertNotEquals(tag, revisions.tag(7));
+    }
+
+    /**
+     * Sends a GET, conditional when an ETag is given.
+     * @param URL url prefix of the read
+     * @param etag ETag to send in If-None-Match, or null
+     * @return the response
+     */
+    private ResponseEntity<String> get(String URL, String etag) {
+        HttpHeaders conditional = new HttpHeaders();
+        if (etag != null)
+            conditional.setIfNoneMatch(etag);
+        return restTemplate.exchange(createURL(URL), HttpMethod.GET,
+                new HttpEntity<String>(null, conditional), String.class);
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
@@ -0,0 +1,164 @@
+package com.gymmanagement;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberFields;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Class used for Integration Testing of the fields parameter of the member reads.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberFieldsTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Repository used to check what is fetched from the database.
+     */
+    @Autowired
+    private IRepository db;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+    ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the defined members.
+     * @throws Exception If a problem occurs
+     */
+    @Before
+    public void setUp() throws Exception {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+
+        Member[] members = {
+                new Member(101, "Cristiano", "ronaldo", "some block, some street, some country", 45, "1234567890"),
+                new Member(102, "Wayne", "rooney", "some block1, some street1, some country1", 54, "0987654321")
+        };
+        for (Member member : members)
+            restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                    new HttpEntity<Member>(member, headers), String.class);
+    }
+
+    /**
+     * Test Method to check that only the requested fields of a member are written.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void getGymMemberByIdFieldsTest() throws Exception {
+        String actualOut = restTemplate.getForObject(createURL("/member/gymMemberById/101?fields=id,firstName"), String.class);
+
+        Assert.assertEquals("{\"id\":101,\"firstName\":\"Cristiano\"}", actualOut);
+    }
+
+    /**
+     * Test Method to check that only the requested fields of every member are written,
+     * and that the id is left out when it is not requested.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void getAllGymMembersFieldsTest() throws Exception {
+        JsonNode actualOut = mapper.readTree(restTemplate.getForObject(
+                createURL("/member/allGymMembers?fields=firstName"), String.class));
+
+        Assert.assertEquals(2, actualOut.size());
+        for (JsonNode member : actualOut)
+            Assert.assertEquals(Arrays.asList("firstName"), fieldNames(member));
+    }
+
+    /**
+     * Test Method to check that pages keep the requested fields and still link to the next page.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void pageFieldsTest() throws Exception {
+        ResponseEntity<String> actualOut = restTemplate.getForEntity(
+                createURL("/member/allGymMembers?limit=1&fields=firstName"), String.class);
+
+        JsonNode page = mapper.readTree(actualOut.getBody());
+        Assert.assertEquals(Arrays.asList("firstName"), fieldNames(page.get(0)));
+        Assert.assertTrue(actualOut.getHeaders().getFirst(HttpHeaders.LINK).contains("after=101"));
+        Assert.assertTrue(actualOut.getHeaders().getFirst(HttpHeaders.LINK).contains("fields=firstName"));
+    }
+
+    /**
+     * Test Method to check that the fields which are not requested are not fetched from the database.
+     */
+    @Test
+    public void projectionTest() {
+        Member actualOut = db.findOne(102, MemberFields.parse("firstName"));
+
+        Assert.assertEquals(102, actualOut.getId());
+        Assert.assertEquals("Wayne", actualOut.getFirstName());
+        Assert.assertNull(actualOut.getAddress());
+        Assert.assertNull(actualOut.getContactNo());
+    }
+
+    /**
+     * Test Method to check that an unknown field is rejected.
+     */
+    @Test
+    public void unknownFieldTest() {
+        ResponseEntity<String> actualOut = restTemplate.getForEntity(
+                createURL("/member/gymMemberById/101?fields=id,password"), String.class);
+
+        Assert.assertEquals(HttpStatus.BAD_REQUEST, actualOut.getStatusCode());
+    }
+
+    /**
+     * Test Method to check that every field is written without the fields parameter.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void allFieldsTest() throws Exception {
+        JsonNode actualOut = mapper.readTree(restTemplate.getForObject(createURL("/member/gymMemberById/101"), String.class));
+
+        Assert.assertEquals(Arrays.asList("id", "firstName", "lastName", "address", "age", "contactNo"), fieldNames(actualOut));
+    }
+
+    /**
+     * Lists the field names of a JSON object.
+     * @param node the object
+     * @return its field names in order
+     */
+    private List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<String>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
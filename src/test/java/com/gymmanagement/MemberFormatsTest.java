@@ -0,0 +1,197 @@
+package com.gymmanagement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.gymmanagement.DAO.MemberFormats;
+import com.gymmanagement.beans.BulkResult;
+import com.gymmanagement.beans.Member;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Class used for Integration Testing of the Smile and CBOR member formats and of response compression.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberFormatsTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+    ObjectMapper smile = new ObjectMapper(new SmileFactory());
+    ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+    /**
+     * The application object mapper.
+     */
+    @Autowired
+    private ObjectMapper mapper;
+
+    /**
+     * The binary member formats of the application.
+     */
+    @Autowired
+    private MemberFormats formats;
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the defined member.
+     * @throws Exception If a problem occurs
+     */
+    @Before
+    public void setUp() throws Exception {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+
+        Member sampleMember = new Member(101, "Cristiano", "ronaldo",
+                "some block, some street, some country", 45, "1234567890");
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(sampleMember, headers), String.class);
+    }
+
+    /**
+     * Test Method to check that a member can be enrolled with a Smile body and read back as Smile.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void smileTest() throws Exception {
+        Member member = new Member(102, "Wayne", "rooney", "some block1, some street1, some country1", 54, "0987654321");
+        HttpHeaders smileHeaders = new HttpHeaders();
+        smileHeaders.setContentType(MediaType.valueOf("application/x-jackson-smile"));
+        String created = restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<byte[]>(smile.writeValueAsBytes(member), smileHeaders), String.class).getBody();
+
+        ResponseEntity<byte[]> actualOut = restTemplate.exchange(createURL("/member/gymMemberById/102"), HttpMethod.GET,
+                new HttpEntity<Void>(accept("application/x-jackson-smile")), byte[].class);
+
+        Assert.assertEquals("Member with 102 created successfully :)", created);
+        Assert.assertEquals("application/x-jackson-smile", actualOut.getHeaders().getContentType().toString());
+        Assert.assertEquals("Wayne", smile.readValue(actualOut.getBody(), Member.class).getFirstName());
+    }
+
+    /**
+     * Test Method to check that the members can be listed as CBOR.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void cborTest() throws Exception {
+        ResponseEntity<byte[]> actualOut = restTemplate.exchange(createURL("/member/allGymMembers"), HttpMethod.GET,
+                new HttpEntity<Void>(accept("application/cbor")), byte[].class);
+
+        Member[] members = cbor.readValue(actualOut.getBody(), Member[].class);
+        Assert.assertEquals("application/cbor", actualOut.getHeaders().getContentType().toString());
+        Assert.assertEquals(1, members.length);
+        Assert.assertEquals("1234567890", members[0].getContactNo());
+    }
+
+    /**
+     * Test Method to check that many members can be enrolled with a CBOR array.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void bulkCborTest() throws Exception {
+        Member[] members = {
+                new Member(301, "Lionel", "Messi", "some block5, some street5, some country5", 23, "6754378901"),
+                new Member(101, "Cristiano", "ronaldo", "some block, some street, some country", 45, "1234567890")
+        };
+        HttpHeaders cborHeaders = new HttpHeaders();
+        cborHeaders.setContentType(MediaType.valueOf("application/cbor"));
+        cborHeaders.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+
+        BulkResult actualOut = restTemplate.exchange(createURL("/member/gymMembers/bulk"), HttpMethod.POST,
+                new HttpEntity<byte[]>(cbor.writeValueAsBytes(members), cborHeaders), BulkResult.class).getBody();
+
+        Assert.assertEquals(1, actualOut.getCreated());
+        Assert.assertEquals(1, actualOut.getDuplicates());
+    }
+
+    /**
+     * Test Method to check that the binary mappers are built with the settings of the application object mapper.
+     */
+    @Test
+    public void sameSettingsTest() {
+        for (MediaType format : new MediaType[] {MemberFormats.APPLICATION_SMILE, MemberFormats.APPLICATION_CBOR}) {
+            ObjectMapper binary = formats.binaryMapper(format);
+            Assert.assertEquals(mapper.getSerializationConfig().getSerializationFeatures(),
+                    binary.getSerializationConfig().getSerializationFeatures());
+            Assert.assertEquals(mapper.getDeserializationConfig().getDeserializationFeatures(),
+                    binary.getDeserializationConfig().getDeserializationFeatures());
+        }
+        Assert.assertTrue(formats.binaryMapper(MemberFormats.APPLICATION_SMILE).getFactory() instanceof SmileFactory);
+        Assert.assertTrue(formats.binaryMapper(MemberFormats.APPLICATION_CBOR).getFactory() instanceof CBORFactory);
+    }
+
+    /**
+     * Test Method to check that JSON stays the default format.
+     */
+    @Test
+    public void defaultJsonTest() {
+        ResponseEntity<String> actualOut = restTemplate.exchange(createURL("/member/gymMemberById/101"), HttpMethod.GET,
+                new HttpEntity<Void>(accept("*/*")), String.class);
+
+        Assert.assertTrue(MediaType.APPLICATION_JSON.includes(actualOut.getHeaders().getContentType()));
+    }
+
+    /**
+     * Test Method to check that a large listing is gzip compressed for a client which accepts it.
+     */
+    @Test
+    public void gzipTest() {
+        List<Member> members = new ArrayList<Member>();
+        for (int id = 401; id <= 450; id++)
+            members.add(new Member(id, "Member", "Compressed", "some block, some street, some country", 30, "98765" + (id + 10000)));
+        restTemplate.exchange(createURL("/member/gymMembers/bulk"), HttpMethod.POST,
+                new HttpEntity<List<Member>>(members, headers), String.class);
+
+        HttpHeaders gzipHeaders = accept("application/json");
+        gzipHeaders.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        ResponseEntity<byte[]> actualOut = new RestTemplate(new SimpleClientHttpRequestFactory()).exchange(
+                createURL("/member/allGymMembers"), HttpMethod.GET, new HttpEntity<Void>(gzipHeaders), byte[].class);
+
+        Assert.assertEquals("gzip", actualOut.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    /**
+     * Builds headers accepting only the given media type.
+     * @param mediaType the accepted media type
+     * @return the headers
+     */
+    private HttpHeaders accept(String mediaType) {
+        HttpHeaders acceptHeaders = new HttpHeaders();
+        acceptHeaders.setAccept(Collections.singletonList(MediaType.valueOf(mediaType)));
+        return acceptHeaders;
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
@@ -0,0 +1,249 @@
+package com.gymmanagement;
+
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.Interface.MemberIdAllocator;
+import com.gymmanagement.Interface.MemberIdsExhaustedException;
+import com.gymmanagement.beans.BulkItemResult;
+import com.gymmanagement.beans.BulkResult;
+import com.gymmanagement.beans.Member;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+
+/**
+ * Class used for Integration Testing of the ids assigned by the server.
+ * It runs its own application on a random port and database, with the server assigning the ids.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.data.mongodb.database=GymIdAllocation", "member.ids.assign=true", "member.ids.block-size=10"})
+public class MemberIdAllocationTest {
+    /**
+     * Number of clients creating members at once.
+     */
+    private static final int THREADS = 16;
+
+    /**
+     * Number of members created by every client.
+     */
+    private static final int CREATES = 10;
+
+    private static final Pattern CREATED = Pattern.compile("Member with (\\d+) created successfully :\\)");
+
+    /**
+     * Maps the random port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Template used to read and move the id counter.
+     */
+    @Autowired
+    private MongoOperations mongo;
+
+    /**
+     * Repository used to store members directly.
+     */
+    @Autowired
+    private IRepository db;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database is empty and the id counter starts over.
+     */
+    @Before
+    public void setUp() {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        mongo.remove(new Query(where("_id").is("member")), "sequences");
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+    }
+
+    /**
+     * Test Method to check that concurrent creates are all given distinct ids, whatever id the client sent.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void concurrentCreatesTest() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<String>>> futures = new ArrayList<Future<List<String>>>();
+        for (int t = 0; t < THREADS; t++) {
+            final int client = t;
+            futures.add(pool.submit(new Callable<List<String>>() {
+                @Override
+                public List<String> call() {
+                    List<String> out = new ArrayList<String>();
+                    for (int i = 0; i < CREATES; i++) {
+                        Member member = new Member(1, "Lionel", "Messi", "some block", 23,
+                                String.format("67543%02d%03d", client, i));
+                        out.add(restTemplate.postForObject(createURL("/member/gymMember"),
+                                new HttpEntity<Member>(member, headers), String.class));
+                    }
+                    return out;
+                }
+            }));
+        }
+        Set<Integer> ids = new HashSet<Integer>();
+        for (Future<List<String>> future : futures) {
+            for (String actualOut : future.get()) {
+                Matcher matcher = CREATED.matcher(actualOut);
+                Assert.assertTrue(actualOut, matcher.matches());
+                Assert.assertTrue(actualOut, ids.add(Integer.parseInt(matcher.group(1))));
+            }
+        }
+        pool.shutdown();
+
+        Assert.assertEquals(THREADS * CREATES, db.count());
+        for (int id : ids)
+            Assert.assertTrue(String.valueOf(id), id > 0 && id <= MemberIdAllocator.MAX_ID);
+    }
+
+    /**
+     * Test Method to check that a create still fails on a contact number in use, instead of taking other ids.
+     */
+    @Test
+    public void duplicateContactNoTest() {
+        Member member = new Member(0, "Lionel", "Messi", "some block", 23, "6754378901");
+        restTemplate.postForObject(createURL("/member/gymMember"), new HttpEntity<Member>(member, headers), String.class);
+
+        ResponseEntity<String> actualOut = restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(member, headers), String.class);
+
+        Assert.assertEquals(HttpStatus.CONFLICT, actualOut.getStatusCode());
+        Assert.assertEquals("Contact number already in use! :/", actualOut.getBody());
+        Assert.assertEquals(1, db.count());
+    }
+
+    /**
+     * Test Method to check that a bulk create gives new ids to the members whose id is already taken.
+     */
+    @Test
+    public void bulkIdCollisionTest() {
+        Member first = new Member(0, "Lionel", "Messi", "some block", 23, "6754378901");
+        Matcher matcher = CREATED.matcher(restTemplate.postForObject(createURL("/member/gymMember"),
+                new HttpEntity<Member>(first, headers), String.class));
+        Assert.assertTrue(matcher.matches());
+        int taken = Integer.parseInt(matcher.group(1)) + 1;
+        db.save(new Member(taken, "Wayne", "rooney", "some block", 32, "6754378902"));
+
+        List<Member> members = new ArrayList<Member>();
+        for (int i = 0; i < 3; i++)
+            members.add(new Member(0, "Cristiano", "Ronaldo", "some block", 31, "675437891" + i));
+        BulkResult actualOut = restTemplate.postForObject(createURL("/member/gymMembers/bulk"),
+                new HttpEntity<List<Member>>(members, headers), BulkResult.class);
+
+        Assert.assertEquals(3, actualOut.getCreated());
+        Set<Integer> ids = new HashSet<Integer>();
+        for (BulkItemResult item : actualOut.getItems()) {
+            Assert.assertEquals(BulkItemResult.Status.CREATED, item.getStatus());
+            Assert.assertNotEquals(taken, item.getId().intValue());
+            Assert.assertTrue(String.valueOf(item.getId()), ids.add(item.getId()));
+            Assert.assertEquals("Cristiano", db.findOne(item.getId()).getFirstName());
+        }
+        Assert.assertEquals(5, db.count());
+    }
+
+    /**
+     * Test Method to check that allocators sharing the counter, like those of several instances, never give the same id.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void sharedCounterTest() throws Exception {
+        final List<MemberIdAllocator> allocators = new ArrayList<MemberIdAllocator>();
+        for (int i = 0; i < 4; i++)
+            allocators.add(new MemberIdAllocator(mongo, true, 7));
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<Integer>>> futures = new ArrayList<Future<List<Integer>>>();
+        for (int t = 0; t < THREADS; t++) {
+            final MemberIdAllocator allocator = allocators.get(t % allocators.size());
+            futures.add(pool.submit(new Callable<List<Integer>>() {
+                @Override
+                public List<Integer> call() {
+                    List<Integer> out = new ArrayList<Integer>();
+                    for (int i = 0; i < 200; i++)
+                        out.add(allocator.nextId());
+                    return out;
+                }
+            }));
+        }
+        Set<Integer> ids = new HashSet<Integer>();
+        for (Future<List<Integer>> future : futures)
+            for (int id : future.get())
+                Assert.assertTrue(String.valueOf(id), ids.add(id));
+        pool.shutdown();
+
+        Assert.assertEquals(THREADS * 200, ids.size());
+    }
+
+    /**
+     * Test Method to check that the first block of an allocator starts after the ids in use.
+     */
+    @Test
+    public void skipUsedIdsTest() {
+        db.save(new Member(90000, "Lionel", "Messi", "some block", 23, "6754378901"));
+
+        int actualOut = new MemberIdAllocator(mongo, true, 10).nextId();
+
+        Assert.assertTrue(String.valueOf(actualOut), actualOut > 90000);
+    }
+
+    /**
+     * Test Method to check that the last ids are handed out one by one, and that none is given past the largest id.
+     */
+    @Test
+    public void exhaustedIdsTest() {
+        mongo.upsert(new Query(where("_id").is("member")), new Update().set("lastId", MemberIdAllocator.MAX_ID - 3), "sequences");
+        MemberIdAllocator allocator = new MemberIdAllocator(mongo, true, 10);
+
+        Assert.assertEquals(MemberIdAllocator.MAX_ID - 2, allocator.nextId());
+        Assert.assertEquals(MemberIdAllocator.MAX_ID - 1, allocator.nextId());
+        Assert.assertEquals(MemberIdAllocator.MAX_ID, allocator.nextId());
+        try {
+            allocator.nextId();
+            Assert.fail("Expected the ids to be exhausted");
+        } catch (MemberIdsExhaustedException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains(String.valueOf(MemberIdAllocator.MAX_ID)));
+        }
+    }
+
+    /**
+     * Method to Create the URL with the port of this application.
+     * @param URL Takes a url prefix
+     * @return Complete url with the port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
@@ -0,0 +1,111 @@
+package com.gymmanagement;
+
+import com.gymmanagement.beans.Member;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Map;
+
+
+/**
+ * Class used for Integration Testing of the member latency timers and outcome counters.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberMetricsTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the defined member.
+     * @throws Exception If a problem occurs
+     */
+    @Before
+    public void setUp() throws Exception {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+
+        Member member = new Member(101, "Cristiano", "ronaldo", "some block, some street, some country", 45, "1234567890");
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(member, headers), String.class);
+    }
+
+    /**
+     * Test Method to check that a read is timed both at the endpoint and at the repository.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void timersTest() {
+        restTemplate.getForObject(createURL("/member/gymMemberById/101"), String.class);
+
+        Map<String, Object> actualOut = restTemplate.getForObject(createURL("/memberMetrics"), Map.class);
+        Map<String, Object> endpoint = (Map<String, Object>) ((Map<String, Object>) actualOut.get("http")).get("getGymMemberById");
+        Map<String, Object> operation = (Map<String, Object>) ((Map<String, Object>) actualOut.get("mongo")).get("findOne(int,MemberFields)");
+
+        Assert.assertTrue(((Number) endpoint.get("count")).longValue() > 0);
+        Assert.assertTrue(endpoint.containsKey("p99"));
+        Assert.assertTrue(((Number) operation.get("count")).longValue() > 0);
+        Assert.assertFalse(((Map<String, Object>) actualOut.get("mongo")).containsKey("findOne"));
+    }
+
+    /**
+     * Test Method to check that duplicate and invalid members are counted.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void outcomesTest() {
+        Member duplicate = new Member(101, "Cristiano", "ronaldo", "some block, some street, some country", 45, "1234567890");
+        Member invalid = new Member(102, "Wayne9", "rooney", "some block1, some street1, some country1", 54, "0987654321");
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(duplicate, headers), String.class);
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(invalid, headers), String.class);
+
+        Map<String, Object> actualOut = restTemplate.getForObject(createURL("/memberMetrics"), Map.class);
+        Map<String, Object> outcomes = (Map<String, Object>) actualOut.get("outcomes");
+
+        Assert.assertTrue(((Number) outcomes.get("duplicate")).longValue() > 0);
+        Assert.assertTrue(((Number) outcomes.get("validation.failed")).longValue() > 0);
+        Assert.assertTrue(((Map<String, Object>) actualOut.get("cache")).containsKey("hitRatio"));
+    }
+
+    /**
+     * Test Method to check that the timers are also published on the metrics endpoint.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void publishedTest() {
+        restTemplate.getForObject(createURL("/member/gymMemberById/101"), String.class);
+
+        Map<String, Object> actualOut = restTemplate.getForObject(createURL("/metrics"), Map.class);
+
+        Assert.assertTrue(actualOut.keySet().toString(), actualOut.containsKey("member.http.getGymMemberById.snapshot.99thPercentile"));
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
@@ -0,0 +1,141 @@
+package com.gymmanagement;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gymmanagement.beans.Member;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Class used for Integration Testing of the multi-get of members by id.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberMultiGetTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+    ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the defined members.
+     */
+    @Before
+    public void setUp() {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+
+        Member[] members = {
+                new Member(101, "Cristiano", "ronaldo", "some block, some street, some country", 45, "1234567890"),
+                new Member(102, "Wayne", "rooney", "some block1, some street1, some country1", 54, "0987654321"),
+                new Member(103, "Lionel", "messi", "some block2, some street2, some country2", 30, "1122334455")
+        };
+        for (Member member : members)
+            restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                    new HttpEntity<Member>(member, headers), String.class);
+    }
+
+    /**
+     * Test Method to check that members come back in request order and missing ids are reported.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void getGymMembersByIdsTest() throws Exception {
+        // warm the cache for one of the ids, so cached and fetched members are mixed
+        restTemplate.getForObject(createURL("/member/gymMemberById/102"), String.class);
+
+        JsonNode actualOut = mapper.readTree(restTemplate.getForObject(
+                createURL("/member/gymMembersByIds?ids=103,999,101,102,101"), String.class));
+
+        Assert.assertEquals(Arrays.asList(103, 101, 102), ids(actualOut.get("members")));
+        Assert.assertEquals("Lionel", actualOut.get("members").get(0).get("firstName").asText());
+        Assert.assertEquals("[999]", actualOut.get("missing").toString());
+    }
+
+    /**
+     * Test Method to check that the ids can be posted as a JSON array.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void postGymMembersByIdsTest() throws Exception {
+        ResponseEntity<String> actualOut = restTemplate.exchange(createURL("/member/gymMembersByIds"), HttpMethod.POST,
+                new HttpEntity<String>("[102,103,104]", headers), String.class);
+
+        JsonNode batch = mapper.readTree(actualOut.getBody());
+        Assert.assertEquals(HttpStatus.OK, actualOut.getStatusCode());
+        Assert.assertEquals(Arrays.asList(102, 103), ids(batch.get("members")));
+        Assert.assertEquals("[104]", batch.get("missing").toString());
+    }
+
+    /**
+     * Test Method to check that only the requested fields of the members are written.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void getGymMembersByIdsFieldsTest() throws Exception {
+        String actualOut = restTemplate.getForObject(
+                createURL("/member/gymMembersByIds?ids=101,102&fields=id,firstName"), String.class);
+
+        Assert.assertEquals("{\"members\":[{\"id\":101,\"firstName\":\"Cristiano\"},{\"id\":102,\"firstName\":\"Wayne\"}],"
+                + "\"missing\":[]}", actualOut);
+    }
+
+    /**
+     * Test Method to check that asking for too many members is rejected.
+     */
+    @Test
+    public void tooManyIdsTest() {
+        StringBuilder ids = new StringBuilder("[1");
+        for (int id = 2; id <= 1001; id++)
+            ids.append(',').append(id);
+        ids.append(']');
+
+        ResponseEntity<String> actualOut = restTemplate.exchange(createURL("/member/gymMembersByIds"), HttpMethod.POST,
+                new HttpEntity<String>(ids.toString(), headers), String.class);
+
+        Assert.assertEquals(HttpStatus.BAD_REQUEST, actualOut.getStatusCode());
+    }
+
+    /**
+     * Gets the ids of the given members.
+     * @param members JSON array of members
+     * @return the ids in array order
+     */
+    private List<Integer> ids(JsonNode members) {
+        List<Integer> ids = new ArrayList<Integer>();
+        for (JsonNode member : members)
+            ids.add(member.get("id").asInt());
+        return ids;
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
@@ -0,0 +1,106 @@
+package com.gymmanagement;
+
+import com.gymmanagement.beans.Member;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Collections;
+
+
+/**
+ * Class used for Integration Testing of the paged and streamed member listing.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberPagingTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have five members with ids 201 to 205.
+     * @throws Exception If a problem occurs
+     */
+    @Before
+    public void setUp() throws Exception {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+
+        for (int id = 205; id > 200; id--) {
+            Member member = new Member(id, "Member", "Paged", "some block, some street, some country",
+                    30, "98765432" + (id - 150));
+            restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                    new HttpEntity<Member>(member, headers), String.class);
+        }
+    }
+
+    /**
+     * Test Method to check that a limit returns the first page in id order with a link to the next one.
+     */
+    @Test
+    public void firstPageTest() {
+        ResponseEntity<Member[]> actualOut = restTemplate.getForEntity(
+                createURL("/member/allGymMembers?limit=2"), Member[].class);
+
+        Assert.assertEquals(2, actualOut.getBody().length);
+        Assert.assertEquals(201, actualOut.getBody()[0].getId());
+        Assert.assertEquals(202, actualOut.getBody()[1].getId());
+        Assert.assertTrue(actualOut.getHeaders().getFirst(HttpHeaders.LINK).contains("after=202"));
+    }
+
+    /**
+     * Test Method to check that the after cursor resumes where the previous page stopped.
+     */
+    @Test
+    public void lastPageTest() {
+        ResponseEntity<Member[]> actualOut = restTemplate.getForEntity(
+                createURL("/member/allGymMembers?limit=2&after=204"), Member[].class);
+
+        Assert.assertEquals(1, actualOut.getBody().length);
+        Assert.assertEquals(205, actualOut.getBody()[0].getId());
+        Assert.assertNull(actualOut.getHeaders().getFirst(HttpHeaders.LINK));
+    }
+
+    /**
+     * Test Method to check the newline delimited JSON stream of all the members.
+     */
+    @Test
+    public void streamAllGymMembersTest() {
+        HttpHeaders streamHeaders = new HttpHeaders();
+        streamHeaders.setAccept(Collections.singletonList(MediaType.valueOf("application/x-ndjson")));
+
+        ResponseEntity<String> actualOut = restTemplate.exchange(createURL("/member/allGymMembers?after=202"),
+                HttpMethod.GET, new HttpEntity<String>(null, streamHeaders), String.class);
+        String[] lines = actualOut.getBody().split("\n");
+
+        Assert.assertEquals(3, lines.length);
+        Assert.assertTrue(lines[0].startsWith("{\"id\":203,"));
+        Assert.assertTrue(lines[2].startsWith("{\"id\":205,"));
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
@@ -0,0 +1,140 @@
+package com.gymmanagement;
+
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberPurge;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+/**
+ * Class used for Integration Testing of the purges of a database user not allowed to swap the member collection.
+ * It runs its own application on a random port and database, whose repository refuses every truncation,
+ * so the members are deleted in batches of 3.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = {GymApplication.class, MemberPurgeFallbackTest.RefusedTruncation.class},
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.data.mongodb.database=GymPurgeFallback", "member.purge.batch-size=3"})
+public class MemberPurgeFallbackTest {
+    /**
+     * Maps the random port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Wraps the repository so that it fails to truncate, as it would without the right to drop collections.
+     */
+    @TestConfiguration
+    static class RefusedTruncation {
+
+        @Bean
+        static BeanPostProcessor refuseTruncation() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    return bean;
+                }
+
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof IRepository))
+                        return bean;
+                    ProxyFactory proxy = new ProxyFactory(bean);
+                    proxy.addAdvice((MethodInterceptor) invocation -> {
+                        if ("truncate".equals(invocation.getMethod().getName()))
+                            throw new DataAccessResourceFailureException("not authorized to drop the member collection");
+                        return invocation.proceed();
+                    });
+                    return proxy.getProxy();
+                }
+            };
+        }
+    }
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the defined members.
+     */
+    @Before
+    public void setUp() {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+        for (int id = 101; id <= 110; id++)
+            exchange("/member/gymMember", HttpMethod.POST,
+                    new Member(id, "Cristiano", "ronaldo", "some block, some street, some country", 45, "123456" + (1000 + id)), String.class);
+    }
+
+    /**
+     * Test Method to check that deleting all the members falls back to batches, and forgets the cached members.
+     */
+    @Test
+    public void deleteAllGymMembersTest() {
+        Assert.assertNotNull(restTemplate.getForObject(createURL("/member/gymMemberById/101"), Member.class));
+
+        MemberPurge purge = MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+
+        Assert.assertEquals(MemberPurge.Method.BATCHES, purge.getMethod());
+        Assert.assertEquals(10, purge.getDeleted());
+        Assert.assertNull(restTemplate.getForObject(createURL("/member/gymMemberById/101"), Member.class));
+        Assert.assertEquals(0, restTemplate.getForObject(createURL("/member/allGymMembers"), Member[].class).length);
+    }
+
+    /**
+     * Test Method to check that a purge falls back to batches, and counts every member deleted.
+     * @throws InterruptedException If interrupted while polling
+     */
+    @Test
+    public void purgeGymMembersTest() throws InterruptedException {
+        Assert.assertNotNull(restTemplate.getForObject(createURL("/member/gymMemberById/110"), Member.class));
+
+        ResponseEntity<MemberPurge> submitted = exchange("/member/purges", HttpMethod.POST, null, MemberPurge.class);
+        Assert.assertEquals(HttpStatus.ACCEPTED, submitted.getStatusCode());
+
+        MemberPurge purge = submitted.getBody();
+        for (int i = 0; i < 50 && !purge.hasFinished(); i++) {
+            Thread.sleep(100);
+            purge = restTemplate.getForObject(submitted.getHeaders().getLocation(), MemberPurge.class);
+        }
+        Assert.assertEquals(MemberPurge.Status.DONE, purge.getStatus());
+        Assert.assertEquals(MemberPurge.Method.BATCHES, purge.getMethod());
+        Assert.assertEquals(Long.valueOf(10), purge.getTotal());
+        Assert.assertEquals(10, purge.getDeleted());
+        Assert.assertNull(restTemplate.getForObject(createURL("/member/gymMemberById/110"), Member.class));
+        Assert.assertEquals(0, restTemplate.getForObject(createURL("/member/allGymMembers"), Member[].class).length);
+    }
+
+    private <T> ResponseEntity<T> exchange(String URL, HttpMethod method, Object body, Class<T> type) {
+        return restTemplate.exchange(createURL(URL), method, new HttpEntity<Object>(body, headers), type);
+    }
+
+    /**
+     * Method to Create the URL with the port of this application.
+     * @param URL Takes a url prefix
+     * @return Complete url with the port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
@@ -0,0 +1,46 @@
+package com.gymmanagement;
+
+import com.gymmanagement.beans.MemberPurge;
+import org.junit.Assert;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+
+/**
+ * Deletes all the members through the API and waits for the purge, for the tests which start from an empty Gym.
+ * DELETE /member/allGymMembers only submits the purge, so a test writing members right away would race it.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+final class MemberPurgeWait {
+
+    private MemberPurgeWait() {
+    }
+
+    /**
+     * Deletes all the members and waits until the purge is done.
+     * @param restTemplate template of the test
+     * @param URL complete url of /member/allGymMembers
+     * @return the finished purge
+     */
+    static MemberPurge deleteAll(TestRestTemplate restTemplate, String URL) {
+        ResponseEntity<MemberPurge> submitted = restTemplate.exchange(URL, HttpMethod.DELETE, null, MemberPurge.class);
+        Assert.assertEquals(HttpStatus.ACCEPTED, submitted.getStatusCode());
+
+        MemberPurge purge = submitted.getBody();
+        for (int i = 0; i < 200 && !purge.hasFinished(); i++) {
+            try {
+                Thread.sleep(25);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("Interrupted while waiting for the purge", e);
+            }
+            purge = restTemplate.getForObject(submitted.getHeaders().getLocation(), MemberPurge.class);
+        }
+        Assert.assertEquals(MemberPurge.Status.DONE, purge.getStatus());
+        return purge;
+    }
+}
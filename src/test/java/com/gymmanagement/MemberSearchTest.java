@@ -0,0 +1,198 @@
+package com.gymmanagement;
+
+import com.gymmanagement.Interface.MemberIndexes;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberSearch;
+import com.mongodb.DBObject;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+/**
+ * Class used for Integration Testing of the indexed member search.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberSearchTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Template used to explain the search queries.
+     */
+    @Autowired
+    private MongoOperations mongo;
+
+    /**
+     * Creator of the member indexes, run again as by a restart.
+     */
+    @Autowired
+    private MemberIndexes indexes;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the defined members.
+     * @throws Exception If a problem occurs
+     */
+    @Before
+    public void setUp() throws Exception {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+
+        Member[] members = {
+                new Member(101, "Cristiano", "ronaldo", "some block, some street, some country", 45, "1234567890"),
+                new Member(102, "Wayne", "rooney", "some block1, some street1, some country1", 54, "0987654321"),
+                new Member(103, "Coleen", "rooney", "some block1, some street1, some country1", 35, "0987654322")
+        };
+        for (Member member : members)
+            restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                    new HttpEntity<Member>(member, headers), String.class);
+    }
+
+    /**
+     * Test Method to check the search by last name and first name.
+     */
+    @Test
+    public void searchByNameTest() {
+        Member[] actualOut = restTemplate.getForObject(
+                createURL("/member/search?lastName=rooney&firstName=Wayne"), Member[].class);
+
+        Assert.assertEquals(1, actualOut.length);
+        Assert.assertEquals(102, actualOut[0].getId());
+    }
+
+    /**
+     * Test Method to check the search by age band.
+     */
+    @Test
+    public void searchByAgeTest() {
+        Member[] actualOut = restTemplate.getForObject(
+                createURL("/member/search?minAge=40&maxAge=50"), Member[].class);
+
+        Assert.assertEquals(1, actualOut.length);
+        Assert.assertEquals(101, actualOut[0].getId());
+    }
+
+    /**
+     * Test Method to check that a search no index can serve is rejected.
+     */
+    @Test
+    public void unindexedSearchTest() {
+        ResponseEntity<String> actualOut = restTemplate.getForEntity(
+                createURL("/member/search?firstName=Wayne"), String.class);
+
+        Assert.assertEquals(HttpStatus.BAD_REQUEST, actualOut.getStatusCode());
+    }
+
+    /**
+     * Test Method to check that a second member cannot take an existing contact number.
+     */
+    @Test
+    public void duplicateContactNoTest() {
+        Member updateMem = new Member(103, "Coleen", "rooney", "some block1, some street1, some country1", 35, "0987654321");
+
+        ResponseEntity<String> actualOut = restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.PUT,
+                new HttpEntity<Member>(updateMem, headers), String.class);
+
+        Assert.assertEquals(HttpStatus.CONFLICT, actualOut.getStatusCode());
+    }
+
+    /**
+     * Test Method to check that a new member cannot take an existing contact number,
+     * and is told so rather than that it already exists.
+     */
+    @Test
+    public void createDuplicateContactNoTest() {
+        Member newMem = new Member(104, "Lionel", "Messi", "some block5, some street5, some country5", 23, "0987654321");
+
+        ResponseEntity<String> actualOut = restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(newMem, headers), String.class);
+
+        Assert.assertEquals(HttpStatus.CONFLICT, actualOut.getStatusCode());
+        Assert.assertEquals("Contact number already in use! :/", actualOut.getBody());
+        Assert.assertNull(restTemplate.getForObject(createURL("/member/gymMemberById/104"), Member.class));
+    }
+
+    /**
+     * Test Method to check that a restart over stored members does not build the indexes again,
+     * so that the members can still be updated and deleted.
+     */
+    @Test
+    public void indexesKeptOnRestartTest() {
+        int before = mongo.indexOps(Member.class).getIndexInfo().size();
+        indexes.ensureIndexes();
+
+        Assert.assertEquals(before, mongo.indexOps(Member.class).getIndexInfo().size());
+        Assert.assertEquals("Member with 101 deleted", restTemplate.exchange(createURL("/member/gymMemberById/101"),
+                HttpMethod.DELETE, new HttpEntity<String>(null, headers), String.class).getBody());
+        Assert.assertEquals(2, restTemplate.getForObject(createURL("/member/allGymMembers"), Member[].class).length);
+    }
+
+    /**
+     * Test Method to check that every kind of search is answered from an index and never scans the collection.
+     * Skipped when the database does not report query plans.
+     */
+    @Test
+    public void searchQueryPlanTest() {
+        MemberSearch byContactNo = new MemberSearch();
+        byContactNo.setContactNo("1234567890");
+        MemberSearch byName = new MemberSearch();
+        byName.setLastName("rooney");
+        byName.setFirstName("Wayne");
+        MemberSearch byAge = new MemberSearch();
+        byAge.setMinAge(40);
+        byAge.setMaxAge(50);
+
+        for (MemberSearch search : new MemberSearch[]{byContactNo, byName, byAge}) {
+            DBObject winningPlan = winningPlan(search);
+            Assert.assertFalse(winningPlan.toString(), winningPlan.toString().contains("COLLSCAN"));
+            Assert.assertTrue(winningPlan.toString(), winningPlan.toString().contains("IXSCAN"));
+        }
+    }
+
+    /**
+     * Asks Mongo how it runs the query of a search.
+     * @param search the search
+     * @return the winning plan of the query
+     */
+    private DBObject winningPlan(MemberSearch search) {
+        DBObject plan;
+        try {
+            plan = mongo.getCollection(mongo.getCollectionName(Member.class))
+                    .find(search.toQuery().getQueryObject()).explain();
+        } catch (RuntimeException e) {
+            plan = null;
+        }
+        Assume.assumeTrue("database does not explain queries", plan != null && plan.containsField("queryPlanner"));
+        return (DBObject) ((DBObject) plan.get("queryPlanner")).get("winningPlan");
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
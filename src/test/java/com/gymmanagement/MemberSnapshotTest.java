@@ -0,0 +1,202 @@
+package com.gymmanagement;
+
+import com.gymmanagement.DAO.MemberCache;
+import com.gymmanagement.DAO.MemberSnapshots;
+import com.gymmanagement.Interface.IRepository;
+import com.gymmanagement.Interface.MemberSnapshot;
+import com.gymmanagement.beans.Member;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Class used for Integration Testing of the member snapshot.
+ * It runs its own application on a random port and database, with its own snapshot file.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.data.mongodb.database=GymSnapshot", "member.snapshot.path=target/members-test.snapshot"})
+public class MemberSnapshotTest {
+    /**
+     * The snapshot file of the application.
+     */
+    private static final Path SNAPSHOT = Paths.get("target/members-test.snapshot");
+
+    /**
+     * Maps the random port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Repository used to store members directly.
+     */
+    @Autowired
+    private IRepository db;
+
+    /**
+     * The member snapshot.
+     */
+    @Autowired
+    private MemberSnapshots snapshots;
+
+    /**
+     * Cache of members by id, warmed from the snapshot.
+     */
+    @Autowired
+    private MemberCache cache;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the defined members, and that there is no snapshot.
+     * @throws IOException If the snapshot cannot be deleted
+     */
+    @Before
+    public void setUp() throws IOException {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        db.deleteAll();
+        cache.invalidateAll();
+        db.save(Arrays.asList(
+                new Member(101, "Cristiano", "ronaldo", "some block, some street, some country", 45, "1234567890"),
+                new Member(102, "Wayne", null, "Stra\u00dfe 5, M\u00fcnchen", 30, "1234567891"),
+                new Member(103, "Lionel", "Messi", "some block5, some street5, some country5", 23, "1234567892")));
+        Files.deleteIfExists(SNAPSHOT);
+    }
+
+    /**
+     * Test Method to check that an exported snapshot holds every member, read back without Mongo.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void exportSnapshotTest() throws Exception {
+        ResponseEntity<Map> actualOut = restTemplate.exchange(createURL("/member/snapshot"), HttpMethod.POST,
+                new HttpEntity<String>(null, headers), Map.class);
+
+        Assert.assertEquals(HttpStatus.OK, actualOut.getStatusCode());
+        Assert.assertEquals(3, ((Number) actualOut.getBody().get("members")).intValue());
+        Assert.assertEquals(Files.size(SNAPSHOT), ((Number) actualOut.getBody().get("bytes")).longValue());
+
+        List<Member> members = new ArrayList<Member>();
+        Assert.assertEquals(3, MemberSnapshot.read(SNAPSHOT, members::add));
+        Member stored = db.findOne(102);
+        Member read = members.get(1);
+        Assert.assertEquals(102, read.getId());
+        Assert.assertEquals("Wayne", read.getFirstName());
+        Assert.assertNull(read.getLastName());
+        Assert.assertEquals("Stra\u00dfe 5, M\u00fcnchen", read.getAddress());
+        Assert.assertEquals(30, read.getAge());
+        Assert.assertEquals("1234567891", read.getContactNo());
+        Assert.assertEquals(stored.getVersion(), read.getVersion());
+    }
+
+    /**
+     * Test Method to check that the cache is warmed from the snapshot, up to its maximum size,
+     * and that the members cached since are kept.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void warmCacheTest() throws Exception {
+        snapshots.export();
+        Member moved = db.findOne(101);
+        moved.setAddress("other block");
+        db.save(moved);
+        cache.get(101, id -> db.findOne(id));
+
+        Assert.assertEquals(3, snapshots.warm());
+        Assert.assertEquals("other block", cache.getIfPresent(101).getAddress());
+        Assert.assertEquals("Lionel", cache.getIfPresent(103).getFirstName());
+        Assert.assertEquals(HttpStatus.OK,
+                restTemplate.getForEntity(createURL("/member/gymMemberById/103"), String.class).getStatusCode());
+    }
+
+    /**
+     * Test Method to check that the warm start only uses a snapshot exported at the current revision of the collection,
+     * and is refused without the export at shutdown.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void warmOnStartTest() throws Exception {
+        snapshots.export();
+        MemberSnapshots warming = new MemberSnapshots(SNAPSHOT.toString(), true, true);
+        ReflectionTestUtils.setField(warming, "db", db);
+        ReflectionTestUtils.setField(warming, "cache", cache);
+
+        cache.invalidateAll();
+        warming.warmOnStart();
+        Assert.assertEquals("Lionel", cache.getIfPresent(103).getFirstName());
+
+        cache.invalidateAll();
+        db.nextRevision();
+        warming.warmOnStart();
+        Assert.assertNull(cache.getIfPresent(103));
+
+        try {
+            new MemberSnapshots(SNAPSHOT.toString(), true, false);
+            Assert.fail("Expected the warm start without the export at shutdown to be refused");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("member.snapshot.export-on-stop"));
+        }
+    }
+
+    /**
+     * Test Method to check that a truncated snapshot, or a file which is not one, is rejected.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void corruptSnapshotTest() throws Exception {
+        snapshots.export();
+        try (FileChannel channel = FileChannel.open(SNAPSHOT, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+        try {
+            MemberSnapshot.read(SNAPSHOT, member -> { });
+            Assert.fail("Truncated snapshot was read");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Truncated member snapshot after 2 members"));
+        }
+
+        Files.write(SNAPSHOT, "{\"id\":101}".getBytes("UTF-8"));
+        try {
+            snapshots.warm();
+            Assert.fail("Not a snapshot was read");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Not a member snapshot"));
+        }
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
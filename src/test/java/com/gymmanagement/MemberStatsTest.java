@@ -0,0 +1,195 @@
+package com.gymmanagement;
+
+import com.codahale.metrics.MetricRegistry;
+import com.gymmanagement.Interface.RepositoryMetricsPostProcessor;
+import com.gymmanagement.beans.Member;
+import com.gymmanagement.beans.MemberStats;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * Class used for Integration Testing of the member statistics.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberStatsTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Registry of the repository timers, counting the pipelines run.
+     */
+    @Autowired
+    private MetricRegistry registry;
+
+    TestRestTemplate restTemplate = new TestRestTemplate();
+    HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Method which will execute before each test case.
+     * Makes sure database always have the defined members.
+     */
+    @Before
+    public void setUp() {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        MemberPurgeWait.deleteAll(restTemplate, createURL("/member/allGymMembers"));
+
+        Member[] members = {
+                new Member(101, "Cristiano", "ronaldo", "some block, some street, some country", 45, "1234567890"),
+                new Member(102, "Wayne", "rooney", "some block1, some street1, some country1", 32, "0987654321"),
+                new Member(103, "Ronaldo", "ronaldo", "some block2, some street2, some country2", 38, "1234567891")
+        };
+        for (Member member : members)
+            create(member);
+    }
+
+    /**
+     * Test Method to check the count, the age bands and the last names.
+     */
+    @Test
+    public void memberStatsTest() {
+        ResponseEntity<MemberStats> actualOut = restTemplate.getForEntity(createURL("/member/stats"), MemberStats.class);
+        MemberStats stats = actualOut.getBody();
+
+        Assert.assertEquals(HttpStatus.OK, actualOut.getStatusCode());
+        Assert.assertEquals(3, stats.getCount());
+        Assert.assertEquals(Integer.valueOf(32), stats.getMinAge());
+        Assert.assertEquals(Integer.valueOf(45), stats.getMaxAge());
+        Assert.assertEquals(115.0 / 3, stats.getAverageAge(), 1e-9);
+
+        Assert.assertEquals(2, stats.getAgeBands().size());
+        Assert.assertEquals(30, stats.getAgeBands().get(0).getFrom());
+        Assert.assertEquals(39, stats.getAgeBands().get(0).getTo());
+        Assert.assertEquals(2, stats.getAgeBands().get(0).getCount());
+        Assert.assertEquals(40, stats.getAgeBands().get(1).getFrom());
+        Assert.assertEquals(1, stats.getAgeBands().get(1).getCount());
+
+        Assert.assertEquals(2, stats.getLastNames().size());
+        Assert.assertEquals("ronaldo", stats.getLastNames().get(0).getLastName());
+        Assert.assertEquals(2, stats.getLastNames().get(0).getCount());
+        Assert.assertEquals("rooney", stats.getLastNames().get(1).getLastName());
+    }
+
+    /**
+     * Test Method to check the age band and last names parameters.
+     */
+    @Test
+    public void memberStatsParametersTest() {
+        MemberStats stats = restTemplate.getForObject(createURL("/member/stats?ageBand=5&lastNames=1"), MemberStats.class);
+
+        Assert.assertEquals(4, stats.getAgeBands().size());
+        Assert.assertEquals(30, stats.getAgeBands().get(0).getFrom());
+        Assert.assertEquals(34, stats.getAgeBands().get(0).getTo());
+        Assert.assertEquals(1, stats.getAgeBands().get(1).getCount());
+        Assert.assertEquals(0, stats.getAgeBands().get(2).getCount());
+        Assert.assertEquals(1, stats.getLastNames().size());
+
+        Assert.assertEquals(HttpStatus.BAD_REQUEST,
+                restTemplate.getForEntity(createURL("/member/stats?ageBand=0"), String.class).getStatusCode());
+        Assert.assertEquals(HttpStatus.BAD_REQUEST,
+                restTemplate.getForEntity(createURL("/member/stats?lastNames=1000"), String.class).getStatusCode());
+    }
+
+    /**
+     * Test Method to check that the statistics are not modified until a member is written,
+     * and are computed again afterwards.
+     */
+    @Test
+    public void memberStatsAfterCreateTest() {
+        ResponseEntity<String> first = get("/member/stats", null);
+        String etag = first.getHeaders().getETag();
+        Assert.assertNotNull(etag);
+        Assert.assertEquals(HttpStatus.NOT_MODIFIED, get("/member/stats", etag).getStatusCode());
+
+        create(new Member(104, "Lionel", "Messi", "some block5, some street5, some country5", 23, "6754378901"));
+
+        ResponseEntity<String> updated = get("/member/stats", etag);
+        Assert.assertEquals(HttpStatus.OK, updated.getStatusCode());
+        Assert.assertTrue(updated.getBody(), updated.getBody().contains("\"count\":4"));
+        Assert.assertTrue(updated.getBody(), updated.getBody().contains("\"minAge\":23"));
+    }
+
+    /**
+     * Test Method to check that requests asking at once for statistics which are not cached compute them once.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void concurrentStatsTest() throws Exception {
+        String timer = RepositoryMetricsPostProcessor.TIMER_PREFIX + "countByAge()";
+        long before = registry.timer(timer).getCount();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<ResponseEntity<String>>> futures = new ArrayList<Future<ResponseEntity<String>>>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(pool.submit(new Callable<ResponseEntity<String>>() {
+                @Override
+                public ResponseEntity<String> call() throws Exception {
+                    start.await();
+                    return get("/member/stats?ageBand=7&lastNames=3", null);
+                }
+            }));
+        }
+        start.countDown();
+        for (Future<ResponseEntity<String>> future : futures)
+            Assert.assertEquals(HttpStatus.OK, future.get().getStatusCode());
+        pool.shutdown();
+
+        Assert.assertEquals(1, registry.timer(timer).getCount() - before);
+    }
+
+    /**
+     * Creates a member through the API, so that the revision of the collection moves.
+     * @param member the member
+     */
+    private void create(Member member) {
+        restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(member, headers), String.class);
+    }
+
+    /**
+     * Sends a GET request, conditional when an ETag is given.
+     * @param URL url prefix of the request
+     * @param etag ETag for If-None-Match, or null
+     * @return the response
+     */
+    private ResponseEntity<String> get(String URL, String etag) {
+        HttpHeaders conditional = new HttpHeaders();
+        if (etag != null)
+            conditional.setIfNoneMatch(etag);
+        return restTemplate.exchange(createURL(URL), HttpMethod.GET,
+                new HttpEntity<String>(null, conditional), String.class);
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
@@ -0,0 +1,153 @@
+package com.gymmanagement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gymmanagement.DAO.MemberValidator;
+import com.gymmanagement.beans.Member;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * Class used for Testing that the member validator gives the same errors as Bean Validation.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class MemberValidatorTest {
+    /**
+     * Maps the defined port into the variable port.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * The Bean Validation validator which used to check the members.
+     */
+    @Autowired
+    @Qualifier("mvcValidator")
+    private Validator beanValidator;
+
+    /**
+     * The validator which checks the members.
+     */
+    @Autowired
+    private MemberValidator memberValidator;
+
+    private static final int[] IDS = {Integer.MIN_VALUE, -100000, -99999, -1, 0, 1, 99999, 100000, Integer.MAX_VALUE};
+    private static final int[] AGES = {Integer.MIN_VALUE, -100, -10, 0, 9, 10, 45, 70, 71, 99, 100, Integer.MAX_VALUE};
+    private static final String[] NAMES = {null, "", "a", "Cristiano", "ronaldo2", "Zoë", "de Gea", "_", "Z", "K"};
+    private static final String[] CONTACTS = {null, "", "123456789", "1234567890", "12345678901", "12345abcde",
+            "１２３４５６７８９０", "+123456789", "0000000000"};
+
+    ObjectMapper mapper = new ObjectMapper();
+    TestRestTemplate restTemplate = new TestRestTemplate();
+
+    /**
+     * Test Method to check that every boundary value of every field gets the same errors.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void boundaryValuesTest() throws Exception {
+        for (int id : IDS)
+            assertSameErrors(new Member(id, "Cristiano", "ronaldo", "some block", 45, "1234567890"));
+        for (int age : AGES)
+            assertSameErrors(new Member(101, "Cristiano", "ronaldo", "some block", age, "1234567890"));
+        for (String name : NAMES) {
+            assertSameErrors(new Member(101, name, "ronaldo", "some block", 45, "1234567890"));
+            assertSameErrors(new Member(101, "Cristiano", name, "some block", 45, "1234567890"));
+        }
+        for (String contactNo : CONTACTS)
+            assertSameErrors(new Member(101, "Cristiano", "ronaldo", "some block", 45, contactNo));
+        assertSameErrors(new Member(101, "Cristiano", "ronaldo", null, 45, "1234567890"));
+        assertSameErrors(new Member());
+    }
+
+    /**
+     * Test Method to check that random combinations of the boundary values get the same errors.
+     * @throws Exception If a problem occurs
+     */
+    @Test
+    public void randomMembersTest() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            assertSameErrors(new Member(IDS[random.nextInt(IDS.length)],
+                    NAMES[random.nextInt(NAMES.length)],
+                    NAMES[random.nextInt(NAMES.length)],
+                    random.nextBoolean() ? "some block" : null,
+                    AGES[random.nextInt(AGES.length)],
+                    CONTACTS[random.nextInt(CONTACTS.length)]));
+        }
+    }
+
+    /**
+     * Test Method to check that an invalid member posted to the API is rejected with the validator's errors.
+     */
+    @Test
+    public void rejectedMemberTest() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<String> actualOut = restTemplate.exchange(createURL("/member/gymMember"), HttpMethod.POST,
+                new HttpEntity<Member>(new Member(101, "Cristiano7", "ronaldo", "some block", 71, "12345"), headers), String.class);
+
+        Assert.assertEquals(HttpStatus.BAD_REQUEST, actualOut.getStatusCode());
+        Assert.assertTrue(actualOut.getBody(), actualOut.getBody().contains("must match \\\"[A-Za-z]+\\\""));
+        Assert.assertTrue(actualOut.getBody(), actualOut.getBody().contains("must be less than or equal to 70"));
+        Assert.assertTrue(actualOut.getBody(), actualOut.getBody().contains("size must be between 10 and 10"));
+    }
+
+    /**
+     * Validates the member with both validators and compares the errors, as they are written in an error response.
+     * @param member the member
+     * @throws Exception If a problem occurs
+     */
+    private void assertSameErrors(Member member) throws Exception {
+        BeanPropertyBindingResult expected = new BeanPropertyBindingResult(member, "member");
+        beanValidator.validate(member, expected);
+        BeanPropertyBindingResult actual = new BeanPropertyBindingResult(member, "member");
+        memberValidator.validate(member, actual);
+
+        Assert.assertEquals(mapper.writeValueAsString(member), describe(expected), describe(actual));
+    }
+
+    /**
+     * Writes the field errors as JSON, in a fixed order.
+     * @param errors the errors
+     * @return one JSON document per error, sorted
+     * @throws Exception If a problem occurs
+     */
+    private List<String> describe(BeanPropertyBindingResult errors) throws Exception {
+        List<String> described = new ArrayList<String>();
+        for (FieldError error : errors.getFieldErrors())
+            described.add(mapper.writeValueAsString(error));
+        Collections.sort(described);
+        return described;
+    }
+
+    /**
+     * Method to Create the URL with the defined port.
+     * @param URL Takes a url prefix
+     * @return Complete url with defined port
+     */
+    private String createURL(String URL) {
+        return "http://localhost:" + port + URL;
+    }
+}
@@ -0,0 +1,40 @@
+package com.gymmanagement;
+
+import com.gymmanagement.DAO.AsyncController;
+import com.gymmanagement.DAO.Controller;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+
+/**
+ * Class used for Integration Testing of the reactive profile, running the tests of {@link GymApplicationTest}
+ * against the non-blocking controller, which must keep the same contract.
+ * It runs its own application on a random port and database, since its beans differ from the other tests.
+ * @author Ajay.Srivas
+ * @author Keerthana.Pai
+ * @author Ashwini.D
+ */
+
+@SpringBootTest(classes = GymApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.data.mongodb.database=GymReactive")
+@ActiveProfiles("reactive")
+public class ReactiveGymApplicationTest extends GymApplicationTest {
+    /**
+     * The application started with the reactive profile.
+     */
+    @Autowired
+    private ApplicationContext context;
+
+    /**
+     * Test Method to check that the requests are served by the non-blocking controller.
+     */
+    @Test
+    public void reactiveControllerTest() {
+        Assert.assertEquals(1, context.getBeansOfType(AsyncController.class).size());
+        Assert.assertEquals(0, context.getBeansOfType(Controller.class).size());
+    }
+}